@@ -0,0 +1,26 @@
+plugins {
+    java
+    id("me.champeau.jmh") version "0.7.2"
+}
+
+description = "OJS JMH Benchmarks"
+
+dependencies {
+    implementation(project(":ojs-spring"))
+    implementation(project(":ojs-micronaut"))
+    implementation(project(":ojs-quarkus"))
+    implementation("io.micrometer:micrometer-core:1.13.0")
+    // Only used to capture registered handlers and stub contexts during @Setup
+    implementation("org.mockito:mockito-core:5.11.0")
+}
+
+jmh {
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+}
+
+// Benchmarks are run locally (./gradlew :ojs-benchmarks:jmh) and never published
+tasks.withType<AbstractPublishToMaven>().configureEach {
+    enabled = false
+}
@@ -0,0 +1,60 @@
+package org.openjobspec.benchmarks;
+
+import org.openjobspec.ojs.Job;
+import org.openjobspec.ojs.JobContext;
+
+import java.lang.reflect.Proxy;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Job and context fixtures shared by the benchmarks.
+ */
+public final class BenchmarkJobs {
+
+    private BenchmarkJobs() {
+    }
+
+    /** A job of the given type with map arguments, as fetched by a worker. */
+    public static Job job(String type, Map<String, Object> args) {
+        return new Job(Job.SPEC_VERSION, "019539a4-0000-7000-8000-000000000000", type, "default",
+                List.of(args), Map.of(), 0, 0, null, null, null, null, null,
+                "active", 1, null, null, null, null, null, null, List.of());
+    }
+
+    /**
+     * A context for {@code job}. A dynamic proxy rather than a mock, since mock
+     * invocations cost microseconds and would dominate the measured paths.
+     */
+    public static JobContext context(Job job) {
+        return (JobContext) Proxy.newProxyInstance(JobContext.class.getClassLoader(),
+                new Class<?>[] {JobContext.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "job" -> job;
+                    case "queue" -> job.queue();
+                    case "attempt" -> job.attempt();
+                    case "isCancelled" -> false;
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "JobContext[" + job.id() + "]";
+                    default -> null;
+                });
+    }
+
+    /** Job arguments with {@code fields} string entries of {@code valueLength} characters. */
+    public static Map<String, Object> args(int fields, int valueLength) {
+        var args = new LinkedHashMap<String, Object>();
+        for (int i = 0; i < fields; i++) {
+            args.put("field" + i, "x".repeat(valueLength));
+        }
+        return args;
+    }
+
+    /** A {@code job.completed} event payload as sent on the SSE stream. */
+    public static String completedEvent() {
+        return "{\"specversion\":\"1.0\",\"id\":\"evt-1\",\"type\":\"job.completed\","
+                + "\"source\":\"ojs://bench\",\"time\":\"2025-01-01T00:00:00Z\","
+                + "\"subject\":\"019539a4-0000-7000-8000-000000000000\","
+                + "\"data\":{\"job_type\":\"email.send\",\"queue\":\"default\",\"duration_ms\":12}}";
+    }
+}
@@ -0,0 +1,65 @@
+package org.openjobspec.benchmarks;
+
+import org.openjobspec.ojs.EncryptionMiddleware;
+import org.openjobspec.ojs.JobContext;
+import org.openjobspec.ojs.JobHandler;
+import org.openjobspec.ojs.Middleware;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the encryption and decryption middleware that the Spring, Quarkus and
+ * Micronaut integrations register when {@code ojs.encryption} is enabled.
+ *
+ * <pre>{@code
+ * ./gradlew :ojs-benchmarks:jmh -Pjmh.includes=EncryptionMiddlewareBenchmark
+ * }</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EncryptionMiddlewareBenchmark {
+
+    private static final JobHandler NOOP = ctx -> null;
+
+    /** Length of each of the four argument values. */
+    @Param({"64", "4096"})
+    public int valueLength;
+
+    private Middleware encryption;
+    private Middleware decryption;
+    private JobContext ctx;
+    private JobHandler decrypt;
+
+    @Setup
+    public void setUp() {
+        var codec = new EncryptionMiddleware.EncryptionCodec();
+        var keys = new EncryptionMiddleware.StaticKeyProvider(Map.of("bench", new byte[32]), "bench");
+        encryption = EncryptionMiddleware.encryptionMiddleware(codec, keys);
+        decryption = EncryptionMiddleware.decryptionMiddleware(codec, keys);
+        ctx = BenchmarkJobs.context(BenchmarkJobs.job("email.send", BenchmarkJobs.args(4, valueLength)));
+        decrypt = encrypted -> {
+            decryption.apply(encrypted, NOOP);
+            return null;
+        };
+    }
+
+    @Benchmark
+    public void encrypt() throws Exception {
+        encryption.apply(ctx, NOOP);
+    }
+
+    @Benchmark
+    public void encryptThenDecrypt() throws Exception {
+        encryption.apply(ctx, decrypt);
+    }
+}
@@ -0,0 +1,151 @@
+package org.openjobspec.benchmarks;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.openjobspec.ojs.transport.Json;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Minimal in-process OJS server for benchmarks. It answers enqueue, batch and
+ * health requests with canned responses and keeps SSE streams open so that
+ * benchmarks can push events on demand with {@link #publish}.
+ *
+ * <p>Responses are fixed, so only the integration and SDK overhead (serialization,
+ * HTTP round trip, decoding) is measured, never any server-side work.
+ */
+public final class StubOjsServer implements AutoCloseable {
+
+    private static final String JOB = """
+            {"specversion":"1.0","id":"019539a4-0000-7000-8000-000000000000","type":"bench.job",\
+            "queue":"default","args":[],"state":"available","attempt":0,\
+            "created_at":"2025-01-01T00:00:00Z","enqueued_at":"2025-01-01T00:00:00Z"}""";
+
+    private static final byte[] JOB_RESPONSE = ("{\"job\":" + JOB + "}").getBytes(StandardCharsets.UTF_8);
+    private static final byte[] HEALTH_RESPONSE = "{\"status\":\"ok\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final HttpServer server;
+    private final List<OutputStream> streams = new CopyOnWriteArrayList<>();
+    private long eventId;
+
+    private StubOjsServer(HttpServer server) {
+        this.server = server;
+    }
+
+    /** Start a server on an ephemeral loopback port. */
+    public static StubOjsServer start() throws IOException {
+        var server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        var stub = new StubOjsServer(server);
+        server.createContext("/", stub::handle);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.start();
+        return stub;
+    }
+
+    /** The base URL to configure clients with. */
+    public String url() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    /** Block until at least {@code count} SSE streams are open. */
+    public void awaitSubscribers(int count, long timeout, TimeUnit unit)
+            throws InterruptedException, TimeoutException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (streams.size() < count) {
+            if (System.nanoTime() > deadline) {
+                throw new TimeoutException("Only " + streams.size() + " of " + count + " SSE subscribers connected");
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * Write {@code count} events of the given type and data to every open SSE stream.
+     */
+    public synchronized void publish(String type, String data, int count) throws IOException {
+        var sb = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            sb.append("id: ").append(++eventId).append('\n')
+                    .append("event: ").append(type).append('\n')
+                    .append("data: ").append(data).append("\n\n");
+        }
+        byte[] bytes = sb.toString().getBytes(StandardCharsets.UTF_8);
+        for (var out : streams) {
+            try {
+                out.write(bytes);
+                out.flush();
+            } catch (IOException e) {
+                streams.remove(out);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        for (var out : streams) {
+            try {
+                out.close();
+            } catch (IOException ignored) {
+                // Best-effort cleanup
+            }
+        }
+        streams.clear();
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        var path = exchange.getRequestURI().getPath();
+        var accept = exchange.getRequestHeaders().getFirst("Accept");
+        if ("GET".equals(exchange.getRequestMethod())
+                && ((accept != null && accept.contains("text/event-stream")) || path.contains("/events"))) {
+            openStream(exchange);
+            return;
+        }
+        try (exchange) {
+            byte[] body = exchange.getRequestBody().readAllBytes();
+            if (path.endsWith("/health")) {
+                respond(exchange, 200, HEALTH_RESPONSE);
+            } else if ("POST".equals(exchange.getRequestMethod()) && path.endsWith("/batch")) {
+                respond(exchange, 201, batchResponse(body));
+            } else if ("POST".equals(exchange.getRequestMethod())) {
+                respond(exchange, 201, JOB_RESPONSE);
+            } else {
+                respond(exchange, 200, JOB_RESPONSE);
+            }
+        }
+    }
+
+    private void openStream(HttpExchange exchange) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "text/event-stream");
+        exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+        exchange.sendResponseHeaders(200, 0);
+        var out = exchange.getResponseBody();
+        out.flush();
+        streams.add(out);
+    }
+
+    private static byte[] batchResponse(byte[] request) {
+        var jobs = Json.decodeObject(new String(request, StandardCharsets.UTF_8)).get("jobs");
+        int count = jobs instanceof List<?> list ? list.size() : 0;
+        var sb = new StringBuilder("{\"jobs\":[");
+        for (int i = 0; i < count; i++) {
+            sb.append(i == 0 ? "" : ",").append(JOB);
+        }
+        return sb.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void respond(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        exchange.getResponseBody().write(body);
+    }
+}
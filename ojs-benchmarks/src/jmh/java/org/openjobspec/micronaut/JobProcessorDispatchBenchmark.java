@@ -0,0 +1,85 @@
+package org.openjobspec.micronaut;
+
+import io.micronaut.context.AbstractExecutableMethod;
+import io.micronaut.core.type.Argument;
+import org.openjobspec.benchmarks.BenchmarkJobs;
+import org.openjobspec.ojs.JobContext;
+import org.openjobspec.ojs.JobHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares dispatching an {@link OjsJob @OjsJob} method reflectively (the former
+ * {@code BeanCreatedEventListener}) with the handler {@link OjsJobProcessor} builds
+ * around a compile-time {@code ExecutableMethod}. {@code EmailJobHandle} mirrors the
+ * class Micronaut's annotation processor generates.
+ *
+ * <pre>{@code
+ * ./gradlew :ojs-benchmarks:jmh -Pjmh.includes=JobProcessorDispatchBenchmark
+ * }</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JobProcessorDispatchBenchmark {
+
+    public static class EmailJob {
+        private long sent;
+
+        @OjsJob("email.send")
+        public Object handle(JobContext ctx) {
+            return ++sent;
+        }
+    }
+
+    static final class EmailJobHandle extends AbstractExecutableMethod {
+        EmailJobHandle() {
+            super(EmailJob.class, "handle", Argument.OBJECT_ARGUMENT, Argument.of(JobContext.class, "ctx"));
+        }
+
+        @Override
+        protected Object invokeInternal(Object instance, Object[] arguments) {
+            return ((EmailJob) instance).handle((JobContext) arguments[0]);
+        }
+    }
+
+    private final EmailJob bean = new EmailJob();
+    private Method method;
+    private JobHandler executable;
+    private JobContext ctx;
+
+    @Setup
+    public void setUp() throws Exception {
+        method = EmailJob.class.getMethod("handle", JobContext.class);
+        executable = OjsJobProcessor.handler(bean, new EmailJobHandle());
+        ctx = BenchmarkJobs.context(BenchmarkJobs.job("email.send", Map.of()));
+    }
+
+    @Benchmark
+    public Object reflective() throws Exception {
+        try {
+            if (!method.canAccess(bean)) {
+                method.setAccessible(true);
+            }
+            return method.invoke(bean, ctx);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof Exception ex) throw ex;
+            throw new RuntimeException("Job handler threw non-exception throwable", e.getCause());
+        }
+    }
+
+    @Benchmark
+    public Object executable() throws Exception {
+        return executable.handle(ctx);
+    }
+}
@@ -0,0 +1,91 @@
+package org.openjobspec.quarkus;
+
+import jakarta.enterprise.event.Event;
+import org.openjobspec.benchmarks.BenchmarkJobs;
+import org.openjobspec.benchmarks.StubOjsServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjobspec.common.OjsEventDispatcher;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Measures the per-event cost of receiving events from a {@link StubOjsServer} SSE
+ * stream through {@link OjsEventBridge} into the CDI event bus.
+ *
+ * <pre>{@code
+ * ./gradlew :ojs-benchmarks:jmh -Pjmh.includes=EventBridgeBenchmark
+ * }</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EventBridgeBenchmark {
+
+    private static final int BURST = 1000;
+
+    private final Semaphore received = new Semaphore(0);
+    private final String data = BenchmarkJobs.completedEvent();
+    private StubOjsServer server;
+    private OjsEventBridge bridge;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() throws Exception {
+        server = StubOjsServer.start();
+
+        var config = mock(OjsConfig.class);
+        var events = mock(OjsConfig.Events.class);
+        when(config.url()).thenReturn(server.url());
+        when(config.events()).thenReturn(events);
+        when(events.enabled()).thenReturn(true);
+        when(events.channel()).thenReturn("*");
+        when(events.queueCapacity()).thenReturn(OjsEventDispatcher.DEFAULT_CAPACITY);
+        when(events.overflowPolicy()).thenReturn(OjsEventDispatcher.OverflowPolicy.BLOCK);
+        when(events.reconnectBackoff()).thenReturn(Duration.ofMillis(500));
+        when(events.reconnectMaxBackoff()).thenReturn(Duration.ofSeconds(30));
+        when(events.dedupeWindow()).thenReturn(1024);
+
+        Event<OjsJobEvent> cdiEvent = mock(Event.class, withSettings().stubOnly());
+        doAnswer(invocation -> {
+            received.release();
+            return null;
+        }).when(cdiEvent).fire(any());
+
+        bridge = new OjsEventBridge();
+        bridge.config = config;
+        bridge.cdiEvent = cdiEvent;
+        bridge.httpClient = HttpClient.newHttpClient();
+        bridge.onStart(null);
+        server.awaitSubscribers(1, 10, TimeUnit.SECONDS);
+    }
+
+    @TearDown
+    public void tearDown() {
+        bridge.onStop(null);
+        server.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BURST)
+    public void receive() throws Exception {
+        server.publish("job.completed", data, BURST);
+        received.acquire(BURST);
+    }
+}
@@ -0,0 +1,86 @@
+package org.openjobspec.quarkus;
+
+import org.openjobspec.benchmarks.BenchmarkJobs;
+import org.openjobspec.ojs.JobContext;
+import org.openjobspec.ojs.JobHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares dispatching an {@link OjsJob @OjsJob} method reflectively (the former
+ * portable CDI extension) with the direct call made by the handler classes that
+ * {@code ojs-quarkus-deployment} generates at build time. {@code generated} is a
+ * hand-written equivalent of the generated bytecode.
+ *
+ * <pre>{@code
+ * ./gradlew :ojs-benchmarks:jmh -Pjmh.includes=ExtensionDispatchBenchmark
+ * }</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ExtensionDispatchBenchmark {
+
+    public static class EmailJob {
+        private long sent;
+
+        @OjsJob("email.send")
+        public Object handle(JobContext ctx) {
+            return ++sent;
+        }
+    }
+
+    /** Equivalent of {@code EmailJob_handle_OjsHandler}. */
+    static final class GeneratedHandler implements JobHandler {
+        private final EmailJob bean;
+
+        GeneratedHandler(EmailJob bean) {
+            this.bean = bean;
+        }
+
+        @Override
+        public Object handle(JobContext ctx) {
+            return bean.handle(ctx);
+        }
+    }
+
+    private final EmailJob bean = new EmailJob();
+    private Method method;
+    private JobHandler generated;
+    private JobContext ctx;
+
+    @Setup
+    public void setUp() throws Exception {
+        method = EmailJob.class.getMethod("handle", JobContext.class);
+        generated = new GeneratedHandler(bean);
+        ctx = BenchmarkJobs.context(BenchmarkJobs.job("email.send", Map.of()));
+    }
+
+    @Benchmark
+    public Object reflective() throws Exception {
+        try {
+            if (!method.canAccess(bean)) {
+                method.setAccessible(true);
+            }
+            return method.invoke(bean, ctx);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof Exception ex) throw ex;
+            throw new RuntimeException("Job handler threw non-exception throwable", e.getCause());
+        }
+    }
+
+    @Benchmark
+    public Object generated() throws Exception {
+        return generated.handle(ctx);
+    }
+}
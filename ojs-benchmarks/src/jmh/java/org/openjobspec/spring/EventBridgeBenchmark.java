@@ -0,0 +1,58 @@
+package org.openjobspec.spring;
+
+import org.openjobspec.benchmarks.BenchmarkJobs;
+import org.openjobspec.benchmarks.StubOjsServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per-event cost of receiving events from a {@link StubOjsServer} SSE
+ * stream through {@link OjsEventBridge} into an {@code ApplicationEventPublisher}.
+ *
+ * <pre>{@code
+ * ./gradlew :ojs-benchmarks:jmh -Pjmh.includes=EventBridgeBenchmark
+ * }</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EventBridgeBenchmark {
+
+    private static final int BURST = 1000;
+
+    private final Semaphore received = new Semaphore(0);
+    private final String data = BenchmarkJobs.completedEvent();
+    private StubOjsServer server;
+    private OjsEventBridge bridge;
+
+    @Setup
+    public void setUp() throws Exception {
+        server = StubOjsServer.start();
+        bridge = new OjsEventBridge(server.url(), event -> received.release());
+        bridge.subscribe("*");
+        server.awaitSubscribers(1, 10, TimeUnit.SECONDS);
+    }
+
+    @TearDown
+    public void tearDown() {
+        bridge.close();
+        server.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BURST)
+    public void receive() throws Exception {
+        server.publish("job.completed", data, BURST);
+        received.acquire(BURST);
+    }
+}
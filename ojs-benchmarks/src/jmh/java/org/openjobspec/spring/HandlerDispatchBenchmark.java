@@ -0,0 +1,68 @@
+package org.openjobspec.spring;
+
+import org.openjobspec.ojs.JobContext;
+import org.openjobspec.ojs.JobHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares dispatching an {@link OjsJob @OjsJob} method reflectively (the former
+ * {@code OjsJobRegistrar} behaviour) with the {@link OjsHandlerInvoker} bound at
+ * registration time.
+ *
+ * <pre>{@code
+ * ./gradlew :ojs-benchmarks:jmh -Pjmh.includes=HandlerDispatchBenchmark
+ * }</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class HandlerDispatchBenchmark {
+
+    public static class EmailJob {
+        private long sent;
+
+        @OjsJob("email.send")
+        public Object handle(JobContext ctx) {
+            return ++sent;
+        }
+    }
+
+    private final EmailJob bean = new EmailJob();
+    private final JobContext ctx = null;
+    private Method method;
+    private JobHandler bound;
+
+    @Setup
+    public void setUp() throws Exception {
+        method = EmailJob.class.getMethod("handle", JobContext.class);
+        bound = OjsHandlerInvoker.bind(bean, method);
+    }
+
+    @Benchmark
+    public Object reflective() throws Exception {
+        try {
+            if (!method.canAccess(bean)) {
+                method.setAccessible(true);
+            }
+            return method.invoke(bean, ctx);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof Exception ex) throw ex;
+            throw new RuntimeException("Job handler threw non-exception throwable", e.getCause());
+        }
+    }
+
+    @Benchmark
+    public Object bound() throws Exception {
+        return bound.handle(ctx);
+    }
+}
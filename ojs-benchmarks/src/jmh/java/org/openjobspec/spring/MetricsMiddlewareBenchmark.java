@@ -0,0 +1,54 @@
+package org.openjobspec.spring;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjobspec.benchmarks.BenchmarkJobs;
+import org.openjobspec.ojs.JobContext;
+import org.openjobspec.ojs.JobHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the steady-state cost of {@link OjsMicrometerMetrics} around a job
+ * execution. Run with the GC profiler to check allocation per job, which should
+ * be {@code ≈ 0 B/op} once the per-type meters are cached:
+ *
+ * <pre>{@code
+ * ./gradlew :ojs-benchmarks:jmh -Pjmh.includes=MetricsMiddlewareBenchmark -Pjmh.profilers=gc
+ * }</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MetricsMiddlewareBenchmark {
+
+    private static final JobHandler NOOP = ctx -> null;
+
+    private OjsMicrometerMetrics metrics;
+    private JobContext ctx;
+
+    @Setup
+    public void setUp() throws Exception {
+        metrics = new OjsMicrometerMetrics(new SimpleMeterRegistry());
+        // Warm the meter cache so the benchmark only sees the steady-state path
+        metrics.recordJob("email.send", null, NOOP);
+        ctx = BenchmarkJobs.context(BenchmarkJobs.job("email.send", java.util.Map.of()));
+    }
+
+    @Benchmark
+    public void recordJob() throws Exception {
+        metrics.recordJob("email.send", null, NOOP);
+    }
+
+    /** The full middleware path, including the job type lookup on the context. */
+    @Benchmark
+    public void apply() throws Exception {
+        metrics.apply(ctx, NOOP);
+    }
+}
@@ -0,0 +1,81 @@
+package org.openjobspec.spring;
+
+import org.openjobspec.benchmarks.BenchmarkJobs;
+import org.openjobspec.benchmarks.StubOjsServer;
+import org.openjobspec.ojs.Job;
+import org.openjobspec.ojs.OJSClient;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link OjsTemplate} enqueues against a {@link StubOjsServer}, plus the
+ * wire-format serialization used by the batching, transactional and outbox paths.
+ *
+ * <pre>{@code
+ * ./gradlew :ojs-benchmarks:jmh -Pjmh.includes=TemplateEnqueueBenchmark
+ * }</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TemplateEnqueueBenchmark {
+
+    @Param({"4"})
+    public int argFields;
+
+    @Param({"32"})
+    public int batchSize;
+
+    private StubOjsServer server;
+    private OjsTemplate template;
+    private Map<String, Object> args;
+    private List<Map<String, Object>> batch;
+
+    @Setup
+    public void setUp() throws Exception {
+        server = StubOjsServer.start();
+        template = new OjsTemplate(OJSClient.builder().url(server.url()).build(), "default");
+        args = BenchmarkJobs.args(argFields, 32);
+        batch = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            batch.add(OjsJobRequests.wire("email.send", "default", args));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.close();
+    }
+
+    @Benchmark
+    public Job enqueue() {
+        return template.enqueue("email.send", args);
+    }
+
+    @Benchmark
+    public Job enqueueToQueue() {
+        return template.enqueueToQueue("email.send", "emails", args);
+    }
+
+    @Benchmark
+    public List<Job> enqueueBatch() {
+        return template.enqueueBatch(batch);
+    }
+
+    @Benchmark
+    public String serializeWire() {
+        return OjsJson.encode(OjsJobRequests.wire("email.send", "default", args));
+    }
+}
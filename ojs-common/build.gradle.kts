@@ -0,0 +1,10 @@
+plugins {
+    java
+    `java-library`
+}
+
+description = "OJS Common - framework-neutral building blocks shared by the integrations"
+
+dependencies {
+    api("org.openjobspec:ojs-sdk:${property("ojsSdkVersion")}")
+}
@@ -0,0 +1,247 @@
+package org.openjobspec.common;
+
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Bounded queue between an SSE reader thread and event listeners.
+ *
+ * <p>Events are handed to the listener in order on a single dispatch thread, so a
+ * slow listener no longer stalls the SSE stream. When the queue is full, the
+ * {@link OverflowPolicy} decides what happens to the incoming event. The queue depth
+ * and the number of dropped events are exposed for metrics.
+ *
+ * @param <E> the event type
+ */
+public final class OjsEventDispatcher<E> implements AutoCloseable {
+
+    /** What to do with an incoming event when the dispatch queue is full. */
+    public enum OverflowPolicy {
+        /** Wait for space, applying backpressure to the SSE stream. */
+        BLOCK,
+        /** Discard the oldest queued event to make room. */
+        DROP_OLDEST,
+        /** Discard the incoming event. */
+        DROP_NEWEST,
+        /**
+         * Replace the queued event with the same key with the incoming one, so only the
+         * latest state of each job is delivered to each listener; discard it if none is
+         * queued.
+         */
+        COALESCE
+    }
+
+    /** Default maximum number of queued events. */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private static final Logger LOG = Logger.getLogger(OjsEventDispatcher.class.getName());
+
+    private static final long CLOSE_TIMEOUT_MILLIS = 5_000;
+
+    /** A queued event; replaced in place when coalesced. */
+    private static final class Slot<E> {
+        private E event;
+        private Object key;
+        private boolean keyed;
+
+        private Slot(E event) {
+            this.event = event;
+        }
+    }
+
+    private final String name;
+    private final int capacity;
+    private final OverflowPolicy policy;
+    private final Consumer<E> listener;
+    private final Function<? super E, ?> keyOf;
+    private final ArrayDeque<Slot<E>> queue = new ArrayDeque<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private final AtomicLong dropped = new AtomicLong();
+    private Thread thread;
+    private boolean closed;
+
+    /**
+     * @param name     name of the dispatch thread
+     * @param capacity maximum number of queued events
+     * @param policy   what to do with an incoming event when the queue is full
+     * @param listener receives the events on the dispatch thread
+     * @param keyOf    the key of events that supersede each other, such as the job and
+     *                 the listener an event is meant for, or {@code null}; only called by
+     *                 {@link OverflowPolicy#COALESCE} once the queue is full
+     */
+    public OjsEventDispatcher(String name, int capacity, OverflowPolicy policy,
+                              Consumer<E> listener, Function<? super E, ?> keyOf) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be at least 1");
+        }
+        this.name = name;
+        this.capacity = capacity;
+        this.policy = Objects.requireNonNull(policy, "policy must not be null");
+        this.listener = listener;
+        this.keyOf = keyOf;
+    }
+
+    /**
+     * Queue an event for the listener.
+     *
+     * @return {@code false} if the event was dropped, coalesced away, or the dispatcher is closed
+     */
+    public boolean submit(E event) {
+        lock.lock();
+        try {
+            if (closed) {
+                return false;
+            }
+            startIfNeeded();
+            while (queue.size() >= capacity) {
+                switch (policy) {
+                    case BLOCK -> {
+                        notFull.await();
+                        if (closed) {
+                            return false;
+                        }
+                    }
+                    case DROP_OLDEST -> {
+                        queue.poll();
+                        dropped.incrementAndGet();
+                    }
+                    case DROP_NEWEST -> {
+                        dropped.incrementAndGet();
+                        return false;
+                    }
+                    case COALESCE -> {
+                        coalesce(event);
+                        dropped.incrementAndGet();
+                        return false;
+                    }
+                }
+            }
+            queue.add(new Slot<>(event));
+            notEmpty.signal();
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            dropped.incrementAndGet();
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** The number of events waiting to be dispatched. */
+    public int getQueueDepth() {
+        lock.lock();
+        try {
+            return queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** The number of events dropped or coalesced away because the queue was full. */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /** The maximum number of queued events. */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /** The policy applied when the queue is full. */
+    public OverflowPolicy getOverflowPolicy() {
+        return policy;
+    }
+
+    /**
+     * Stop accepting events, dispatch the ones already queued and stop the dispatch
+     * thread, waiting a bounded time for a slow listener.
+     */
+    @Override
+    public void close() {
+        Thread running;
+        lock.lock();
+        try {
+            closed = true;
+            notEmpty.signalAll();
+            notFull.signalAll();
+            running = thread;
+        } finally {
+            lock.unlock();
+        }
+        if (running == null || running == Thread.currentThread()) {
+            return;
+        }
+        try {
+            running.join(CLOSE_TIMEOUT_MILLIS);
+            if (running.isAlive()) {
+                running.interrupt();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void startIfNeeded() {
+        if (thread == null) {
+            thread = Thread.ofPlatform().name(name).daemon(true).start(this::run);
+        }
+    }
+
+    private void run() {
+        while (true) {
+            E event;
+            lock.lock();
+            try {
+                while (queue.isEmpty()) {
+                    if (closed) {
+                        return;
+                    }
+                    notEmpty.await();
+                }
+                event = queue.poll().event;
+                notFull.signal();
+            } catch (InterruptedException e) {
+                return;
+            } finally {
+                lock.unlock();
+            }
+            try {
+                listener.accept(event);
+            } catch (RuntimeException e) {
+                LOG.log(Level.WARNING, "OJS event listener failed", e);
+            }
+        }
+    }
+
+    /**
+     * Replace the newest queued event with the same key as {@code event}. Keys are only
+     * computed here, once per queued event, so a queue that never fills costs nothing.
+     */
+    private void coalesce(E event) {
+        var key = keyOf.apply(event);
+        if (key == null) {
+            return;
+        }
+        for (var it = queue.descendingIterator(); it.hasNext(); ) {
+            var slot = it.next();
+            if (!slot.keyed) {
+                slot.key = keyOf.apply(slot.event);
+                slot.keyed = true;
+            }
+            if (key.equals(slot.key)) {
+                slot.event = event;
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package org.openjobspec.common;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Declarative filter for the events an event bridge publishes.
+ *
+ * <p>Event types are matched by prefix against the SSE {@code event} field, so
+ * unwanted types are dropped before their payload is decoded. Queue and job type
+ * filters match {@code data.queue} and {@code data.job_type} of the decoded event,
+ * so they cost one decode of every event of an accepted type.
+ * An empty list matches everything.
+ */
+public final class OjsEventFilter {
+
+    /** A filter that accepts every event. */
+    public static final OjsEventFilter ALL = new OjsEventFilter(List.of(), List.of(), List.of());
+
+    /** SSE type of events that do not name their type in the {@code event} field. */
+    private static final String UNTYPED = "message";
+
+    private final List<String> typePrefixes;
+    private final Set<String> queues;
+    private final Set<String> jobTypes;
+
+    /**
+     * @param typePrefixes accepted event type prefixes, e.g. {@code job.failed} or {@code workflow.}
+     * @param queues       accepted queues
+     * @param jobTypes     accepted job types
+     */
+    public OjsEventFilter(Collection<String> typePrefixes, Collection<String> queues, Collection<String> jobTypes) {
+        this.typePrefixes = List.copyOf(typePrefixes);
+        this.queues = Set.copyOf(queues);
+        this.jobTypes = Set.copyOf(jobTypes);
+    }
+
+    /**
+     * Whether an event with the given SSE type may pass. {@code false} means it can be
+     * dropped without decoding its payload.
+     */
+    public boolean mayAccept(String sseType) {
+        return isUntyped(sseType) || acceptsType(sseType);
+    }
+
+    /** Whether the payload has to be decoded to decide on an event with the given SSE type. */
+    public boolean needsPayload(String sseType) {
+        return !queues.isEmpty() || !jobTypes.isEmpty() || (!typePrefixes.isEmpty() && isUntyped(sseType));
+    }
+
+    /**
+     * Whether a decoded event passes the filter.
+     *
+     * @param sseType the SSE type, used when the payload does not name its type
+     * @param event   the decoded payload
+     */
+    public boolean accepts(String sseType, Map<String, Object> event) {
+        var type = event.get("type") instanceof String named ? named : sseType;
+        if (!acceptsType(isUntyped(type) ? null : type)) {
+            return false;
+        }
+        if (queues.isEmpty() && jobTypes.isEmpty()) {
+            return true;
+        }
+        var data = event.get("data") instanceof Map<?, ?> map ? map : Map.of();
+        return matches(queues, data.get("queue")) && matches(jobTypes, data.get("job_type"));
+    }
+
+    private boolean acceptsType(String type) {
+        if (typePrefixes.isEmpty()) {
+            return true;
+        }
+        if (type == null) {
+            return false;
+        }
+        for (var prefix : typePrefixes) {
+            if (type.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean matches(Set<String> accepted, Object value) {
+        return accepted.isEmpty() || (value instanceof String string && accepted.contains(string));
+    }
+
+    private static boolean isUntyped(String sseType) {
+        return sseType == null || sseType.isEmpty() || UNTYPED.equals(sseType);
+    }
+}
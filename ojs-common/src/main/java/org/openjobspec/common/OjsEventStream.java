@@ -0,0 +1,253 @@
+package org.openjobspec.common;
+
+import org.openjobspec.ojs.SSESubscription;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * An SSE event stream that survives network failures.
+ *
+ * <p>When the connection drops, the stream reconnects after a jittered exponential
+ * backoff and sends the ID of the last event it delivered as {@code Last-Event-ID},
+ * so the server can replay what was missed. Events replayed more than once are
+ * filtered out by a bounded window of recently seen event IDs. The backoff only
+ * starts over once a connection delivers an event, so a server that accepts and
+ * immediately closes connections is not reconnected to in a tight loop.
+ *
+ * <p>The SDK's {@link SSESubscription} neither reports a broken stream nor resumes
+ * one, so the stream is read directly through the shared {@link HttpClient}.
+ */
+public final class OjsEventStream implements AutoCloseable {
+
+    /** Path of the OJS event stream, relative to the server URL. */
+    static final String EVENTS_PATH = "/ojs/v1/events";
+
+    /**
+     * Reconnect settings.
+     *
+     * @param initialBackoff delay before the first reconnect attempt, doubled on every further failure
+     * @param maxBackoff     upper bound of the reconnect delay
+     * @param dedupeWindow   number of recent event IDs remembered to drop replayed events
+     */
+    public record Reconnect(Duration initialBackoff, Duration maxBackoff, int dedupeWindow) {
+
+        /** 500ms initial backoff, at most 30s, and a window of 1024 event IDs. */
+        public static final Reconnect DEFAULT = new Reconnect(Duration.ofMillis(500), Duration.ofSeconds(30), 1024);
+
+        public Reconnect {
+            Objects.requireNonNull(initialBackoff, "initialBackoff must not be null");
+            Objects.requireNonNull(maxBackoff, "maxBackoff must not be null");
+            if (initialBackoff.isNegative() || maxBackoff.compareTo(initialBackoff) < 0) {
+                throw new IllegalArgumentException("maxBackoff must not be less than initialBackoff");
+            }
+            if (dedupeWindow < 0) {
+                throw new IllegalArgumentException("dedupeWindow must not be negative");
+            }
+        }
+    }
+
+    /** Opens the stream, resuming after {@code lastEventId} when it is not {@code null}. */
+    @FunctionalInterface
+    interface Connector {
+        Stream<String> open(String lastEventId) throws IOException, InterruptedException;
+    }
+
+    private static final Logger LOG = Logger.getLogger(OjsEventStream.class.getName());
+
+    private final Connector connector;
+    private final Consumer<SSESubscription.SSEEvent> sink;
+    private final Reconnect reconnect;
+    private final LinkedHashSet<String> recentIds = new LinkedHashSet<>();
+    private final Thread thread;
+    private volatile String lastEventId;
+    private volatile Stream<String> current;
+    private volatile boolean closed;
+    private long retryMillis = -1;
+    private boolean delivered;
+
+    OjsEventStream(String name, Connector connector, Consumer<SSESubscription.SSEEvent> sink, Reconnect reconnect) {
+        this.connector = connector;
+        this.sink = sink;
+        this.reconnect = Objects.requireNonNull(reconnect, "reconnect must not be null");
+        this.thread = Thread.ofVirtual().name(name).start(this::run);
+    }
+
+    /**
+     * Open a resumable stream of the events on {@code channel}.
+     *
+     * @param client    the HTTP client to read the stream with
+     * @param serverUrl the OJS server URL
+     * @param channel   the queue or wildcard channel to follow
+     * @param sink      receives the events on the stream's reader thread
+     * @param reconnect backoff and de-duplication settings
+     */
+    public static OjsEventStream open(HttpClient client, String serverUrl, String channel,
+                                      Consumer<SSESubscription.SSEEvent> sink, Reconnect reconnect) {
+        var uri = URI.create(serverUrl.replaceAll("/+$", "") + EVENTS_PATH
+                + "?channel=" + URLEncoder.encode(channel, StandardCharsets.UTF_8));
+        return new OjsEventStream("ojs-sse-" + channel, lastEventId -> connect(client, uri, lastEventId),
+                sink, reconnect);
+    }
+
+    /** The ID of the last event delivered, sent as {@code Last-Event-ID} on reconnect. */
+    public String getLastEventId() {
+        return lastEventId;
+    }
+
+    /** Whether the stream still reads or reconnects. */
+    public boolean isActive() {
+        return !closed;
+    }
+
+    /** Stop reading and stop reconnecting. */
+    @Override
+    public void close() {
+        closed = true;
+        var lines = current;
+        if (lines != null) {
+            lines.close();
+        }
+        thread.interrupt();
+    }
+
+    private void run() {
+        int failures = 0;
+        while (!closed) {
+            delivered = false;
+            try (var lines = connector.open(lastEventId)) {
+                current = lines;
+                if (closed) {
+                    return;
+                }
+                read(lines.iterator());
+            } catch (IOException | UncheckedIOException e) {
+                if (!closed) {
+                    LOG.warning(() -> "OJS event stream failed: " + e.getMessage());
+                }
+            } catch (InterruptedException e) {
+                return;
+            } finally {
+                current = null;
+            }
+            if (closed) {
+                return;
+            }
+            if (delivered) {
+                failures = 0;
+            }
+            try {
+                Thread.sleep(backoff(failures++));
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    /** Parse {@code text/event-stream} lines until the stream ends. */
+    private void read(Iterator<String> lines) {
+        String id = null;
+        String type = null;
+        StringBuilder data = null;
+        while (!closed && lines.hasNext()) {
+            var line = lines.next();
+            if (line.isEmpty()) {
+                if (data != null) {
+                    deliver(id, type != null ? type : "message", data.toString());
+                }
+                id = null;
+                type = null;
+                data = null;
+                continue;
+            }
+            if (line.startsWith(":")) {
+                continue;
+            }
+            int colon = line.indexOf(':');
+            var field = colon < 0 ? line : line.substring(0, colon);
+            var value = colon < 0 ? "" : line.substring(line.startsWith(" ", colon + 1) ? colon + 2 : colon + 1);
+            switch (field) {
+                case "id" -> {
+                    if (value.indexOf('\0') < 0) {
+                        id = value;
+                    }
+                }
+                case "event" -> type = value;
+                case "data" -> data = data == null ? new StringBuilder(value) : data.append('\n').append(value);
+                case "retry" -> {
+                    if (!value.isEmpty() && value.chars().allMatch(Character::isDigit)) {
+                        retryMillis = Long.parseLong(value);
+                    }
+                }
+                default -> {
+                    // Unknown fields are ignored
+                }
+            }
+        }
+    }
+
+    /**
+     * Hand one complete event to the sink. Only then does its ID become the one to
+     * resume from, so a connection lost halfway through an event does not skip it.
+     */
+    private void deliver(String id, String type, String data) {
+        if (id != null && !id.isEmpty() && reconnect.dedupeWindow() > 0) {
+            if (!recentIds.add(id)) {
+                return;
+            }
+            if (recentIds.size() > reconnect.dedupeWindow()) {
+                recentIds.removeFirst();
+            }
+        }
+        try {
+            sink.accept(new SSESubscription.SSEEvent(id, type, data));
+        } catch (RuntimeException e) {
+            LOG.log(Level.WARNING, "OJS event handler failed", e);
+        }
+        if (id != null) {
+            lastEventId = id.isEmpty() ? null : id;
+        }
+        delivered = true;
+    }
+
+    /** Exponential backoff with equal jitter, starting from the server's {@code retry} hint if any. */
+    long backoff(int failures) {
+        long initial = retryMillis >= 0 ? retryMillis : reconnect.initialBackoff().toMillis();
+        long max = Math.max(initial, reconnect.maxBackoff().toMillis());
+        long delay = initial << Math.min(failures, 20);
+        delay = delay < initial ? max : Math.min(delay, max);
+        long half = delay / 2;
+        return half + ThreadLocalRandom.current().nextLong(delay - half + 1);
+    }
+
+    private static Stream<String> connect(HttpClient client, URI uri, String lastEventId)
+            throws IOException, InterruptedException {
+        var request = HttpRequest.newBuilder(uri)
+                .header("Accept", "text/event-stream")
+                .GET();
+        if (lastEventId != null) {
+            request.header("Last-Event-ID", lastEventId);
+        }
+        var response = client.send(request.build(), HttpResponse.BodyHandlers.ofLines());
+        if (response.statusCode() != 200) {
+            response.body().close();
+            throw new IOException("OJS event stream returned HTTP " + response.statusCode());
+        }
+        return response.body();
+    }
+}
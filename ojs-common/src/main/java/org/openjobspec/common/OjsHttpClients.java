@@ -0,0 +1,32 @@
+package org.openjobspec.common;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+/**
+ * Builds the {@link HttpClient} shared by the OJS client and worker beans, so that
+ * both reuse one connection pool instead of each opening their own connections.
+ *
+ * <p>Only what {@link HttpClient.Builder} supports per instance is configured here.
+ * The pool's idle timeout and size are JVM-wide and read once, when the JDK HTTP
+ * client is first used, so they belong on the command line rather than in a library:
+ * {@code -Djdk.httpclient.keepalive.timeout=<seconds>} and
+ * {@code -Djdk.httpclient.connectionPoolSize=<connections>}.
+ */
+public final class OjsHttpClients {
+
+    private OjsHttpClients() {
+    }
+
+    /**
+     * @param version        the preferred HTTP version
+     * @param connectTimeout the connect timeout, or {@code null} for none
+     */
+    public static HttpClient create(HttpClient.Version version, Duration connectTimeout) {
+        var builder = HttpClient.newBuilder().version(version);
+        if (connectTimeout != null) {
+            builder.connectTimeout(connectTimeout);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,186 @@
+package org.openjobspec.common;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.openjobspec.ojs.JobContext;
+import org.openjobspec.ojs.JobHandler;
+import org.openjobspec.ojs.Middleware;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.logging.Logger;
+
+/**
+ * Detects job handlers that pin the carrier thread of their virtual thread.
+ *
+ * <p>A virtual thread that blocks inside a {@code synchronized} block or a native
+ * frame cannot unmount, so it holds on to one of the few carrier threads and caps
+ * the throughput of every other job. The monitor listens for the JDK Flight
+ * Recorder {@code jdk.VirtualThreadPinned} event and, as worker middleware, knows
+ * which job type each virtual thread is running. Flight Recorder delivers events in
+ * batches after the pin ends, so the threads of recently finished jobs are
+ * remembered too. Pins are counted per job type and the first one of each type is
+ * logged with the frame that caused it.</p>
+ */
+public final class OjsPinningMonitor implements Middleware, AutoCloseable {
+
+    private static final Logger LOG = Logger.getLogger(OjsPinningMonitor.class.getName());
+
+    /** Default minimum pin duration that is reported; matches the JDK's own default. */
+    public static final Duration DEFAULT_THRESHOLD = Duration.ofMillis(20);
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    /** Finished job threads remembered, since events are delivered after the pin ends. */
+    static final int FINISHED_WINDOW = 4096;
+
+    private final Duration threshold;
+    private final ConcurrentHashMap<Long, String> running = new ConcurrentHashMap<>();
+    private final Map<Long, String> finished = new LinkedHashMap<>(16, 0.75f, false) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, String> eldest) {
+            return size() > FINISHED_WINDOW;
+        }
+    };
+    private final ConcurrentHashMap<String, LongAdder> pinned = new ConcurrentHashMap<>();
+    private final ReentrantLock finishedLock = new ReentrantLock();
+    private volatile BiConsumer<String, Duration> listener = (type, duration) -> {};
+    private RecordingStream recording;
+
+    /**
+     * @param threshold minimum time a thread has to stay pinned to be reported
+     */
+    public OjsPinningMonitor(Duration threshold) {
+        if (threshold.isNegative()) {
+            throw new IllegalArgumentException("threshold must not be negative");
+        }
+        this.threshold = threshold;
+    }
+
+    /** Start listening for pinned threads. Does nothing if already started. */
+    public synchronized void start() {
+        if (recording != null) {
+            return;
+        }
+        recording = new RecordingStream();
+        recording.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recording.onEvent(PINNED_EVENT, this::onEvent);
+        recording.startAsync();
+    }
+
+    /** Called with the job type and duration of each detected pin, e.g. to publish metrics. */
+    public void setListener(BiConsumer<String, Duration> listener) {
+        this.listener = listener;
+    }
+
+    @Override
+    public void apply(JobContext ctx, JobHandler next) throws Exception {
+        long threadId = Thread.currentThread().threadId();
+        running.put(threadId, ctx.job().type());
+        try {
+            next.handle(ctx);
+        } finally {
+            var type = running.remove(threadId);
+            // A lock rather than synchronized, which would itself pin job threads
+            finishedLock.lock();
+            try {
+                finished.put(threadId, type);
+            } finally {
+                finishedLock.unlock();
+            }
+        }
+    }
+
+    /** Total number of pins detected in job handlers. */
+    public long getPinnedCount() {
+        long total = 0;
+        for (var count : pinned.values()) {
+            total += count.sum();
+        }
+        return total;
+    }
+
+    /** Number of pins detected per job type. */
+    public Map<String, Long> getPinnedCounts() {
+        var counts = new TreeMap<String, Long>();
+        pinned.forEach((type, count) -> counts.put(type, count.sum()));
+        return counts;
+    }
+
+    public Duration getThreshold() {
+        return threshold;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    private void onEvent(RecordedEvent event) {
+        var thread = event.getThread();
+        if (thread != null) {
+            onPinned(thread.getJavaThreadId(), event.getDuration(), culprit(event));
+        }
+    }
+
+    /**
+     * Record a pin of the given thread. Pins of threads that did not run a job are
+     * ignored.
+     */
+    void onPinned(long threadId, Duration duration, String frame) {
+        var type = jobTypeOf(threadId);
+        if (type == null) {
+            return;
+        }
+        var count = pinned.computeIfAbsent(type, t -> {
+            LOG.warning("OJS job type '" + t + "' pinned its carrier thread for " + duration.toMillis()
+                    + "ms" + (frame != null ? " at " + frame : "")
+                    + "; avoid blocking inside synchronized blocks in job handlers");
+            return new LongAdder();
+        });
+        count.increment();
+        listener.accept(type, duration);
+    }
+
+    private String jobTypeOf(long threadId) {
+        var type = running.get(threadId);
+        if (type != null) {
+            return type;
+        }
+        finishedLock.lock();
+        try {
+            return finished.get(threadId);
+        } finally {
+            finishedLock.unlock();
+        }
+    }
+
+    /** The first application frame of the pinned thread's stack. */
+    private static String culprit(RecordedEvent event) {
+        var stackTrace = event.getStackTrace();
+        if (stackTrace == null) {
+            return null;
+        }
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            if (!frame.isJavaFrame()) {
+                continue;
+            }
+            var method = frame.getMethod();
+            var className = method.getType().getName();
+            if (!className.startsWith("java.") && !className.startsWith("jdk.") && !className.startsWith("sun.")) {
+                return className + "." + method.getName() + ":" + frame.getLineNumber();
+            }
+        }
+        return null;
+    }
+}
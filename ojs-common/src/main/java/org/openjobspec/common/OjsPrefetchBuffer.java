@@ -0,0 +1,94 @@
+package org.openjobspec.common;
+
+import org.openjobspec.ojs.JobContext;
+import org.openjobspec.ojs.JobHandler;
+import org.openjobspec.ojs.Middleware;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Lets the worker fetch a few jobs ahead of its free handler slots.
+ *
+ * <p>The SDK worker fetches only when a slot is free, so each short job costs a fetch
+ * round-trip before the next one can start. Built with {@link #workerConcurrency()}
+ * slots, the worker fetches up to {@code depth} jobs more than it runs; this
+ * middleware holds them until one of the {@code slots} running jobs finishes, in
+ * the order they arrived. A held job is heartbeated so its lease does not lapse
+ * while it waits, and at most {@code depth} jobs are ever held, so a queue of long
+ * jobs is not drained into one worker.</p>
+ */
+public final class OjsPrefetchBuffer implements Middleware {
+
+    /** Interval at which held jobs are heartbeated. */
+    public static final Duration DEFAULT_HEARTBEAT_INTERVAL = Duration.ofSeconds(10);
+
+    private final int slots;
+    private final int depth;
+    private final long heartbeatNanos;
+    private final Semaphore running;
+    private final AtomicInteger held = new AtomicInteger();
+
+    /**
+     * @param slots jobs run at once
+     * @param depth jobs fetched ahead and held until a slot is free
+     */
+    public OjsPrefetchBuffer(int slots, int depth) {
+        this(slots, depth, DEFAULT_HEARTBEAT_INTERVAL);
+    }
+
+    OjsPrefetchBuffer(int slots, int depth, Duration heartbeatInterval) {
+        if (slots < 1) {
+            throw new IllegalArgumentException("slots must be positive: " + slots);
+        }
+        if (depth < 0) {
+            throw new IllegalArgumentException("depth must not be negative: " + depth);
+        }
+        this.slots = slots;
+        this.depth = depth;
+        this.heartbeatNanos = heartbeatInterval.toNanos();
+        this.running = new Semaphore(slots, true);
+    }
+
+    /** The concurrency to build the SDK worker with: the slots plus the prefetch depth. */
+    public int workerConcurrency() {
+        return slots + depth;
+    }
+
+    /** Jobs run at once. */
+    public int getSlots() {
+        return slots;
+    }
+
+    /** Jobs fetched ahead of the free slots. */
+    public int getDepth() {
+        return depth;
+    }
+
+    /** Jobs currently fetched and waiting for a slot. */
+    public int getHeldCount() {
+        return held.get();
+    }
+
+    @Override
+    public void apply(JobContext ctx, JobHandler next) throws Exception {
+        // A timed tryAcquire honours fairness, so a new job never overtakes a held one
+        if (!running.tryAcquire(0, TimeUnit.NANOSECONDS)) {
+            held.incrementAndGet();
+            try {
+                while (!running.tryAcquire(heartbeatNanos, TimeUnit.NANOSECONDS)) {
+                    ctx.heartbeat();
+                }
+            } finally {
+                held.decrementAndGet();
+            }
+        }
+        try {
+            next.handle(ctx);
+        } finally {
+            running.release();
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package org.openjobspec.common;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Reads the RFC 3339 timestamps OJS servers put on jobs, such as
+ * {@code 2026-03-01T12:00:00.250Z}, without allocating.
+ *
+ * <p>Metrics middleware reads a few timestamps for every job it sees, and
+ * {@link Instant#parse} allocates a parser state, a field map and the result each
+ * time. Timestamps of the usual shape, {@code yyyy-MM-ddTHH:mm:ss}, an optional
+ * fraction and {@code Z} or a {@code ±HH:MM} offset, are read directly here; anything
+ * else falls back to {@link Instant#parse}.
+ */
+public final class OjsTimestamps {
+
+    private static final int[] DAYS_IN_MONTH = {31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+
+    private OjsTimestamps() {
+    }
+
+    /**
+     * Epoch millis of an RFC 3339 timestamp, truncating any fraction below a millisecond.
+     *
+     * @return the epoch millis, or {@code -1} if the timestamp is absent or malformed
+     */
+    public static long epochMillis(String timestamp) {
+        if (timestamp == null || timestamp.isEmpty()) {
+            return -1;
+        }
+        long millis = parse(timestamp);
+        if (millis != Long.MIN_VALUE) {
+            return millis;
+        }
+        try {
+            return Instant.parse(timestamp).toEpochMilli();
+        } catch (DateTimeParseException | ArithmeticException e) {
+            return -1;
+        }
+    }
+
+    /** The epoch millis of {@code s}, or {@link Long#MIN_VALUE} if it is not of the usual shape. */
+    private static long parse(String s) {
+        int length = s.length();
+        if (length < 20 || s.charAt(4) != '-' || s.charAt(7) != '-' || s.charAt(13) != ':' || s.charAt(16) != ':') {
+            return Long.MIN_VALUE;
+        }
+        char t = s.charAt(10);
+        if (t != 'T' && t != 't') {
+            return Long.MIN_VALUE;
+        }
+        int year = digits(s, 0, 4);
+        int month = digits(s, 5, 2);
+        int day = digits(s, 8, 2);
+        int hour = digits(s, 11, 2);
+        int minute = digits(s, 14, 2);
+        int second = digits(s, 17, 2);
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > daysInMonth(year, month)
+                || hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+            return Long.MIN_VALUE;
+        }
+
+        int i = 19;
+        int fraction = 0;
+        if (s.charAt(i) == '.') {
+            int start = ++i;
+            while (i < length && s.charAt(i) >= '0' && s.charAt(i) <= '9') {
+                if (i - start < 3) {
+                    fraction = fraction * 10 + (s.charAt(i) - '0');
+                }
+                i++;
+            }
+            int read = i - start;
+            if (read == 0) {
+                return Long.MIN_VALUE;
+            }
+            for (int scale = read; scale < 3; scale++) {
+                fraction *= 10;
+            }
+        }
+
+        int offsetMinutes;
+        if (i == length - 1 && (s.charAt(i) == 'Z' || s.charAt(i) == 'z')) {
+            offsetMinutes = 0;
+        } else if (i == length - 6 && (s.charAt(i) == '+' || s.charAt(i) == '-') && s.charAt(i + 3) == ':') {
+            int offsetHours = digits(s, i + 1, 2);
+            int offsetMins = digits(s, i + 4, 2);
+            if (offsetHours < 0 || offsetHours > 18 || offsetMins < 0 || offsetMins > 59) {
+                return Long.MIN_VALUE;
+            }
+            offsetMinutes = (offsetHours * 60 + offsetMins) * (s.charAt(i) == '-' ? -1 : 1);
+        } else {
+            return Long.MIN_VALUE;
+        }
+
+        long seconds = epochDay(year, month, day) * 86_400L
+                + hour * 3_600L + minute * 60L + second - offsetMinutes * 60L;
+        return seconds * 1000 + fraction;
+    }
+
+    /** The value of {@code count} decimal digits at {@code from}, or {@code -1} if any is not a digit. */
+    private static int digits(String s, int from, int count) {
+        int value = 0;
+        for (int i = from; i < from + count; i++) {
+            char c = s.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static int daysInMonth(int year, int month) {
+        if (month == 2 && year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) {
+            return 29;
+        }
+        return DAYS_IN_MONTH[month - 1];
+    }
+
+    /** Days since 1970-01-01 of a proleptic Gregorian date, for years 0 to 9999. */
+    private static long epochDay(int year, int month, int day) {
+        int y = month <= 2 ? year - 1 : year;
+        int era = Math.floorDiv(y, 400);
+        int yearOfEra = y - era * 400;
+        int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146_097L + dayOfEra - 719_468;
+    }
+}
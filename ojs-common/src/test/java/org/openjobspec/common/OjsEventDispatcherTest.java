@@ -0,0 +1,196 @@
+package org.openjobspec.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OjsEventDispatcherTest {
+
+    @Test
+    void rejectsNonPositiveCapacity() {
+        assertThrows(IllegalArgumentException.class,
+                () -> dispatcher(0, OjsEventDispatcher.OverflowPolicy.BLOCK, event -> {}));
+    }
+
+    @Test
+    void deliversEventsInOrder() {
+        var received = new CopyOnWriteArrayList<String>();
+        var dispatcher = dispatcher(4, OjsEventDispatcher.OverflowPolicy.BLOCK, received::add);
+
+        for (var event : List.of("a:1", "b:1", "a:2", "c:1", "a:3", "b:2")) {
+            assertTrue(dispatcher.submit(event));
+        }
+        dispatcher.close();
+
+        assertEquals(List.of("a:1", "b:1", "a:2", "c:1", "a:3", "b:2"), received);
+    }
+
+    @Test
+    void dropsOldestWhenFull() throws Exception {
+        var received = new CopyOnWriteArrayList<String>();
+        var gate = new Gate(received::add);
+        var dispatcher = dispatcher(2, OjsEventDispatcher.OverflowPolicy.DROP_OLDEST, gate);
+
+        gate.holdOn(dispatcher, "a:0");
+        dispatcher.submit("a:1");
+        dispatcher.submit("a:2");
+        assertTrue(dispatcher.submit("a:3"));
+        assertEquals(2, dispatcher.getQueueDepth());
+        assertEquals(1, dispatcher.getDroppedCount());
+
+        gate.release();
+        dispatcher.close();
+        assertEquals(List.of("a:0", "a:2", "a:3"), received);
+    }
+
+    @Test
+    void dropsNewestWhenFull() throws Exception {
+        var received = new CopyOnWriteArrayList<String>();
+        var gate = new Gate(received::add);
+        var dispatcher = dispatcher(2, OjsEventDispatcher.OverflowPolicy.DROP_NEWEST, gate);
+
+        gate.holdOn(dispatcher, "a:0");
+        dispatcher.submit("a:1");
+        dispatcher.submit("a:2");
+        assertFalse(dispatcher.submit("a:3"));
+        assertEquals(1, dispatcher.getDroppedCount());
+
+        gate.release();
+        dispatcher.close();
+        assertEquals(List.of("a:0", "a:1", "a:2"), received);
+    }
+
+    @Test
+    void coalescesQueuedEventOfSameJob() throws Exception {
+        var received = new CopyOnWriteArrayList<String>();
+        var gate = new Gate(received::add);
+        var dispatcher = dispatcher(2, OjsEventDispatcher.OverflowPolicy.COALESCE, gate);
+
+        gate.holdOn(dispatcher, "a:0");
+        dispatcher.submit("a:1");
+        dispatcher.submit("b:1");
+        assertFalse(dispatcher.submit("a:2"));
+        assertFalse(dispatcher.submit("c:1"));
+        assertEquals(2, dispatcher.getQueueDepth());
+        assertEquals(2, dispatcher.getDroppedCount());
+
+        gate.release();
+        dispatcher.close();
+        assertEquals(List.of("a:0", "a:2", "b:1"), received);
+    }
+
+    @Test
+    void computesCoalescingKeysOnlyOnceQueueIsFull() throws Exception {
+        var keyed = new CopyOnWriteArrayList<String>();
+        var gate = new Gate(event -> {});
+        var dispatcher = new OjsEventDispatcher<String>("test-events", 2,
+                OjsEventDispatcher.OverflowPolicy.COALESCE, gate, event -> {
+                    keyed.add(event);
+                    return event.substring(0, event.indexOf(':'));
+                });
+
+        gate.holdOn(dispatcher, "a:0");
+        dispatcher.submit("a:1");
+        dispatcher.submit("b:1");
+        assertEquals(List.of(), keyed);
+
+        dispatcher.submit("a:2");
+        dispatcher.submit("a:3");
+        assertEquals(List.of("a:2", "b:1", "a:1", "a:3"), keyed);
+
+        gate.release();
+        dispatcher.close();
+    }
+
+    @Test
+    void blocksSubmitterUntilListenerCatchesUp() throws Exception {
+        var received = new CopyOnWriteArrayList<String>();
+        var gate = new Gate(received::add);
+        var dispatcher = dispatcher(1, OjsEventDispatcher.OverflowPolicy.BLOCK, gate);
+
+        gate.holdOn(dispatcher, "a:0");
+        dispatcher.submit("a:1");
+        var submitted = new CountDownLatch(1);
+        Thread.ofPlatform().start(() -> {
+            dispatcher.submit("a:2");
+            submitted.countDown();
+        });
+
+        assertFalse(submitted.await(100, TimeUnit.MILLISECONDS));
+        gate.release();
+        assertTrue(submitted.await(5, TimeUnit.SECONDS));
+        dispatcher.close();
+        assertEquals(List.of("a:0", "a:1", "a:2"), received);
+        assertEquals(0, dispatcher.getDroppedCount());
+    }
+
+    @Test
+    void listenerFailureDoesNotStopDispatch() {
+        var received = new CopyOnWriteArrayList<String>();
+        var dispatcher = dispatcher(4, OjsEventDispatcher.OverflowPolicy.BLOCK, event -> {
+            if (event.equals("a:1")) {
+                throw new IllegalStateException("boom");
+            }
+            received.add(event);
+        });
+
+        dispatcher.submit("a:1");
+        dispatcher.submit("a:2");
+        dispatcher.close();
+
+        assertEquals(List.of("a:2"), received);
+    }
+
+    @Test
+    void rejectsEventsAfterClose() {
+        var dispatcher = dispatcher(4, OjsEventDispatcher.OverflowPolicy.BLOCK, event -> {});
+
+        dispatcher.close();
+
+        assertFalse(dispatcher.submit("a:1"));
+        assertEquals(0, dispatcher.getQueueDepth());
+    }
+
+    private static OjsEventDispatcher<String> dispatcher(int capacity, OjsEventDispatcher.OverflowPolicy policy,
+                                                         Consumer<String> listener) {
+        return new OjsEventDispatcher<>("test-events", capacity, policy, listener,
+                event -> event.substring(0, event.indexOf(':')));
+    }
+
+    /** Holds the dispatch thread inside the listener so events pile up in the queue. */
+    private static final class Gate implements Consumer<String> {
+        private final Consumer<String> delegate;
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch released = new CountDownLatch(1);
+
+        private Gate(Consumer<String> delegate) {
+            this.delegate = delegate;
+        }
+
+        void holdOn(OjsEventDispatcher<String> dispatcher, String event) throws InterruptedException {
+            dispatcher.submit(event);
+            assertTrue(entered.await(5, TimeUnit.SECONDS));
+        }
+
+        void release() {
+            released.countDown();
+        }
+
+        @Override
+        public void accept(String event) {
+            entered.countDown();
+            try {
+                released.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            delegate.accept(event);
+        }
+    }
+}
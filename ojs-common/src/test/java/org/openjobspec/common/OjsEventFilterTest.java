@@ -0,0 +1,54 @@
+package org.openjobspec.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OjsEventFilterTest {
+
+    @Test
+    void acceptsEverythingByDefault() {
+        assertTrue(OjsEventFilter.ALL.mayAccept("job.completed"));
+        assertFalse(OjsEventFilter.ALL.needsPayload("job.completed"));
+        assertTrue(OjsEventFilter.ALL.accepts("job.completed", Map.of()));
+    }
+
+    @Test
+    void dropsUnwantedTypesWithoutPayload() {
+        var filter = new OjsEventFilter(List.of("job.failed", "workflow."), List.of(), List.of());
+
+        assertTrue(filter.mayAccept("job.failed"));
+        assertTrue(filter.mayAccept("workflow.completed"));
+        assertFalse(filter.mayAccept("job.completed"));
+        assertFalse(filter.needsPayload("job.failed"));
+    }
+
+    @Test
+    void decodesUntypedEventsToMatchType() {
+        var filter = new OjsEventFilter(List.of("job.failed"), List.of(), List.of());
+
+        assertTrue(filter.mayAccept("message"));
+        assertTrue(filter.needsPayload("message"));
+        assertTrue(filter.accepts("message", Map.of("type", "job.failed")));
+        assertFalse(filter.accepts("message", Map.of("type", "job.completed")));
+        assertFalse(filter.accepts("message", Map.of()));
+    }
+
+    @Test
+    void matchesQueuesAndJobTypesFromPayload() {
+        var filter = new OjsEventFilter(List.of(), List.of("payments", "billing"), List.of("invoice.send"));
+
+        assertTrue(filter.needsPayload("job.failed"));
+        assertTrue(filter.accepts("job.failed", event("payments", "invoice.send")));
+        assertFalse(filter.accepts("job.failed", event("default", "invoice.send")));
+        assertFalse(filter.accepts("job.failed", event("billing", "email.send")));
+        assertFalse(filter.accepts("job.failed", Map.of("type", "job.failed")));
+    }
+
+    private static Map<String, Object> event(String queue, String jobType) {
+        return Map.of("type", "job.failed", "data", Map.of("queue", queue, "job_type", jobType));
+    }
+}
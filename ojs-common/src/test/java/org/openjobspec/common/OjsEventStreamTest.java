@@ -0,0 +1,170 @@
+package org.openjobspec.common;
+
+import org.junit.jupiter.api.Test;
+import org.openjobspec.ojs.SSESubscription;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OjsEventStreamTest {
+
+    private static final OjsEventStream.Reconnect FAST =
+            new OjsEventStream.Reconnect(Duration.ZERO, Duration.ofMillis(1), 16);
+
+    private final BlockingQueue<SSESubscription.SSEEvent> received = new LinkedBlockingQueue<>();
+    private final BlockingQueue<String> resumedFrom = new LinkedBlockingQueue<>();
+
+    @Test
+    void parsesEventStream() throws Exception {
+        try (var stream = stream(FAST, Stream.of(
+                ": keep-alive",
+                "id: 1",
+                "event: job.completed",
+                "data: {\"a\":1,",
+                "data: \"b\":2}",
+                "",
+                "data: untyped",
+                ""))) {
+            var first = next();
+            assertEquals("1", first.id());
+            assertEquals("job.completed", first.type());
+            assertEquals("{\"a\":1,\n\"b\":2}", first.data());
+
+            var second = next();
+            assertNull(second.id());
+            assertEquals("message", second.type());
+            assertEquals("untyped", second.data());
+            assertEquals("1", stream.getLastEventId());
+        }
+    }
+
+    @Test
+    void resumesFromLastEventIdAfterFailure() throws Exception {
+        try (var stream = stream(FAST,
+                broken("id: 1", "event: job.started", "data: {}", ""),
+                Stream.of("id: 2", "event: job.completed", "data: {}", ""))) {
+            assertEquals("1", next().id());
+            assertEquals("2", next().id());
+            assertEquals("", resumedFrom.poll(5, TimeUnit.SECONDS));
+            assertEquals("1", resumedFrom.poll(5, TimeUnit.SECONDS));
+            assertEquals("2", stream.getLastEventId());
+        }
+    }
+
+    @Test
+    void resumesBeforeEventCutOffMidway() throws Exception {
+        try (var stream = stream(FAST,
+                broken("id: 1", "data: a", "", "id: 2", "data: b"),
+                Stream.of("id: 2", "data: b", ""))) {
+            assertEquals("1", next().id());
+            assertEquals("2", next().id());
+            assertEquals("", resumedFrom.poll(5, TimeUnit.SECONDS));
+            assertEquals("1", resumedFrom.poll(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void keepsBackingOffWhileConnectionsDeliverNothing() throws Exception {
+        var reconnect = new OjsEventStream.Reconnect(Duration.ofMillis(20), Duration.ofSeconds(10), 16);
+        long start = System.nanoTime();
+        try (var ignored = stream(reconnect,
+                Stream.of(), Stream.of(), Stream.of(), Stream.of(), Stream.of("data: a", ""))) {
+            assertEquals("a", next().data());
+            // Without reset, delays are at least 10 + 20 + 40 + 80ms
+            assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(150));
+        }
+    }
+
+    @Test
+    void dropsReplayedEvents() throws Exception {
+        try (var ignored = stream(FAST,
+                Stream.of("id: 1", "data: a", "", "id: 2", "data: b", ""),
+                Stream.of("id: 2", "data: b", "", "id: 3", "data: c", ""))) {
+            assertEquals("1", next().id());
+            assertEquals("2", next().id());
+            assertEquals("3", next().id());
+            assertNull(received.poll(100, TimeUnit.MILLISECONDS));
+        }
+    }
+
+    @Test
+    void dedupeWindowIsBounded() throws Exception {
+        var reconnect = new OjsEventStream.Reconnect(Duration.ZERO, Duration.ofMillis(1), 1);
+        try (var ignored = stream(reconnect,
+                Stream.of("id: 1", "data: a", "", "id: 2", "data: b", "", "id: 1", "data: a", ""))) {
+            assertEquals("1", next().id());
+            assertEquals("2", next().id());
+            assertEquals("1", next().id());
+        }
+    }
+
+    @Test
+    void closeStopsReconnecting() throws Exception {
+        var stream = stream(FAST);
+        assertNotNull(resumedFrom.poll(5, TimeUnit.SECONDS));
+
+        stream.close();
+
+        assertFalse(stream.isActive());
+    }
+
+    @Test
+    void backoffGrowsWithJitterUpToMaximum() {
+        var reconnect = new OjsEventStream.Reconnect(Duration.ofMillis(100), Duration.ofSeconds(1), 16);
+        try (var stream = stream(reconnect)) {
+            for (int i = 0; i < 50; i++) {
+                long first = stream.backoff(0);
+                assertTrue(first >= 50 && first <= 100, "first delay " + first);
+                long third = stream.backoff(2);
+                assertTrue(third >= 200 && third <= 400, "third delay " + third);
+                long capped = stream.backoff(30);
+                assertTrue(capped >= 500 && capped <= 1000, "capped delay " + capped);
+            }
+        }
+    }
+
+    @Test
+    void rejectsInvalidReconnectSettings() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new OjsEventStream.Reconnect(Duration.ofSeconds(2), Duration.ofSeconds(1), 16));
+        assertThrows(IllegalArgumentException.class,
+                () -> new OjsEventStream.Reconnect(Duration.ZERO, Duration.ZERO, -1));
+    }
+
+    /** A stream serving {@code connections} in turn, then waiting until closed. */
+    @SafeVarargs
+    private OjsEventStream stream(OjsEventStream.Reconnect reconnect, Stream<String>... connections) {
+        var remaining = new ConcurrentLinkedQueue<>(List.of(connections));
+        return new OjsEventStream("test-sse", lastEventId -> {
+            resumedFrom.add(lastEventId == null ? "" : lastEventId);
+            var script = remaining.poll();
+            if (script == null) {
+                new CountDownLatch(1).await();
+            }
+            return script;
+        }, received::add, reconnect);
+    }
+
+    /** Lines followed by a connection reset. */
+    private static Stream<String> broken(String... lines) {
+        return Stream.concat(Stream.of(lines), Stream.generate(() -> {
+            throw new UncheckedIOException(new IOException("connection reset"));
+        }));
+    }
+
+    private SSESubscription.SSEEvent next() throws InterruptedException {
+        var event = received.poll(5, TimeUnit.SECONDS);
+        assertNotNull(event, "no event received");
+        return event;
+    }
+}
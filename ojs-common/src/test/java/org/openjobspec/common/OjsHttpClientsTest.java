@@ -0,0 +1,34 @@
+package org.openjobspec.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OjsHttpClientsTest {
+
+    @Test
+    void appliesVersionAndConnectTimeout() {
+        var client = OjsHttpClients.create(HttpClient.Version.HTTP_2, Duration.ofSeconds(3));
+
+        assertEquals(HttpClient.Version.HTTP_2, client.version());
+        assertEquals(Duration.ofSeconds(3), client.connectTimeout().orElseThrow());
+    }
+
+    @Test
+    void connectTimeoutIsOptional() {
+        var client = OjsHttpClients.create(HttpClient.Version.HTTP_1_1, null);
+
+        assertTrue(client.connectTimeout().isEmpty());
+    }
+
+    @Test
+    void leavesJvmWidePoolSettingsAlone() {
+        OjsHttpClients.create(HttpClient.Version.HTTP_1_1, Duration.ofSeconds(3));
+
+        assertNull(System.getProperty("jdk.httpclient.keepalive.timeout"));
+        assertNull(System.getProperty("jdk.httpclient.connectionPoolSize"));
+    }
+}
@@ -0,0 +1,97 @@
+package org.openjobspec.common;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.openjobspec.ojs.Job;
+import org.openjobspec.ojs.JobContext;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class OjsPinningMonitorTest {
+
+    private final OjsPinningMonitor monitor = new OjsPinningMonitor(Duration.ofMillis(10));
+
+    @AfterEach
+    void tearDown() {
+        monitor.close();
+    }
+
+    @Test
+    void countsPinsPerJobType() throws Exception {
+        var reported = new LinkedBlockingQueue<String>();
+        monitor.setListener((type, duration) -> reported.add(type + "=" + duration.toMillis()));
+
+        pinWhileRunning("email.send");
+        pinWhileRunning("email.send");
+        pinWhileRunning("report.generate");
+
+        assertEquals(3, monitor.getPinnedCount());
+        assertEquals(Map.of("email.send", 2L, "report.generate", 1L), monitor.getPinnedCounts());
+        assertEquals("email.send=50", reported.poll());
+    }
+
+    @Test
+    void ignoresThreadsNotRunningJobs() {
+        monitor.onPinned(Thread.currentThread().threadId(), Duration.ofMillis(50), null);
+
+        assertEquals(0, monitor.getPinnedCount());
+    }
+
+    @Test
+    void detectsHandlerBlockingInsideSynchronized() throws Exception {
+        // From JDK 24 (JEP 491) blocking inside synchronized no longer pins the carrier.
+        assumeTrue(Runtime.version().feature() < 24);
+        monitor.start();
+        var lock = new Object();
+
+        var thread = Thread.ofVirtual().start(() -> {
+            try {
+                monitor.apply(context("legacy.sync"), ctx -> {
+                    synchronized (lock) {
+                        Thread.sleep(100);
+                    }
+                    return null;
+                });
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+        assertTrue(thread.join(Duration.ofSeconds(5)));
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (monitor.getPinnedCount() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        assertEquals(Map.of("legacy.sync", 1L), monitor.getPinnedCounts());
+    }
+
+    @Test
+    void rejectsNegativeThreshold() {
+        assertThrows(IllegalArgumentException.class, () -> new OjsPinningMonitor(Duration.ofMillis(-1)));
+    }
+
+    private void pinWhileRunning(String jobType) throws Exception {
+        monitor.apply(context(jobType), ctx -> {
+            monitor.onPinned(Thread.currentThread().threadId(), Duration.ofMillis(50), "Handler.handle:1");
+            return null;
+        });
+    }
+
+    private static JobContext context(String jobType) {
+        var job = new Job(Job.SPEC_VERSION, "job-1", jobType, "default",
+                List.of(), Map.of(), 0, 0, null, null, null, null, null,
+                "active", 1, null, null, null, null, null, null, List.of());
+        var ctx = mock(JobContext.class);
+        when(ctx.job()).thenReturn(job);
+        return ctx;
+    }
+}
@@ -0,0 +1,102 @@
+package org.openjobspec.common;
+
+import org.junit.jupiter.api.Test;
+import org.openjobspec.ojs.JobContext;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class OjsPrefetchBufferTest {
+
+    @Test
+    void sizesWorkerForSlotsAndDepth() {
+        var buffer = new OjsPrefetchBuffer(4, 2);
+
+        assertEquals(6, buffer.workerConcurrency());
+        assertEquals(4, buffer.getSlots());
+        assertEquals(2, buffer.getDepth());
+    }
+
+    @Test
+    void holdsJobsBeyondSlotsAndHeartbeatsThem() throws Exception {
+        var buffer = new OjsPrefetchBuffer(1, 1, Duration.ofMillis(10));
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var first = Thread.ofVirtual().start(() -> run(buffer, mock(JobContext.class), () -> {
+            started.countDown();
+            release.await();
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        var heldCtx = mock(JobContext.class);
+        var heldRan = new CountDownLatch(1);
+        var held = Thread.ofVirtual().start(() -> run(buffer, heldCtx, heldRan::countDown));
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (buffer.getHeldCount() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(1, buffer.getHeldCount());
+        assertFalse(heldRan.await(50, TimeUnit.MILLISECONDS));
+        verify(heldCtx, atLeastOnce()).heartbeat();
+
+        release.countDown();
+        assertTrue(heldRan.await(5, TimeUnit.SECONDS));
+        assertTrue(first.join(Duration.ofSeconds(5)));
+        assertTrue(held.join(Duration.ofSeconds(5)));
+        assertEquals(0, buffer.getHeldCount());
+    }
+
+    @Test
+    void runsJobsWithFreeSlotRightAway() throws Exception {
+        var buffer = new OjsPrefetchBuffer(2, 2, Duration.ofMillis(10));
+        var ctx = mock(JobContext.class);
+
+        buffer.apply(ctx, c -> null);
+        buffer.apply(ctx, c -> null);
+
+        verify(ctx, never()).heartbeat();
+        assertEquals(0, buffer.getHeldCount());
+    }
+
+    @Test
+    void freesSlotWhenHandlerFails() throws Exception {
+        var buffer = new OjsPrefetchBuffer(1, 0);
+        var ctx = mock(JobContext.class);
+
+        assertThrows(IllegalStateException.class, () -> buffer.apply(ctx, c -> {
+            throw new IllegalStateException("boom");
+        }));
+        buffer.apply(ctx, c -> null);
+
+        verify(ctx, never()).heartbeat();
+    }
+
+    @Test
+    void rejectsInvalidSizes() {
+        assertThrows(IllegalArgumentException.class, () -> new OjsPrefetchBuffer(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new OjsPrefetchBuffer(1, -1));
+    }
+
+    private static void run(OjsPrefetchBuffer buffer, JobContext ctx, Body body) {
+        try {
+            buffer.apply(ctx, c -> {
+                body.run();
+                return null;
+            });
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private interface Body {
+        void run() throws Exception;
+    }
+}
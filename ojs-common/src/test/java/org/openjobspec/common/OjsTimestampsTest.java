@@ -0,0 +1,60 @@
+package org.openjobspec.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class OjsTimestampsTest {
+
+    @Test
+    void matchesInstantParse() {
+        for (var timestamp : List.of(
+                "2026-03-01T12:00:00Z",
+                "2026-03-01T12:00:00.250Z",
+                "2026-03-01T12:00:00.2Z",
+                "2026-03-01T12:00:00.123456789Z",
+                "2026-03-01t12:00:00z",
+                "2024-02-29T23:59:59.999Z",
+                "2000-01-01T00:00:00Z",
+                "1969-12-31T23:59:59.500Z",
+                "1900-03-01T00:00:00Z",
+                "2026-03-01T12:00:00+05:30",
+                "2026-03-01T12:00:00.750-08:00")) {
+            assertEquals(Instant.parse(timestamp).toEpochMilli(), OjsTimestamps.epochMillis(timestamp), timestamp);
+        }
+    }
+
+    @Test
+    void rejectsAbsentAndMalformedTimestamps() {
+        for (var timestamp : new String[] {null, "", "yesterday", "2026-03-01", "2026-02-30T12:00:00Z",
+                "2026-13-01T12:00:00Z", "2026-03-01T12:60:00Z", "2026-03-01T12:00:00"}) {
+            assertEquals(-1, OjsTimestamps.epochMillis(timestamp), timestamp);
+        }
+    }
+
+    @Test
+    void doesNotAllocateForUsualTimestamps() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+        var timestamp = "2026-03-01T12:00:00.250Z";
+        long sum = 0;
+        for (int i = 0; i < 10_000; i++) {
+            sum += OjsTimestamps.epochMillis(timestamp);
+        }
+
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < 10_000; i++) {
+            sum += OjsTimestamps.epochMillis(timestamp);
+        }
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        assertNotEquals(0, sum);
+        assertTrue(allocated < 1024, "allocated " + allocated + " bytes");
+    }
+}
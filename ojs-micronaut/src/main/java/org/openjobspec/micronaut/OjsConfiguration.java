@@ -1,7 +1,13 @@
 package org.openjobspec.micronaut;
 
 import io.micronaut.context.annotation.ConfigurationProperties;
+import org.openjobspec.common.OjsEventDispatcher;
+import org.openjobspec.common.OjsEventFilter;
+import org.openjobspec.common.OjsEventStream;
+import org.openjobspec.common.OjsPinningMonitor;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
 import java.util.List;
 
 /**
@@ -12,12 +18,33 @@ import java.util.List;
  *   <li>{@code ojs.url} — Backend URL (default: {@code http://localhost:8080})</li>
  *   <li>{@code ojs.queues} — Worker poll queues (default: {@code [default]})</li>
  *   <li>{@code ojs.concurrency} — Worker concurrency (default: {@code 10})</li>
- *   <li>{@code ojs.worker.enabled} — Auto-start worker on server startup (default: {@code true})</li>
- *   <li>{@code ojs.events.enabled} — Enable SSE event bridge (default: {@code false})</li>
- *   <li>{@code ojs.events.channel} — SSE subscription channel (default: {@code *})</li>
- *   <li>{@code ojs.encryption.enabled} — Enable payload encryption (default: {@code false})</li>
- *   <li>{@code ojs.encryption.key} — Base64-encoded AES-256 key</li>
- *   <li>{@code ojs.encryption.key-id} — Key identifier for rotation</li>
+ *   <li>{@code ojs.http-version} — Preferred HTTP version (default: {@code HTTP_1_1})</li>
+ *   <li>{@code ojs.http-connect-timeout} — Connection timeout (default: {@code 5s})</li>
+ *   <li>{@code ojs.health-cache-ttl} — How long a health check result is reused (default: {@code 10s})</li>
+ *   <li>{@code ojs.health-timeout} — Maximum time to wait for a health check before reporting DOWN
+ *       (default: {@code 3s})</li>
+ *   <li>{@code ojs.metrics-max-job-types} — Job types, and queues, tagged individually in metrics, further values are
+ *       tagged {@code other} (default: {@code 1000})</li>
+ *   <li>{@code ojs.worker-enabled} — Auto-start worker on server startup (default: {@code true})</li>
+ *   <li>{@code ojs.worker-execution} — {@code POOL} bounds jobs in flight by {@code ojs.concurrency},
+ *       {@code VIRTUAL_THREADS} runs each job on its own virtual thread bounded by
+ *       {@code ojs.worker-max-in-flight} (default: {@code POOL})</li>
+ *   <li>{@code ojs.worker-max-in-flight} — Maximum jobs in flight in virtual-threads mode (default: {@code 1000})</li>
+ *   <li>{@code ojs.worker-pinned-threshold} — Minimum carrier thread pin reported in virtual-threads mode (default: {@code 20ms})</li>
+ *   <li>{@code ojs.events-enabled} — Enable SSE event bridge (default: {@code false})</li>
+ *   <li>{@code ojs.events-channel} — SSE subscription channel (default: {@code *})</li>
+ *   <li>{@code ojs.events-queue-capacity} — Events buffered for slow listeners (default: {@code 1024})</li>
+ *   <li>{@code ojs.events-overflow-policy} — What happens when the buffer is full:
+ *       {@code BLOCK}, {@code DROP_OLDEST}, {@code DROP_NEWEST} or {@code COALESCE} (default: {@code BLOCK})</li>
+ *   <li>{@code ojs.events-reconnect-backoff} — Delay before reconnecting a dropped stream, doubled per failure (default: {@code 500ms})</li>
+ *   <li>{@code ojs.events-reconnect-max-backoff} — Upper bound of the reconnect delay (default: {@code 30s})</li>
+ *   <li>{@code ojs.events-dedupe-window} — Recent event IDs remembered to drop replayed events (default: {@code 1024})</li>
+ *   <li>{@code ojs.events-type-prefixes} — Publish only events whose type starts with one of these (default: all)</li>
+ *   <li>{@code ojs.events-queues} — Publish only events of jobs on these queues (default: all)</li>
+ *   <li>{@code ojs.events-job-types} — Publish only events of these job types (default: all)</li>
+ *   <li>{@code ojs.encryption-enabled} — Enable payload encryption (default: {@code false})</li>
+ *   <li>{@code ojs.encryption-key} — Base64-encoded AES-256 key</li>
+ *   <li>{@code ojs.encryption-key-id} — Key identifier for rotation</li>
  * </ul>
  */
 @ConfigurationProperties("ojs")
@@ -32,15 +59,66 @@ public class OjsConfiguration {
     /** Worker concurrency. */
     private int concurrency = 10;
 
+    /** Preferred HTTP version of the shared transport. */
+    private HttpClient.Version httpVersion = HttpClient.Version.HTTP_1_1;
+
+    /** Timeout for establishing a connection. */
+    private Duration httpConnectTimeout = Duration.ofSeconds(5);
+
+    /** How long a health check result is reused before the backend is probed again. */
+    private Duration healthCacheTtl = Duration.ofSeconds(10);
+
+    /** Maximum time to wait for a backend health check before reporting DOWN. */
+    private Duration healthTimeout = Duration.ofSeconds(3);
+
+    /** Maximum number of job types, and of queues, tagged individually in metrics. */
+    private int metricsMaxJobTypes = OjsMicrometerMetrics.DEFAULT_MAX_JOB_TYPES;
+
     /** Whether the worker should auto-start on server startup. */
     private boolean workerEnabled = true;
 
+    /** How job handlers are scheduled. */
+    private WorkerExecution workerExecution = WorkerExecution.POOL;
+
+    /** Maximum jobs in flight in virtual-threads execution mode. */
+    private int workerMaxInFlight = 1000;
+
+    /** Minimum time a job has to pin its carrier thread to be reported in virtual-threads mode. */
+    private Duration workerPinnedThreshold = OjsPinningMonitor.DEFAULT_THRESHOLD;
+
+    /** Jobs fetched ahead of the free worker slots and held until one frees up; 0 disables prefetching. */
+    private int workerPrefetch = 0;
+
     /** Whether the SSE event bridge is enabled. */
     private boolean eventsEnabled = false;
 
     /** SSE channel to subscribe to ({@code *} for all events). */
     private String eventsChannel = "*";
 
+    /** Maximum number of events buffered while listeners catch up. */
+    private int eventsQueueCapacity = OjsEventDispatcher.DEFAULT_CAPACITY;
+
+    /** What to do with new events when the buffer is full. */
+    private OjsEventDispatcher.OverflowPolicy eventsOverflowPolicy = OjsEventDispatcher.OverflowPolicy.BLOCK;
+
+    /** Delay before reconnecting a dropped event stream, doubled on every further failure. */
+    private Duration eventsReconnectBackoff = OjsEventStream.Reconnect.DEFAULT.initialBackoff();
+
+    /** Upper bound of the reconnect delay. */
+    private Duration eventsReconnectMaxBackoff = OjsEventStream.Reconnect.DEFAULT.maxBackoff();
+
+    /** Number of recent event IDs remembered to drop events replayed after a reconnect. */
+    private int eventsDedupeWindow = OjsEventStream.Reconnect.DEFAULT.dedupeWindow();
+
+    /** Event type prefixes to publish, e.g. {@code job.failed}; empty for all. */
+    private List<String> eventsTypePrefixes = List.of();
+
+    /** Queues whose events are published; empty for all. */
+    private List<String> eventsQueues = List.of();
+
+    /** Job types whose events are published; empty for all. */
+    private List<String> eventsJobTypes = List.of();
+
     /** Whether encryption middleware is enabled. */
     private boolean encryptionEnabled = false;
 
@@ -80,6 +158,56 @@ public class OjsConfiguration {
         this.concurrency = concurrency;
     }
 
+    // --- http.version ---
+
+    public HttpClient.Version getHttpVersion() {
+        return httpVersion;
+    }
+
+    public void setHttpVersion(HttpClient.Version httpVersion) {
+        this.httpVersion = httpVersion;
+    }
+
+    // --- http.connect-timeout ---
+
+    public Duration getHttpConnectTimeout() {
+        return httpConnectTimeout;
+    }
+
+    public void setHttpConnectTimeout(Duration httpConnectTimeout) {
+        this.httpConnectTimeout = httpConnectTimeout;
+    }
+
+    // --- health.cache-ttl ---
+
+    public Duration getHealthCacheTtl() {
+        return healthCacheTtl;
+    }
+
+    public void setHealthCacheTtl(Duration healthCacheTtl) {
+        this.healthCacheTtl = healthCacheTtl;
+    }
+
+    // --- health.timeout ---
+
+    public Duration getHealthTimeout() {
+        return healthTimeout;
+    }
+
+    public void setHealthTimeout(Duration healthTimeout) {
+        this.healthTimeout = healthTimeout;
+    }
+
+    // --- metrics.max-job-types ---
+
+    public int getMetricsMaxJobTypes() {
+        return metricsMaxJobTypes;
+    }
+
+    public void setMetricsMaxJobTypes(int metricsMaxJobTypes) {
+        this.metricsMaxJobTypes = metricsMaxJobTypes;
+    }
+
     // --- worker.enabled ---
 
     public boolean isWorkerEnabled() {
@@ -90,6 +218,57 @@ public class OjsConfiguration {
         this.workerEnabled = workerEnabled;
     }
 
+    // --- worker.execution ---
+
+    public WorkerExecution getWorkerExecution() {
+        return workerExecution;
+    }
+
+    public void setWorkerExecution(WorkerExecution workerExecution) {
+        this.workerExecution = workerExecution;
+    }
+
+    // --- worker.max-in-flight ---
+
+    public int getWorkerMaxInFlight() {
+        return workerMaxInFlight;
+    }
+
+    public void setWorkerMaxInFlight(int workerMaxInFlight) {
+        this.workerMaxInFlight = workerMaxInFlight;
+    }
+
+    // --- worker.pinned-threshold ---
+
+    public Duration getWorkerPinnedThreshold() {
+        return workerPinnedThreshold;
+    }
+
+    public void setWorkerPinnedThreshold(Duration workerPinnedThreshold) {
+        this.workerPinnedThreshold = workerPinnedThreshold;
+    }
+
+    // --- worker.prefetch ---
+
+    public int getWorkerPrefetch() {
+        return workerPrefetch;
+    }
+
+    public void setWorkerPrefetch(int workerPrefetch) {
+        if (workerPrefetch < 0) {
+            throw new IllegalArgumentException("ojs.worker-prefetch must not be negative: " + workerPrefetch);
+        }
+        this.workerPrefetch = workerPrefetch;
+    }
+
+    /**
+     * The number of jobs the worker runs at once: {@code worker.max-in-flight} in
+     * virtual-threads mode, otherwise {@code concurrency}.
+     */
+    public int resolvedConcurrency() {
+        return workerExecution == WorkerExecution.VIRTUAL_THREADS ? workerMaxInFlight : concurrency;
+    }
+
     // --- events.enabled ---
 
     public boolean isEventsEnabled() {
@@ -110,6 +289,96 @@ public class OjsConfiguration {
         this.eventsChannel = eventsChannel;
     }
 
+    // --- events.queue-capacity ---
+
+    public int getEventsQueueCapacity() {
+        return eventsQueueCapacity;
+    }
+
+    public void setEventsQueueCapacity(int eventsQueueCapacity) {
+        this.eventsQueueCapacity = eventsQueueCapacity;
+    }
+
+    // --- events.overflow-policy ---
+
+    public OjsEventDispatcher.OverflowPolicy getEventsOverflowPolicy() {
+        return eventsOverflowPolicy;
+    }
+
+    public void setEventsOverflowPolicy(OjsEventDispatcher.OverflowPolicy eventsOverflowPolicy) {
+        this.eventsOverflowPolicy = eventsOverflowPolicy;
+    }
+
+    // --- events.reconnect-backoff ---
+
+    public Duration getEventsReconnectBackoff() {
+        return eventsReconnectBackoff;
+    }
+
+    public void setEventsReconnectBackoff(Duration eventsReconnectBackoff) {
+        this.eventsReconnectBackoff = eventsReconnectBackoff;
+    }
+
+    // --- events.reconnect-max-backoff ---
+
+    public Duration getEventsReconnectMaxBackoff() {
+        return eventsReconnectMaxBackoff;
+    }
+
+    public void setEventsReconnectMaxBackoff(Duration eventsReconnectMaxBackoff) {
+        this.eventsReconnectMaxBackoff = eventsReconnectMaxBackoff;
+    }
+
+    // --- events.dedupe-window ---
+
+    public int getEventsDedupeWindow() {
+        return eventsDedupeWindow;
+    }
+
+    public void setEventsDedupeWindow(int eventsDedupeWindow) {
+        this.eventsDedupeWindow = eventsDedupeWindow;
+    }
+
+    // --- events.type-prefixes ---
+
+    public List<String> getEventsTypePrefixes() {
+        return eventsTypePrefixes;
+    }
+
+    public void setEventsTypePrefixes(List<String> eventsTypePrefixes) {
+        this.eventsTypePrefixes = eventsTypePrefixes;
+    }
+
+    // --- events.queues ---
+
+    public List<String> getEventsQueues() {
+        return eventsQueues;
+    }
+
+    public void setEventsQueues(List<String> eventsQueues) {
+        this.eventsQueues = eventsQueues;
+    }
+
+    // --- events.job-types ---
+
+    public List<String> getEventsJobTypes() {
+        return eventsJobTypes;
+    }
+
+    public void setEventsJobTypes(List<String> eventsJobTypes) {
+        this.eventsJobTypes = eventsJobTypes;
+    }
+
+    /** The filter applied to events published by the event bridge. */
+    public OjsEventFilter getEventsFilter() {
+        return new OjsEventFilter(eventsTypePrefixes, eventsQueues, eventsJobTypes);
+    }
+
+    /** The reconnect settings of the event bridge's stream. */
+    public OjsEventStream.Reconnect getEventsReconnect() {
+        return new OjsEventStream.Reconnect(eventsReconnectBackoff, eventsReconnectMaxBackoff, eventsDedupeWindow);
+    }
+
     // --- encryption.enabled ---
 
     public boolean isEncryptionEnabled() {
@@ -139,4 +408,12 @@ public class OjsConfiguration {
     public void setEncryptionKeyId(String encryptionKeyId) {
         this.encryptionKeyId = encryptionKeyId;
     }
+
+    /** How job handlers are scheduled. */
+    public enum WorkerExecution {
+        /** Jobs in flight are bounded by {@code concurrency}, sized like a thread pool. */
+        POOL,
+        /** Each job runs on its own virtual thread, bounded only by {@code worker.max-in-flight}. */
+        VIRTUAL_THREADS
+    }
 }
@@ -5,12 +5,19 @@ import io.micronaut.context.event.ApplicationEventListener;
 import io.micronaut.context.event.ApplicationEventPublisher;
 import io.micronaut.runtime.event.ApplicationShutdownEvent;
 import io.micronaut.runtime.server.event.ServerStartupEvent;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
 import jakarta.inject.Singleton;
+import org.openjobspec.common.OjsEventDispatcher;
+import org.openjobspec.common.OjsEventFilter;
+import org.openjobspec.common.OjsEventStream;
 import org.openjobspec.ojs.Event;
-import org.openjobspec.ojs.SSESubscription;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.net.http.HttpClient;
+import java.util.Map;
+
 /**
  * Bridges OJS server-sent events (SSE) into the Micronaut event system.
  *
@@ -18,7 +25,23 @@ import org.slf4j.LoggerFactory;
  * stream on server startup and publishes each event as an {@link OjsJobEvent}
  * through Micronaut's {@link ApplicationEventPublisher}.</p>
  *
- * <p>The subscription is cancelled on application shutdown.</p>
+ * <p>Events are published from an {@link OjsEventDispatcher} thread rather than the
+ * SSE reader, so slow listeners do not stall the stream. Up to
+ * {@code ojs.events-queue-capacity} events are buffered; when listeners fall further
+ * behind, {@code ojs.events-overflow-policy} decides whether the stream waits
+ * ({@code BLOCK}, the default) or events are dropped or coalesced per job.</p>
+ *
+ * <p>The stream is an {@link OjsEventStream}: when the connection drops it reconnects
+ * with jittered exponential backoff ({@code ojs.events-reconnect-backoff} up to
+ * {@code ojs.events-reconnect-max-backoff}) and resumes from the last event ID, dropping
+ * events the server replays twice.</p>
+ *
+ * <p>{@code ojs.events-type-prefixes}, {@code ojs.events-queues} and
+ * {@code ojs.events-job-types} limit the published events. Events of unwanted types
+ * are dropped before their payload is decoded.</p>
+ *
+ * <p>The subscription is cancelled on application shutdown, after which the events
+ * already buffered are still delivered.</p>
  */
 @Singleton
 @Requires(property = "ojs.events-enabled", value = "true")
@@ -27,13 +50,31 @@ public class OjsEventBridge implements ApplicationEventListener<ServerStartupEve
     private static final Logger LOG = LoggerFactory.getLogger(OjsEventBridge.class);
 
     private final OjsConfiguration config;
-    private final ApplicationEventPublisher<OjsJobEvent> publisher;
-    private volatile SSESubscription subscription;
+    private final HttpClient httpClient;
+    private final OjsEventFilter filter;
+    private final OjsEventDispatcher<OjsJobEvent> dispatcher;
+    private volatile OjsEventStream subscription;
 
     public OjsEventBridge(OjsConfiguration config,
                           ApplicationEventPublisher<OjsJobEvent> publisher) {
+        this(config, publisher, null);
+    }
+
+    /**
+     * @param config     the OJS configuration
+     * @param publisher  the publisher receiving {@link OjsJobEvent}s
+     * @param httpClient the client reading the event stream, or {@code null} to create one on startup
+     */
+    @Inject
+    public OjsEventBridge(OjsConfiguration config,
+                          ApplicationEventPublisher<OjsJobEvent> publisher,
+                          @Named("ojs") HttpClient httpClient) {
         this.config = config;
-        this.publisher = publisher;
+        this.httpClient = httpClient;
+        this.filter = config.getEventsFilter();
+        this.dispatcher = new OjsEventDispatcher<>("ojs-events",
+                config.getEventsQueueCapacity(), config.getEventsOverflowPolicy(),
+                publisher::publishEvent, OjsJobEvent::subject);
     }
 
     /**
@@ -43,18 +84,30 @@ public class OjsEventBridge implements ApplicationEventListener<ServerStartupEve
     public void onApplicationEvent(ServerStartupEvent event) {
         String channel = config.getEventsChannel();
         LOG.info("Subscribing to OJS events on channel '{}'", channel);
-        this.subscription = SSESubscription.subscribe(
+        this.subscription = OjsEventStream.open(
+                httpClient != null ? httpClient : HttpClient.newHttpClient(),
                 config.getUrl(),
                 channel,
-                sseEvent -> {
-                    Event ojsEvent = Event.fromMap(
-                            org.openjobspec.ojs.transport.Json.decodeObject(sseEvent.data())
-                    );
-                    publisher.publishEvent(new OjsJobEvent(ojsEvent));
-                }
+                sseEvent -> dispatch(sseEvent.type(), sseEvent.data()),
+                config.getEventsReconnect()
         );
     }
 
+    /**
+     * Decodes an SSE payload and queues it for the listeners. Events of types the filter
+     * rejects are dropped before decoding.
+     */
+    void dispatch(String type, String data) {
+        if (!filter.mayAccept(type)) {
+            return;
+        }
+        Map<String, Object> decoded = org.openjobspec.ojs.transport.Json.decodeObject(data);
+        if (!filter.accepts(type, decoded)) {
+            return;
+        }
+        dispatcher.submit(new OjsJobEvent(Event.fromMap(decoded)));
+    }
+
     /**
      * Cancels the SSE subscription on application shutdown.
      */
@@ -62,12 +115,18 @@ public class OjsEventBridge implements ApplicationEventListener<ServerStartupEve
     void onShutdown(ApplicationShutdownEvent event) {
         if (subscription != null) {
             LOG.info("Cancelling OJS event subscription");
-            subscription.cancel();
+            subscription.close();
         }
+        dispatcher.close();
     }
 
     /** Returns the current SSE subscription, or {@code null} if not started. */
-    public SSESubscription getSubscription() {
+    public OjsEventStream getSubscription() {
         return subscription;
     }
+
+    /** Returns the dispatcher buffering events for the listeners, for its queue depth and drop count. */
+    public OjsEventDispatcher<OjsJobEvent> getDispatcher() {
+        return dispatcher;
+    }
 }
@@ -1,39 +1,68 @@
 package org.openjobspec.micronaut;
 
+import io.micronaut.context.annotation.Bean;
 import io.micronaut.context.annotation.Factory;
 import io.micronaut.context.annotation.Requires;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
+import org.openjobspec.common.OjsHttpClients;
+import org.openjobspec.common.OjsPinningMonitor;
 import org.openjobspec.ojs.EncryptionMiddleware;
 import org.openjobspec.ojs.Middleware;
 import org.openjobspec.ojs.OJSClient;
 import org.openjobspec.ojs.OJSWorker;
 
+import java.net.http.HttpClient;
 import java.util.Base64;
 import java.util.Map;
 
 /**
- * Micronaut factory producing OJS client, worker, and encryption beans.
+ * Micronaut factory producing OJS HTTP transport, client, worker, and encryption beans.
  */
 @Factory
 public class OjsFactory {
 
+    /**
+     * The HTTP transport shared by the client and worker, so both reuse one connection pool.
+     */
+    @Singleton
+    @Named("ojs")
+    @Bean(preDestroy = "close")
+    public HttpClient ojsHttpClient(OjsConfiguration config) {
+        return OjsHttpClients.create(config.getHttpVersion(), config.getHttpConnectTimeout());
+    }
+
     @Singleton
-    public OJSClient ojsClient(OjsConfiguration config) {
+    public OJSClient ojsClient(OjsConfiguration config, @Named("ojs") HttpClient httpClient) {
         return OJSClient.builder()
                 .url(config.getUrl())
+                .httpClient(httpClient)
                 .build();
     }
 
     @Singleton
-    public OJSWorker ojsWorker(OjsConfiguration config) {
+    public OJSWorker ojsWorker(OjsConfiguration config, @Named("ojs") HttpClient httpClient) {
         return OJSWorker.builder()
                 .url(config.getUrl())
+                .httpClient(httpClient)
                 .queues(config.getQueues())
-                .concurrency(config.getConcurrency())
+                .concurrency(config.resolvedConcurrency() + config.getWorkerPrefetch())
                 .build();
     }
 
+    /**
+     * Reports job handlers that pin their carrier thread when jobs run on virtual threads.
+     * As a {@link Middleware} bean it is installed on the worker by {@link OjsWorkerLifecycle}.
+     */
+    @Singleton
+    @Requires(property = "ojs.worker-execution", pattern = "(?i)virtual[-_]threads")
+    @Bean(preDestroy = "close")
+    public OjsPinningMonitor ojsPinningMonitor(OjsConfiguration config) {
+        var monitor = new OjsPinningMonitor(config.getWorkerPinnedThreshold());
+        monitor.start();
+        return monitor;
+    }
+
     /**
      * Creates an {@link EncryptionMiddleware.EncryptionCodec} bean when encryption is enabled.
      */
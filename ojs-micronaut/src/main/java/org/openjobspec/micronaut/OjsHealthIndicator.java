@@ -1,51 +1,131 @@
 package org.openjobspec.micronaut;
 
+import io.micronaut.core.async.publisher.Publishers;
 import io.micronaut.health.HealthStatus;
 import io.micronaut.management.health.indicator.HealthIndicator;
 import io.micronaut.management.health.indicator.HealthResult;
+import io.micronaut.scheduling.TaskExecutors;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import org.openjobspec.ojs.OJSClient;
 import org.reactivestreams.Publisher;
 
+import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
 
 /**
  * Micronaut health indicator that checks the OJS backend connectivity.
+ *
+ * <p>The blocking {@code client.health()} call runs on the {@link TaskExecutors#IO I/O}
+ * executor, never on the event loop serving {@code /health}. The last result is cached
+ * for {@code ojs.health-cache-ttl}, and concurrent probes that miss the cache share a
+ * single in-flight check, so frequent readiness probes cost at most one backend call
+ * per TTL. A check that takes longer than {@code ojs.health-timeout} reports DOWN, and
+ * its call is interrupted, which aborts a blocking JDK {@code HttpClient} request.
  */
 @Singleton
 public class OjsHealthIndicator implements HealthIndicator {
 
+    private record Snapshot(HealthResult result, long checkedAtNanos) {}
+
     private final OJSClient client;
+    private final ExecutorService executor;
+    private final long ttlNanos;
+    private final Duration timeout;
+    private final LongSupplier nanoClock;
+    private volatile Snapshot snapshot;
+    private CompletableFuture<HealthResult> pending;
+
+    @Inject
+    public OjsHealthIndicator(OJSClient client, OjsConfiguration config,
+                              @Named(TaskExecutors.IO) ExecutorService executor) {
+        this(client, executor, config.getHealthCacheTtl(), config.getHealthTimeout(), System::nanoTime);
+    }
 
-    public OjsHealthIndicator(OJSClient client) {
+    OjsHealthIndicator(OJSClient client, ExecutorService executor, Duration ttl, Duration timeout,
+                       LongSupplier nanoClock) {
         this.client = client;
+        this.executor = executor;
+        this.ttlNanos = ttl.toNanos();
+        this.timeout = timeout;
+        this.nanoClock = nanoClock;
     }
 
     @Override
     public Publisher<HealthResult> getResult() {
-        return subscriber -> {
-            subscriber.onSubscribe(new org.reactivestreams.Subscription() {
-                @Override
-                public void request(long n) {
-                    try {
-                        var status = client.health();
-                        subscriber.onNext(HealthResult.builder("ojs")
-                                .status(HealthStatus.UP)
-                                .details(status)
-                                .build());
-                    } catch (Exception e) {
-                        subscriber.onNext(HealthResult.builder("ojs")
-                                .status(HealthStatus.DOWN)
-                                .details(Map.of("error", e.getMessage()))
-                                .build());
-                    }
-                    subscriber.onComplete();
-                }
-
-                @Override
-                public void cancel() {}
-            });
-        };
+        return Publishers.fromCompletableFuture(this::check);
+    }
+
+    /** The cached result while fresh, otherwise the shared in-flight check. */
+    CompletableFuture<HealthResult> check() {
+        HealthResult cached = fresh();
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        synchronized (this) {
+            cached = fresh();
+            if (cached != null) {
+                return CompletableFuture.completedFuture(cached);
+            }
+            if (pending == null || pending.isDone()) {
+                pending = probe().thenApply(result -> {
+                    snapshot = new Snapshot(result, nanoClock.getAsLong());
+                    return result;
+                });
+            }
+            return pending;
+        }
+    }
+
+    private HealthResult fresh() {
+        Snapshot current = snapshot;
+        if (current != null && nanoClock.getAsLong() - current.checkedAtNanos() < ttlNanos) {
+            return current.result();
+        }
+        return null;
     }
-}
 
+    /** One backend call on the executor, reported DOWN and interrupted once it outlives the timeout. */
+    private CompletableFuture<HealthResult> probe() {
+        var result = new CompletableFuture<HealthResult>();
+        Future<?> call;
+        try {
+            call = executor.submit(() -> result.complete(callHealth()));
+        } catch (RuntimeException e) {
+            return CompletableFuture.completedFuture(down(e));
+        }
+        return result.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS).exceptionally(e -> {
+            call.cancel(true);
+            return down("OJS health check timed out after " + timeout.toMillis() + "ms");
+        });
+    }
+
+    private HealthResult callHealth() {
+        try {
+            var status = client.health();
+            return HealthResult.builder("ojs")
+                    .status(HealthStatus.UP)
+                    .details(status)
+                    .build();
+        } catch (Exception e) {
+            return down(e);
+        }
+    }
+
+    private static HealthResult down(Exception e) {
+        return down(String.valueOf(e.getMessage()));
+    }
+
+    private static HealthResult down(String error) {
+        return HealthResult.builder("ojs")
+                .status(HealthStatus.DOWN)
+                .details(Map.of("error", error))
+                .build();
+    }
+}
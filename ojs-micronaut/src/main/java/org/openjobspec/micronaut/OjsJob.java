@@ -1,5 +1,7 @@
 package org.openjobspec.micronaut;
 
+import io.micronaut.context.annotation.Executable;
+
 import java.lang.annotation.Documented;
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
@@ -19,10 +21,15 @@ import java.lang.annotation.Target;
  *     }
  * }
  * }</pre>
+ *
+ * <p>Annotated methods are compiled into {@code ExecutableMethod}s and registered
+ * by {@link OjsJobProcessor} when the context starts. The method must take a
+ * single {@code JobContext} parameter.</p>
  */
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
 @Documented
+@Executable(processOnStartup = true)
 public @interface OjsJob {
 
     /** The OJS job type this handler processes (e.g. "email.send"). */
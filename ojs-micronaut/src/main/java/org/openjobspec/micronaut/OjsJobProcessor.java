@@ -1,53 +1,59 @@
 package org.openjobspec.micronaut;
 
-import io.micronaut.context.event.BeanCreatedEvent;
-import io.micronaut.context.event.BeanCreatedEventListener;
+import io.micronaut.context.BeanContext;
+import io.micronaut.context.processor.ExecutableMethodProcessor;
+import io.micronaut.core.type.UnsafeExecutable;
+import io.micronaut.inject.BeanDefinition;
+import io.micronaut.inject.ExecutableMethod;
 import jakarta.inject.Singleton;
 import org.openjobspec.ojs.JobContext;
+import org.openjobspec.ojs.JobHandler;
 import org.openjobspec.ojs.OJSWorker;
 
-import java.lang.reflect.Method;
-import java.util.ArrayList;
-import java.util.List;
-
 /**
- * Listens for bean creation events and registers methods annotated with
- * {@link OjsJob} as handlers on the {@link OJSWorker}.
+ * Registers methods annotated with {@link OjsJob} as handlers on the {@link OJSWorker}.
+ *
+ * <p>{@code @OjsJob} is meta-annotated with {@code @Executable(processOnStartup = true)},
+ * so the methods are discovered by Micronaut's annotation processor at compile time
+ * and handed to this processor once on startup. Handlers call the generated
+ * {@link ExecutableMethod} rather than {@code Method.invoke}.</p>
  */
 @Singleton
-public class OjsJobProcessor implements BeanCreatedEventListener<Object> {
+public class OjsJobProcessor implements ExecutableMethodProcessor<OjsJob> {
 
     private final OJSWorker worker;
+    private final BeanContext beanContext;
 
-    public OjsJobProcessor(OJSWorker worker) {
+    public OjsJobProcessor(OJSWorker worker, BeanContext beanContext) {
         this.worker = worker;
+        this.beanContext = beanContext;
     }
 
     @Override
-    public Object onCreated(BeanCreatedEvent<Object> event) {
-        var bean = event.getBean();
-        if (bean instanceof OJSWorker || bean instanceof OjsJobProcessor) {
-            return bean;
-        }
-        for (Method method : bean.getClass().getDeclaredMethods()) {
-            var annotation = method.getAnnotation(OjsJob.class);
-            if (annotation != null) {
-                String jobType = annotation.value();
-                worker.register(jobType, ctx -> invokeHandler(bean, method, ctx));
-            }
+    public void process(BeanDefinition<?> beanDefinition, ExecutableMethod<?, ?> method) {
+        String jobType = method.stringValue(OjsJob.class)
+                .orElseThrow(() -> new IllegalStateException("@OjsJob on " + describe(method) + " has no job type"));
+        Class<?>[] argumentTypes = method.getArgumentTypes();
+        if (argumentTypes.length != 1 || !argumentTypes[0].isAssignableFrom(JobContext.class)) {
+            throw new IllegalStateException("@OjsJob method " + describe(method)
+                    + " must take a single JobContext parameter");
         }
-        return bean;
+        Object bean = beanContext.getBean(beanDefinition);
+        worker.register(jobType, handler(bean, method));
     }
 
-    private Object invokeHandler(Object bean, Method method, JobContext ctx) throws Exception {
-        try {
-            if (!method.canAccess(bean)) {
-                method.setAccessible(true);
-            }
-            return method.invoke(bean, ctx);
-        } catch (java.lang.reflect.InvocationTargetException e) {
-            if (e.getCause() instanceof Exception ex) throw ex;
-            throw new RuntimeException("Job handler threw non-exception throwable", e.getCause());
+    @SuppressWarnings("unchecked")
+    static JobHandler handler(Object bean, ExecutableMethod<?, ?> method) {
+        if (method instanceof UnsafeExecutable<?, ?> unsafe) {
+            // Skips the per-call argument validation, already done once in process()
+            var executable = (UnsafeExecutable<Object, Object>) unsafe;
+            return ctx -> executable.invokeUnsafe(bean, ctx);
         }
+        var executable = (ExecutableMethod<Object, Object>) method;
+        return ctx -> executable.invoke(bean, ctx);
+    }
+
+    private static String describe(ExecutableMethod<?, ?> method) {
+        return method.getDeclaringType().getName() + "#" + method.getMethodName();
     }
 }
@@ -4,7 +4,9 @@ import io.micronaut.context.annotation.Requires;
 import io.micronaut.context.event.ApplicationEventListener;
 import io.micronaut.runtime.event.ApplicationShutdownEvent;
 import io.micronaut.runtime.server.event.ServerStartupEvent;
+import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
+import org.openjobspec.common.OjsPrefetchBuffer;
 import org.openjobspec.ojs.Middleware;
 import org.openjobspec.ojs.OJSWorker;
 import org.slf4j.Logger;
@@ -19,6 +21,9 @@ import java.util.List;
  * the worker on a virtual thread. On {@link ApplicationShutdownEvent}, gracefully
  * stops the worker.</p>
  *
+ * <p>With {@code ojs.worker-prefetch} set, an {@link OjsPrefetchBuffer} is installed
+ * outermost, so jobs held for a slot are not seen by the other middleware.</p>
+ *
  * <p>Disabled when {@code ojs.worker-enabled} is {@code false}.</p>
  */
 @Singleton
@@ -29,10 +34,19 @@ public class OjsWorkerLifecycle implements ApplicationEventListener<ServerStartu
 
     private final OJSWorker worker;
     private final List<Middleware> middlewares;
+    private final OjsPrefetchBuffer prefetchBuffer;
 
     public OjsWorkerLifecycle(OJSWorker worker, List<Middleware> middlewares) {
+        this(worker, middlewares, null);
+    }
+
+    @Inject
+    public OjsWorkerLifecycle(OJSWorker worker, List<Middleware> middlewares, OjsConfiguration config) {
         this.worker = worker;
         this.middlewares = middlewares != null ? middlewares : List.of();
+        this.prefetchBuffer = config != null && config.getWorkerPrefetch() > 0
+                ? new OjsPrefetchBuffer(config.resolvedConcurrency(), config.getWorkerPrefetch())
+                : null;
     }
 
     /**
@@ -41,6 +55,9 @@ public class OjsWorkerLifecycle implements ApplicationEventListener<ServerStartu
      */
     @Override
     public void onApplicationEvent(ServerStartupEvent event) {
+        if (prefetchBuffer != null) {
+            worker.use("ojs-prefetch", prefetchBuffer);
+        }
         for (Middleware mw : middlewares) {
             worker.use(mw);
         }
@@ -2,7 +2,10 @@ package org.openjobspec.micronaut;
 
 import io.micronaut.context.annotation.ConfigurationProperties;
 import org.junit.jupiter.api.Test;
+import org.openjobspec.common.OjsEventDispatcher;
+import org.openjobspec.common.OjsEventStream;
 
+import java.time.Duration;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -32,6 +35,19 @@ class OjsConfigurationTest {
         assertEquals(List.of("default"), config.getQueues());
     }
 
+    @Test
+    void httpDefaults() {
+        var config = new OjsConfiguration();
+        assertEquals(java.net.http.HttpClient.Version.HTTP_1_1, config.getHttpVersion());
+        assertEquals(java.time.Duration.ofSeconds(5), config.getHttpConnectTimeout());
+    }
+
+    @Test
+    void defaultHealthCacheTtlIsTenSeconds() {
+        var config = new OjsConfiguration();
+        assertEquals(java.time.Duration.ofSeconds(10), config.getHealthCacheTtl());
+    }
+
     @Test
     void defaultConcurrencyIsTen() {
         var config = new OjsConfiguration();
@@ -87,6 +103,17 @@ class OjsConfigurationTest {
         assertFalse(config.isWorkerEnabled());
     }
 
+    @Test
+    void resolvedConcurrencyUsesMaxInFlightForVirtualThreads() {
+        var config = new OjsConfiguration();
+        config.setConcurrency(20);
+        assertEquals(20, config.resolvedConcurrency());
+
+        config.setWorkerExecution(OjsConfiguration.WorkerExecution.VIRTUAL_THREADS);
+        config.setWorkerMaxInFlight(2000);
+        assertEquals(2000, config.resolvedConcurrency());
+    }
+
     // --- Events ---
 
     @Test
@@ -115,6 +142,51 @@ class OjsConfigurationTest {
         assertEquals("jobs", config.getEventsChannel());
     }
 
+    @Test
+    void defaultEventsQueueIsBoundedAndBlocking() {
+        var config = new OjsConfiguration();
+        assertEquals(1024, config.getEventsQueueCapacity());
+        assertEquals(OjsEventDispatcher.OverflowPolicy.BLOCK, config.getEventsOverflowPolicy());
+    }
+
+    @Test
+    void eventsOverflowPolicyIsSettable() {
+        var config = new OjsConfiguration();
+        config.setEventsQueueCapacity(64);
+        config.setEventsOverflowPolicy(OjsEventDispatcher.OverflowPolicy.COALESCE);
+        assertEquals(64, config.getEventsQueueCapacity());
+        assertEquals(OjsEventDispatcher.OverflowPolicy.COALESCE, config.getEventsOverflowPolicy());
+    }
+
+    @Test
+    void defaultEventsReconnect() {
+        var reconnect = new OjsConfiguration().getEventsReconnect();
+        assertEquals(Duration.ofMillis(500), reconnect.initialBackoff());
+        assertEquals(Duration.ofSeconds(30), reconnect.maxBackoff());
+        assertEquals(1024, reconnect.dedupeWindow());
+    }
+
+    @Test
+    void eventsReconnectIsSettable() {
+        var config = new OjsConfiguration();
+        config.setEventsReconnectBackoff(Duration.ofSeconds(1));
+        config.setEventsReconnectMaxBackoff(Duration.ofMinutes(1));
+        config.setEventsDedupeWindow(0);
+        assertEquals(new OjsEventStream.Reconnect(Duration.ofSeconds(1), Duration.ofMinutes(1), 0),
+                config.getEventsReconnect());
+    }
+
+    @Test
+    void eventsFilterIsSettable() {
+        var config = new OjsConfiguration();
+        assertTrue(config.getEventsTypePrefixes().isEmpty());
+        config.setEventsTypePrefixes(List.of("job.failed"));
+        config.setEventsQueues(List.of("payments"));
+        config.setEventsJobTypes(List.of("invoice.send"));
+        assertFalse(config.getEventsFilter().mayAccept("job.completed"));
+        assertTrue(config.getEventsFilter().needsPayload("job.failed"));
+    }
+
     // --- Encryption ---
 
     @Test
@@ -5,10 +5,15 @@ import io.micronaut.runtime.event.ApplicationShutdownEvent;
 import io.micronaut.runtime.server.event.ServerStartupEvent;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.openjobspec.common.OjsEventDispatcher;
+
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class OjsEventBridgeTest {
@@ -63,6 +68,56 @@ class OjsEventBridgeTest {
                 io.micronaut.runtime.event.annotation.EventListener.class));
     }
 
+    @Test
+    void publishesDecodedEventsFromDispatchThread() {
+        var bridge = new OjsEventBridge(new OjsConfiguration(), publisher);
+
+        bridge.dispatch("job.completed", "{\"type\":\"job.completed\",\"subject\":\"job-1\"}");
+        bridge.onShutdown(shutdownEvent);
+
+        var captor = ArgumentCaptor.forClass(OjsJobEvent.class);
+        verify(publisher).publishEvent(captor.capture());
+        assertEquals("job.completed", captor.getValue().type());
+        assertEquals("job-1", captor.getValue().subject());
+    }
+
+    @Test
+    void dropsFilteredEventsBeforeDecoding() {
+        var config = new OjsConfiguration();
+        config.setEventsTypePrefixes(List.of("job.failed"));
+        config.setEventsQueues(List.of("payments"));
+        var bridge = new OjsEventBridge(config, publisher);
+
+        bridge.dispatch("job.completed", "not json");
+        bridge.dispatch("job.failed", "{\"type\":\"job.failed\",\"subject\":\"job-1\",\"data\":{\"queue\":\"default\"}}");
+        bridge.dispatch("job.failed", "{\"type\":\"job.failed\",\"subject\":\"job-2\",\"data\":{\"queue\":\"payments\"}}");
+        bridge.onShutdown(shutdownEvent);
+
+        var captor = ArgumentCaptor.forClass(OjsJobEvent.class);
+        verify(publisher).publishEvent(captor.capture());
+        assertEquals("job-2", captor.getValue().subject());
+    }
+
+    @Test
+    void dispatcherUsesConfiguredQueue() {
+        var config = new OjsConfiguration();
+        config.setEventsQueueCapacity(16);
+        config.setEventsOverflowPolicy(OjsEventDispatcher.OverflowPolicy.DROP_OLDEST);
+
+        var dispatcher = new OjsEventBridge(config, publisher).getDispatcher();
+
+        assertEquals(16, dispatcher.getCapacity());
+        assertEquals(OjsEventDispatcher.OverflowPolicy.DROP_OLDEST, dispatcher.getOverflowPolicy());
+    }
+
+    @Test
+    void injectsSharedHttpClient() throws NoSuchMethodException {
+        var constructor = OjsEventBridge.class.getConstructor(
+                OjsConfiguration.class, ApplicationEventPublisher.class, java.net.http.HttpClient.class);
+        assertTrue(constructor.isAnnotationPresent(jakarta.inject.Inject.class));
+        assertEquals("ojs", constructor.getParameters()[2].getAnnotation(jakarta.inject.Named.class).value());
+    }
+
     @Test
     void configChannelDefaultIsWildcard() {
         var config = new OjsConfiguration();
@@ -8,6 +8,7 @@ import org.openjobspec.ojs.OJSClient;
 import org.openjobspec.ojs.OJSWorker;
 
 import java.lang.reflect.Method;
+import java.net.http.HttpClient;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -24,23 +25,42 @@ class OjsFactoryBeanCreationTest {
 
     @Test
     void ojsClientMethodHasSingletonAnnotation() throws NoSuchMethodException {
-        Method method = OjsFactory.class.getDeclaredMethod("ojsClient", OjsConfiguration.class);
+        Method method = OjsFactory.class.getDeclaredMethod("ojsClient", OjsConfiguration.class, HttpClient.class);
         assertTrue(method.isAnnotationPresent(jakarta.inject.Singleton.class));
     }
 
     @Test
     void ojsWorkerMethodHasSingletonAnnotation() throws NoSuchMethodException {
-        Method method = OjsFactory.class.getDeclaredMethod("ojsWorker", OjsConfiguration.class);
+        Method method = OjsFactory.class.getDeclaredMethod("ojsWorker", OjsConfiguration.class, HttpClient.class);
         assertTrue(method.isAnnotationPresent(jakarta.inject.Singleton.class));
     }
 
+    @Test
+    void ojsHttpClientIsNamedSingleton() throws NoSuchMethodException {
+        Method method = OjsFactory.class.getDeclaredMethod("ojsHttpClient", OjsConfiguration.class);
+        assertTrue(method.isAnnotationPresent(jakarta.inject.Singleton.class));
+        assertEquals("ojs", method.getAnnotation(jakarta.inject.Named.class).value());
+    }
+
+    @Test
+    void factoryCreatesHttpClientFromConfiguration() {
+        var config = new OjsConfiguration();
+        config.setHttpVersion(HttpClient.Version.HTTP_2);
+        config.setHttpConnectTimeout(java.time.Duration.ofSeconds(2));
+
+        var httpClient = new OjsFactory().ojsHttpClient(config);
+
+        assertEquals(HttpClient.Version.HTTP_2, httpClient.version());
+        assertEquals(java.time.Duration.ofSeconds(2), httpClient.connectTimeout().orElseThrow());
+    }
+
     @Test
     void factoryCreatesClientFromConfiguration() {
         var config = new OjsConfiguration();
         config.setUrl("http://custom:9999");
 
         var factory = new OjsFactory();
-        var client = factory.ojsClient(config);
+        var client = factory.ojsClient(config, factory.ojsHttpClient(config));
 
         assertNotNull(client);
         assertInstanceOf(OJSClient.class, client);
@@ -54,7 +74,7 @@ class OjsFactoryBeanCreationTest {
         config.setConcurrency(32);
 
         var factory = new OjsFactory();
-        var worker = factory.ojsWorker(config);
+        var worker = factory.ojsWorker(config, factory.ojsHttpClient(config));
 
         assertNotNull(worker);
         assertInstanceOf(OJSWorker.class, worker);
@@ -64,7 +84,7 @@ class OjsFactoryBeanCreationTest {
     void factoryCreatesClientWithDefaultConfig() {
         var config = new OjsConfiguration();
         var factory = new OjsFactory();
-        var client = factory.ojsClient(config);
+        var client = factory.ojsClient(config, factory.ojsHttpClient(config));
 
         assertNotNull(client);
     }
@@ -73,8 +93,17 @@ class OjsFactoryBeanCreationTest {
     void factoryCreatesWorkerWithDefaultConfig() {
         var config = new OjsConfiguration();
         var factory = new OjsFactory();
-        var worker = factory.ojsWorker(config);
+        var worker = factory.ojsWorker(config, factory.ojsHttpClient(config));
 
         assertNotNull(worker);
     }
+
+    @Test
+    void pinningMonitorRequiresVirtualThreadExecution() throws NoSuchMethodException {
+        Method method = OjsFactory.class.getDeclaredMethod("ojsPinningMonitor", OjsConfiguration.class);
+        var requires = method.getAnnotation(io.micronaut.context.annotation.Requires.class);
+        assertEquals("ojs.worker-execution", requires.property());
+        assertTrue("virtual-threads".matches(requires.pattern()));
+        assertTrue("VIRTUAL_THREADS".matches(requires.pattern()));
+    }
 }
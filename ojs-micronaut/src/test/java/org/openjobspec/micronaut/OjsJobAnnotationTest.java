@@ -28,6 +28,13 @@ class OjsJobAnnotationTest {
         assertArrayEquals(new ElementType[]{ElementType.METHOD}, target.value());
     }
 
+    @Test
+    void annotationIsProcessedOnStartup() {
+        var executable = OjsJob.class.getAnnotation(io.micronaut.context.annotation.Executable.class);
+        assertNotNull(executable);
+        assertTrue(executable.processOnStartup());
+    }
+
     @Test
     void annotationIsDocumented() {
         assertTrue(OjsJob.class.isAnnotationPresent(Documented.class));
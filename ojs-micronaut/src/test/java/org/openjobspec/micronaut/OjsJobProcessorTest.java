@@ -1,15 +1,21 @@
 package org.openjobspec.micronaut;
 
+import io.micronaut.context.BeanContext;
+import io.micronaut.context.processor.ExecutableMethodProcessor;
+import io.micronaut.core.type.UnsafeExecutable;
+import io.micronaut.inject.BeanDefinition;
+import io.micronaut.inject.ExecutableMethod;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.openjobspec.ojs.JobContext;
+import org.openjobspec.ojs.JobHandler;
 import org.openjobspec.ojs.OJSWorker;
 
-import io.micronaut.context.event.BeanCreatedEvent;
-
 import java.util.Map;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -20,6 +26,15 @@ class OjsJobProcessorTest {
     @Mock
     OJSWorker worker;
 
+    @Mock
+    BeanContext beanContext;
+
+    @Mock
+    BeanDefinition<AnnotatedBean> beanDefinition;
+
+    @Mock
+    ExecutableMethod<AnnotatedBean, Object> method;
+
     @Test
     void processorIsSingleton() {
         assertTrue(OjsJobProcessor.class.isAnnotationPresent(
@@ -27,110 +42,65 @@ class OjsJobProcessorTest {
     }
 
     @Test
-    void implementsBeanCreatedEventListener() {
-        assertTrue(io.micronaut.context.event.BeanCreatedEventListener.class
-                .isAssignableFrom(OjsJobProcessor.class));
-    }
-
-    @Test
-    void skipsWorkerBeanRegistration() {
-        var processor = new OjsJobProcessor(worker);
-
-        @SuppressWarnings("unchecked")
-        var event = mock(BeanCreatedEvent.class);
-        when(event.getBean()).thenReturn(worker);
-
-        var result = processor.onCreated(event);
-        assertSame(worker, result);
-        verify(worker, never()).register(anyString(), any());
+    void implementsExecutableMethodProcessor() {
+        assertTrue(ExecutableMethodProcessor.class.isAssignableFrom(OjsJobProcessor.class));
     }
 
     @Test
-    void skipsProcessorBeanRegistration() {
-        var processor = new OjsJobProcessor(worker);
-
-        @SuppressWarnings("unchecked")
-        var event = mock(BeanCreatedEvent.class);
-        when(event.getBean()).thenReturn(processor);
-
-        var result = processor.onCreated(event);
-        assertSame(processor, result);
-        verify(worker, never()).register(anyString(), any());
-    }
-
-    @Test
-    void registersAnnotatedMethodsAsHandlers() {
-        var processor = new OjsJobProcessor(worker);
+    void registersExecutableMethodAsHandler() throws Exception {
         var bean = new AnnotatedBean();
+        var ctx = mock(JobContext.class);
+        when(method.stringValue(OjsJob.class)).thenReturn(Optional.of("test.process"));
+        when(method.getArgumentTypes()).thenReturn(new Class<?>[]{JobContext.class});
+        when(beanContext.getBean(beanDefinition)).thenReturn(bean);
+        when(method.invoke(bean, ctx)).thenReturn(Map.of("done", true));
 
-        @SuppressWarnings("unchecked")
-        var event = mock(BeanCreatedEvent.class);
-        when(event.getBean()).thenReturn(bean);
-
-        processor.onCreated(event);
+        new OjsJobProcessor(worker, beanContext).process(beanDefinition, method);
 
-        verify(worker).register(eq("test.process"), any());
+        var handler = ArgumentCaptor.forClass(JobHandler.class);
+        verify(worker).register(eq("test.process"), handler.capture());
+        assertEquals(Map.of("done", true), handler.getValue().handle(ctx));
     }
 
     @Test
-    void returnsOriginalBean() {
-        var processor = new OjsJobProcessor(worker);
+    @SuppressWarnings("unchecked")
+    void invokesUnsafeExecutableWithoutArgumentValidation() throws Exception {
         var bean = new AnnotatedBean();
-
-        @SuppressWarnings("unchecked")
-        var event = mock(BeanCreatedEvent.class);
-        when(event.getBean()).thenReturn(bean);
-
-        var result = processor.onCreated(event);
-        assertSame(bean, result);
+        var ctx = mock(JobContext.class);
+        ExecutableMethod<AnnotatedBean, Object> unsafeMethod = mock(ExecutableMethod.class,
+                withSettings().extraInterfaces(UnsafeExecutable.class));
+        var unsafe = (UnsafeExecutable<AnnotatedBean, Object>) unsafeMethod;
+        when(unsafeMethod.stringValue(OjsJob.class)).thenReturn(Optional.of("test.process"));
+        when(unsafeMethod.getArgumentTypes()).thenReturn(new Class<?>[]{JobContext.class});
+        when(beanContext.getBean(beanDefinition)).thenReturn(bean);
+        when(unsafe.invokeUnsafe(bean, ctx)).thenReturn(Map.of("done", true));
+
+        new OjsJobProcessor(worker, beanContext).process(beanDefinition, unsafeMethod);
+
+        var handler = ArgumentCaptor.forClass(JobHandler.class);
+        verify(worker).register(eq("test.process"), handler.capture());
+        assertEquals(Map.of("done", true), handler.getValue().handle(ctx));
+        verify(unsafe).invokeUnsafe(bean, ctx);
+        verify(unsafeMethod, never()).invoke(any(), any(Object[].class));
     }
 
     @Test
-    void ignoresBeansWithoutAnnotation() {
-        var processor = new OjsJobProcessor(worker);
-        var bean = new PlainBean();
-
-        @SuppressWarnings("unchecked")
-        var event = mock(BeanCreatedEvent.class);
-        when(event.getBean()).thenReturn(bean);
+    void rejectsMethodsWithoutJobContextParameter() {
+        when(method.stringValue(OjsJob.class)).thenReturn(Optional.of("test.process"));
+        when(method.getArgumentTypes()).thenReturn(new Class<?>[]{String.class});
+        when(method.getDeclaringType()).thenReturn(AnnotatedBean.class);
+        when(method.getMethodName()).thenReturn("handle");
 
-        processor.onCreated(event);
+        var processor = new OjsJobProcessor(worker, beanContext);
 
+        assertThrows(IllegalStateException.class, () -> processor.process(beanDefinition, method));
         verify(worker, never()).register(anyString(), any());
     }
 
-    @Test
-    void registersMultipleHandlersFromSameBean() {
-        var processor = new OjsJobProcessor(worker);
-        var bean = new MultiHandlerBean();
-
-        @SuppressWarnings("unchecked")
-        var event = mock(BeanCreatedEvent.class);
-        when(event.getBean()).thenReturn(bean);
-
-        processor.onCreated(event);
-
-        verify(worker).register(eq("type.one"), any());
-        verify(worker).register(eq("type.two"), any());
-    }
-
     static class AnnotatedBean {
         @OjsJob("test.process")
         public Object handle(JobContext ctx) {
             return Map.of("done", true);
         }
     }
-
-    static class PlainBean {
-        public void doSomething() {}
-    }
-
-    static class MultiHandlerBean {
-        @OjsJob("type.one")
-        public Object handleOne(JobContext ctx) { return null; }
-
-        @OjsJob("type.two")
-        public Object handleTwo(JobContext ctx) { return null; }
-    }
 }
-
@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.openjobspec.common.OjsPrefetchBuffer;
 import org.openjobspec.ojs.Middleware;
 import org.openjobspec.ojs.OJSWorker;
 
@@ -74,6 +75,32 @@ class OjsWorkerLifecycleTest {
         verify(worker).start();
     }
 
+    @Test
+    void onStartupInstallsPrefetchBufferOutermost() throws InterruptedException {
+        Middleware mw = mock(Middleware.class);
+        var config = new OjsConfiguration();
+        config.setConcurrency(4);
+        config.setWorkerPrefetch(2);
+        var lifecycle = new OjsWorkerLifecycle(worker, List.of(mw), config);
+
+        lifecycle.onApplicationEvent(startupEvent);
+        Thread.sleep(100);
+
+        var order = inOrder(worker);
+        order.verify(worker).use(eq("ojs-prefetch"), any(OjsPrefetchBuffer.class));
+        order.verify(worker).use(mw);
+    }
+
+    @Test
+    void onStartupSkipsPrefetchBufferByDefault() throws InterruptedException {
+        var lifecycle = new OjsWorkerLifecycle(worker, List.of(), new OjsConfiguration());
+
+        lifecycle.onApplicationEvent(startupEvent);
+        Thread.sleep(100);
+
+        verify(worker, never()).use(any(String.class), any(Middleware.class));
+    }
+
     @Test
     void onShutdownStopsWorker() {
         var lifecycle = new OjsWorkerLifecycle(worker, List.of());
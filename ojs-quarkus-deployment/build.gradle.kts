@@ -0,0 +1,15 @@
+plugins {
+    java
+    `java-library`
+}
+
+description = "OJS Quarkus Extension - Deployment"
+
+dependencies {
+    api(project(":ojs-quarkus"))
+    api("io.quarkus:quarkus-core-deployment:${property("quarkusVersion")}")
+    api("io.quarkus:quarkus-arc-deployment:${property("quarkusVersion")}")
+
+    // Generates META-INF/quarkus-build-steps.list from the @BuildStep methods
+    annotationProcessor("io.quarkus:quarkus-extension-processor:${property("quarkusVersion")}")
+}
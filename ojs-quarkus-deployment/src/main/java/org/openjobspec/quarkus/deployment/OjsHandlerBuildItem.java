@@ -0,0 +1,36 @@
+package org.openjobspec.quarkus.deployment;
+
+import io.quarkus.builder.item.MultiBuildItem;
+import org.jboss.jandex.MethodInfo;
+
+/**
+ * An {@code @OjsJob} method found in the index, together with the name of the
+ * handler class generated for it.
+ */
+public final class OjsHandlerBuildItem extends MultiBuildItem {
+
+    private final String jobType;
+    private final MethodInfo method;
+    private final String handlerClass;
+
+    public OjsHandlerBuildItem(String jobType, MethodInfo method, String handlerClass) {
+        this.jobType = jobType;
+        this.method = method;
+        this.handlerClass = handlerClass;
+    }
+
+    /** The OJS job type the method handles. */
+    public String getJobType() {
+        return jobType;
+    }
+
+    /** The annotated method. */
+    public MethodInfo getMethod() {
+        return method;
+    }
+
+    /** The fully qualified name of the generated {@code JobHandler} class. */
+    public String getHandlerClass() {
+        return handlerClass;
+    }
+}
@@ -0,0 +1,268 @@
+package org.openjobspec.quarkus.deployment;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InstanceHandle;
+import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
+import io.quarkus.arc.deployment.AutoAddScopeBuildItem;
+import io.quarkus.arc.deployment.BeanContainerBuildItem;
+import io.quarkus.arc.processor.BuiltinScope;
+import io.quarkus.deployment.Capabilities;
+import io.quarkus.deployment.Capability;
+import io.quarkus.deployment.GeneratedClassGizmoAdaptor;
+import io.quarkus.deployment.annotations.BuildProducer;
+import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.annotations.ExecutionTime;
+import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.AdditionalIndexedClassesBuildItem;
+import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
+import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.deployment.recording.RecorderContext;
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.gizmo.FieldDescriptor;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+import io.quarkus.runtime.metrics.MetricsFactory;
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.PrimitiveType;
+import org.jboss.jandex.Type;
+import org.openjobspec.ojs.JobContext;
+import org.openjobspec.ojs.JobHandler;
+import org.openjobspec.quarkus.OjsConfig;
+import org.openjobspec.quarkus.OjsCronService;
+import org.openjobspec.quarkus.OjsEncryptionProducer;
+import org.openjobspec.quarkus.OjsEventBridge;
+import org.openjobspec.quarkus.OjsJob;
+import org.openjobspec.quarkus.OjsJobRegistry;
+import org.openjobspec.quarkus.OjsProducer;
+import org.openjobspec.quarkus.OjsRecorder;
+import org.openjobspec.quarkus.OjsWorkerLifecycle;
+import org.openjobspec.quarkus.OjsWorkflowService;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Build steps for the OJS Quarkus extension.
+ *
+ * <p>{@link OjsJob @OjsJob} methods are discovered in the Jandex index at build time.
+ * For each one a {@link JobHandler} class is generated that calls the method directly,
+ * and its registration with the {@link OjsJobRegistry} is recorded, so startup does
+ * no classpath scanning or reflective invocation.</p>
+ */
+class OjsProcessor {
+
+    private static final String FEATURE = "ojs";
+
+    static final DotName OJS_JOB = DotName.createSimple(OjsJob.class.getName());
+    static final DotName JOB_CONTEXT = DotName.createSimple(JobContext.class.getName());
+
+    /** Suffix of the generated handler class names. */
+    static final String HANDLER_SUFFIX = "_OjsHandler";
+
+    @BuildStep
+    FeatureBuildItem feature() {
+        return new FeatureBuildItem(FEATURE);
+    }
+
+    @BuildStep
+    AdditionalBeanBuildItem runtimeBeans(Capabilities capabilities,
+                                         Optional<MetricsCapabilityBuildItem> metricsCapability) {
+        var beans = AdditionalBeanBuildItem.builder()
+                .setUnremovable()
+                .addBeanClasses(OjsProducer.class, OjsJobRegistry.class, OjsWorkerLifecycle.class,
+                        OjsEventBridge.class, OjsCronService.class, OjsWorkflowService.class,
+                        OjsEncryptionProducer.class);
+        if (capabilities.isPresent(Capability.SMALLRYE_HEALTH)) {
+            beans.addBeanClass("org.openjobspec.quarkus.OjsHealthCheck");
+        }
+        if (metricsCapability.map(metrics -> metrics.metricsSupported(MetricsFactory.MICROMETER)).orElse(false)) {
+            beans.addBeanClass("org.openjobspec.quarkus.OjsMicrometerMetrics");
+        }
+        return beans.build();
+    }
+
+    @BuildStep
+    AdditionalIndexedClassesBuildItem configMapping() {
+        return new AdditionalIndexedClassesBuildItem(OjsConfig.class.getName());
+    }
+
+    /** Classes declaring {@code @OjsJob} methods become singleton beans unless they declare a scope. */
+    @BuildStep
+    AutoAddScopeBuildItem handlerBeans() {
+        return AutoAddScopeBuildItem.builder()
+                .containsAnnotations(OJS_JOB)
+                .defaultScope(BuiltinScope.SINGLETON)
+                .unremovable()
+                .reason("Found @OjsJob methods")
+                .build();
+    }
+
+    @BuildStep
+    void collectHandlers(CombinedIndexBuildItem index, BuildProducer<OjsHandlerBuildItem> handlers) {
+        collect(index.getIndex()).forEach(handlers::produce);
+    }
+
+    @BuildStep
+    void generateHandlers(List<OjsHandlerBuildItem> handlers,
+                          BuildProducer<GeneratedClassBuildItem> generatedClasses) {
+        var output = new GeneratedClassGizmoAdaptor(generatedClasses, true);
+        for (var handler : handlers) {
+            generate(output, handler);
+        }
+    }
+
+    /**
+     * Registration runs after the bean container is ready, since the generated
+     * handlers look up their bean when constructed.
+     */
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void registerHandlers(OjsRecorder recorder, RecorderContext context,
+                          List<OjsHandlerBuildItem> handlers, BeanContainerBuildItem beanContainer) {
+        for (var handler : handlers) {
+            recorder.registerHandler(handler.getJobType(), context.newInstance(handler.getHandlerClass()));
+        }
+    }
+
+    /**
+     * Find all {@code @OjsJob} methods in the index, sorted by job type.
+     *
+     * @throws IllegalStateException if a method has an unsupported signature or
+     *                               two methods handle the same job type
+     */
+    static List<OjsHandlerBuildItem> collect(IndexView index) {
+        var handlers = new ArrayList<OjsHandlerBuildItem>();
+        var methodsByType = new HashMap<String, MethodInfo>();
+        for (AnnotationInstance annotation : index.getAnnotations(OJS_JOB)) {
+            if (annotation.target().kind() != AnnotationTarget.Kind.METHOD) {
+                continue;
+            }
+            var method = annotation.target().asMethod();
+            validate(method);
+            var jobType = annotation.value().asString();
+            var previous = methodsByType.putIfAbsent(jobType, method);
+            if (previous != null) {
+                throw new IllegalStateException("Job type '" + jobType + "' is handled by both "
+                        + describe(previous) + " and " + describe(method));
+            }
+            handlers.add(new OjsHandlerBuildItem(jobType, method, handlerClassName(method)));
+        }
+        handlers.sort(Comparator.comparing(OjsHandlerBuildItem::getJobType));
+        return handlers;
+    }
+
+    /** The generated handler lives next to the bean so it can call package-private methods. */
+    static String handlerClassName(MethodInfo method) {
+        return method.declaringClass().name().toString() + "_" + method.name() + HANDLER_SUFFIX;
+    }
+
+    /**
+     * Generate a {@link JobHandler} that calls {@code handler}'s method directly. Instance
+     * methods are called on the bean resolved from the container when the handler is created.
+     */
+    static void generate(ClassOutput output, OjsHandlerBuildItem handler) {
+        var method = handler.getMethod();
+        var beanClass = method.declaringClass().name().toString();
+        boolean isStatic = Modifier.isStatic(method.flags());
+
+        try (var creator = ClassCreator.builder()
+                .classOutput(output)
+                .className(handler.getHandlerClass())
+                .interfaces(JobHandler.class)
+                .setFinal(true)
+                .build()) {
+
+            FieldDescriptor beanField = null;
+            var constructor = creator.getMethodCreator(MethodDescriptor.INIT, void.class);
+            constructor.invokeSpecialMethod(MethodDescriptor.ofConstructor(Object.class), constructor.getThis());
+            if (!isStatic) {
+                beanField = creator.getFieldCreator("bean", beanClass)
+                        .setModifiers(Modifier.PRIVATE | Modifier.FINAL)
+                        .getFieldDescriptor();
+                var container = constructor.invokeStaticMethod(
+                        MethodDescriptor.ofMethod(Arc.class, "container", ArcContainer.class));
+                var instance = constructor.invokeInterfaceMethod(
+                        MethodDescriptor.ofMethod(ArcContainer.class, "instance", InstanceHandle.class,
+                                Class.class, Annotation[].class),
+                        container, constructor.loadClass(beanClass), constructor.newArray(Annotation.class, 0));
+                var bean = constructor.invokeInterfaceMethod(
+                        MethodDescriptor.ofMethod(InstanceHandle.class, "get", Object.class), instance);
+                constructor.writeInstanceField(beanField, constructor.getThis(), constructor.checkCast(bean, beanClass));
+            }
+            constructor.returnValue(null);
+
+            var handle = creator.getMethodCreator("handle", Object.class, JobContext.class);
+            handle.addException(Exception.class);
+            var ctx = handle.getMethodParam(0);
+            var result = isStatic
+                    ? handle.invokeStaticMethod(MethodDescriptor.of(method), ctx)
+                    : handle.invokeVirtualMethod(MethodDescriptor.of(method),
+                            handle.readInstanceField(beanField, handle.getThis()), ctx);
+            handle.returnValue(toObject(handle, method.returnType(), result));
+        }
+    }
+
+    private static ResultHandle toObject(MethodCreator method, Type type, ResultHandle value) {
+        return switch (type.kind()) {
+            case VOID -> method.loadNull();
+            case PRIMITIVE -> {
+                var boxed = boxedType(type.asPrimitiveType().primitive());
+                var primitive = type.name().toString();
+                yield method.invokeStaticMethod(
+                        MethodDescriptor.ofMethod(boxed, "valueOf", boxed, primitive), value);
+            }
+            default -> value;
+        };
+    }
+
+    private static String boxedType(PrimitiveType.Primitive primitive) {
+        return switch (primitive) {
+            case BOOLEAN -> Boolean.class.getName();
+            case BYTE -> Byte.class.getName();
+            case CHAR -> Character.class.getName();
+            case SHORT -> Short.class.getName();
+            case INT -> Integer.class.getName();
+            case LONG -> Long.class.getName();
+            case FLOAT -> Float.class.getName();
+            case DOUBLE -> Double.class.getName();
+        };
+    }
+
+    private static void validate(MethodInfo method) {
+        var declaringClass = method.declaringClass();
+        if (method.parametersCount() != 1 || !method.parameterType(0).name().equals(JOB_CONTEXT)) {
+            throw new IllegalStateException("@OjsJob method " + describe(method)
+                    + " must take a single JobContext parameter");
+        }
+        if (Modifier.isPrivate(method.flags())) {
+            throw new IllegalStateException("@OjsJob method " + describe(method) + " must not be private");
+        }
+        if (Modifier.isPrivate(declaringClass.flags())) {
+            throw new IllegalStateException("@OjsJob method " + describe(method)
+                    + " must not be declared in a private class");
+        }
+        if (!Modifier.isStatic(method.flags())
+                && (declaringClass.isInterface() || Modifier.isAbstract(declaringClass.flags()))) {
+            throw new IllegalStateException("@OjsJob method " + describe(method)
+                    + " must be declared in a concrete bean class");
+        }
+    }
+
+    private static String describe(MethodInfo method) {
+        return method.declaringClass().name() + "#" + method.name();
+    }
+}
@@ -0,0 +1,169 @@
+package org.openjobspec.quarkus.deployment;
+
+import io.quarkus.deployment.Capabilities;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.runtime.metrics.MetricsFactory;
+import org.jboss.jandex.Index;
+import org.junit.jupiter.api.Test;
+import org.openjobspec.ojs.JobContext;
+import org.openjobspec.ojs.JobHandler;
+import org.openjobspec.quarkus.OjsJob;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OjsProcessorTest {
+
+    @Test
+    void collectsAnnotatedMethodsSortedByJobType() throws Exception {
+        var handlers = OjsProcessor.collect(Index.of(StaticHandlers.class, BeanHandlers.class));
+
+        assertEquals(4, handlers.size());
+        assertEquals("bean.handle", handlers.get(0).getJobType());
+        assertEquals("handle", handlers.get(0).getMethod().name());
+        assertEquals(BeanHandlers.class.getName() + "_handle" + OjsProcessor.HANDLER_SUFFIX,
+                handlers.get(0).getHandlerClass());
+        assertEquals("static.object", handlers.get(1).getJobType());
+    }
+
+    @Test
+    void rejectsDuplicateJobTypes() {
+        var e = assertThrows(IllegalStateException.class,
+                () -> OjsProcessor.collect(Index.of(DuplicateHandlers.class)));
+        assertTrue(e.getMessage().contains("'dup'"));
+    }
+
+    @Test
+    void rejectsPrivateMethods() {
+        assertThrows(IllegalStateException.class,
+                () -> OjsProcessor.collect(Index.of(PrivateHandler.class)));
+    }
+
+    @Test
+    void rejectsMethodsWithoutJobContextParameter() {
+        assertThrows(IllegalStateException.class,
+                () -> OjsProcessor.collect(Index.of(WrongParameters.class)));
+    }
+
+    @Test
+    void generatedHandlersCallStaticMethodsDirectly() throws Exception {
+        var loader = generate(StaticHandlers.class);
+
+        assertEquals("done", newHandler(loader, StaticHandlers.class, "object").handle(null));
+        assertEquals(42, newHandler(loader, StaticHandlers.class, "primitive").handle(null));
+        assertNull(newHandler(loader, StaticHandlers.class, "nothing").handle(null));
+    }
+
+    @Test
+    void generatedHandlerHoldsBeanForInstanceMethods() throws Exception {
+        var loader = generate(BeanHandlers.class);
+
+        var handlerClass = loader.loadClass(BeanHandlers.class.getName() + "_handle" + OjsProcessor.HANDLER_SUFFIX);
+
+        assertTrue(JobHandler.class.isAssignableFrom(handlerClass));
+        assertEquals(BeanHandlers.class, handlerClass.getDeclaredField("bean").getType());
+    }
+
+    @Test
+    void registersMetricsOnlyWithMicrometer() {
+        var processor = new OjsProcessor();
+        var capabilities = new Capabilities(Set.of());
+        var micrometer = new MetricsCapabilityBuildItem(MetricsFactory.MICROMETER::equals);
+
+        assertTrue(processor.runtimeBeans(capabilities, Optional.of(micrometer)).getBeanClasses()
+                .contains("org.openjobspec.quarkus.OjsMicrometerMetrics"));
+        assertFalse(processor.runtimeBeans(capabilities, Optional.empty()).getBeanClasses()
+                .contains("org.openjobspec.quarkus.OjsMicrometerMetrics"));
+    }
+
+    private static GeneratedClassLoader generate(Class<?> beanClass) throws Exception {
+        var loader = new GeneratedClassLoader();
+        for (var handler : OjsProcessor.collect(Index.of(beanClass))) {
+            OjsProcessor.generate(loader::add, handler);
+        }
+        return loader;
+    }
+
+    private static JobHandler newHandler(ClassLoader loader, Class<?> beanClass, String method) throws Exception {
+        return (JobHandler) loader.loadClass(beanClass.getName() + "_" + method + OjsProcessor.HANDLER_SUFFIX)
+                .getDeclaredConstructor()
+                .newInstance();
+    }
+
+    /** Defines generated classes on demand, delegating everything else to the test class loader. */
+    private static final class GeneratedClassLoader extends ClassLoader {
+        private final Map<String, byte[]> classes = new HashMap<>();
+
+        GeneratedClassLoader() {
+            super(OjsProcessorTest.class.getClassLoader());
+        }
+
+        void add(String name, byte[] bytes) {
+            classes.put(name.replace('/', '.'), bytes);
+        }
+
+        @Override
+        protected Class<?> findClass(String name) throws ClassNotFoundException {
+            var bytes = classes.get(name);
+            if (bytes == null) {
+                throw new ClassNotFoundException(name);
+            }
+            return defineClass(name, bytes, 0, bytes.length);
+        }
+    }
+
+    // --- Test beans ---
+
+    public static class StaticHandlers {
+        @OjsJob("static.object")
+        public static Object object(JobContext ctx) {
+            return "done";
+        }
+
+        @OjsJob("static.primitive")
+        public static int primitive(JobContext ctx) {
+            return 42;
+        }
+
+        @OjsJob("static.void")
+        public static void nothing(JobContext ctx) {
+        }
+    }
+
+    public static class BeanHandlers {
+        @OjsJob("bean.handle")
+        public Object handle(JobContext ctx) {
+            return null;
+        }
+    }
+
+    static class DuplicateHandlers {
+        @OjsJob("dup")
+        Object first(JobContext ctx) {
+            return null;
+        }
+
+        @OjsJob("dup")
+        Object second(JobContext ctx) {
+            return null;
+        }
+    }
+
+    static class PrivateHandler {
+        @OjsJob("private")
+        private Object handle(JobContext ctx) {
+            return null;
+        }
+    }
+
+    static class WrongParameters {
+        @OjsJob("wrong")
+        public Object handle(String ctx) {
+            return null;
+        }
+    }
+}
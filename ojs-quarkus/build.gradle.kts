@@ -7,11 +7,21 @@ description = "OJS Quarkus Extension"
 
 dependencies {
     api("org.openjobspec:ojs-sdk:${property("ojsSdkVersion")}")
+    api(project(":ojs-common"))
     api("io.quarkus:quarkus-core:${property("quarkusVersion")}")
     api("io.quarkus:quarkus-arc:${property("quarkusVersion")}")
 
     compileOnly("io.smallrye:smallrye-health-api:4.0.4")
     compileOnly("org.eclipse.microprofile.health:microprofile-health-api:4.0.1")
+    compileOnly("io.micrometer:micrometer-core:1.13.0")
 
     testImplementation("io.quarkus:quarkus-junit5:${property("quarkusVersion")}")
+    testImplementation("io.micrometer:micrometer-core:1.13.0")
+}
+
+// Points Quarkus at the deployment module holding the build steps
+tasks.processResources {
+    filesMatching("META-INF/quarkus-extension.properties") {
+        filter<org.apache.tools.ant.filters.ReplaceTokens>("tokens" to mapOf("version" to project.version.toString()))
+    }
 }
@@ -2,7 +2,10 @@ package org.openjobspec.quarkus;
 
 import io.smallrye.config.ConfigMapping;
 import io.smallrye.config.WithDefault;
+import org.openjobspec.common.OjsEventDispatcher;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,8 +13,8 @@ import java.util.Optional;
  * Quarkus configuration mapping for OJS properties.
  *
  * <p>Core properties ({@code ojs.url}, {@code ojs.queues}, {@code ojs.concurrency})
- * configure the client and worker. Nested groups add encryption, event streaming,
- * and advanced worker tuning.</p>
+ * configure the client and worker. Nested groups add HTTP transport tuning, encryption,
+ * event streaming, and advanced worker tuning.</p>
  */
 @ConfigMapping(prefix = "ojs")
 public interface OjsConfig {
@@ -28,6 +31,9 @@ public interface OjsConfig {
     @WithDefault("10")
     int concurrency();
 
+    /** HTTP transport configuration shared by the client and worker. */
+    Http http();
+
     /** Advanced worker configuration. */
     Worker worker();
 
@@ -37,13 +43,38 @@ public interface OjsConfig {
     /** Server-Sent Events streaming configuration. */
     Events events();
 
+    /** Micrometer metrics configuration. */
+    Metrics metrics();
+
+    /**
+     * Tuning for the {@link HttpClient} shared by the client and worker.
+     *
+     * <p>The pool's idle timeout and size are JVM-wide; set them with the
+     * {@code jdk.httpclient.keepalive.timeout} and {@code jdk.httpclient.connectionPoolSize}
+     * system properties on the command line.</p>
+     */
+    interface Http {
+
+        /** Preferred HTTP version. */
+        @WithDefault("HTTP_1_1")
+        HttpClient.Version version();
+
+        /** Connection timeout in seconds. */
+        @WithDefault("5")
+        int connectTimeoutSeconds();
+    }
+
     /**
      * Advanced worker tuning beyond the top-level {@code ojs.queues}
      * and {@code ojs.concurrency} properties.
      */
     interface Worker {
 
-        /** Grace period in seconds for in-flight jobs during shutdown. */
+        /**
+         * Grace period in seconds for in-flight jobs during shutdown. Jobs still running
+         * after it are interrupted, and each counts as a failed attempt: the SDK cannot
+         * hand a job back without using up a retry.
+         */
         @WithDefault("25")
         int gracePeriodSeconds();
 
@@ -54,6 +85,37 @@ public interface OjsConfig {
         /** Whether the worker starts automatically with the application. */
         @WithDefault("true")
         boolean autoStart();
+
+        /**
+         * How job handlers are scheduled: {@code POOL} bounds jobs in flight by
+         * {@code ojs.concurrency}, {@code VIRTUAL_THREADS} runs each job on its own
+         * virtual thread bounded by {@link #maxInFlight()}.
+         */
+        @WithDefault("POOL")
+        Execution execution();
+
+        /** Maximum jobs in flight in virtual-threads execution mode. */
+        @WithDefault("1000")
+        int maxInFlight();
+
+        /**
+         * Jobs fetched ahead of the free worker slots and held, heartbeated, until one
+         * frees up; {@code 0} disables prefetching.
+         */
+        @WithDefault("0")
+        int prefetch();
+
+        /** Minimum time in milliseconds a job has to pin its carrier thread to be reported in virtual-threads mode. */
+        @WithDefault("20")
+        long pinnedThresholdMillis();
+
+        /** How job handlers are scheduled. */
+        enum Execution {
+            /** Jobs in flight are bounded by {@code ojs.concurrency}, sized like a thread pool. */
+            POOL,
+            /** Each job runs on its own virtual thread, bounded only by {@code max-in-flight}. */
+            VIRTUAL_THREADS
+        }
     }
 
     /**
@@ -91,5 +153,44 @@ public interface OjsConfig {
         /** SSE channel to subscribe to. */
         @WithDefault("events")
         String channel();
+
+        /** Maximum number of events buffered while observers catch up. */
+        @WithDefault("1024")
+        int queueCapacity();
+
+        /** What to do with new events when the buffer is full. */
+        @WithDefault("BLOCK")
+        OjsEventDispatcher.OverflowPolicy overflowPolicy();
+
+        /** Delay before reconnecting a dropped stream, doubled on every further failure. */
+        @WithDefault("500ms")
+        Duration reconnectBackoff();
+
+        /** Upper bound of the reconnect delay. */
+        @WithDefault("30s")
+        Duration reconnectMaxBackoff();
+
+        /** Number of recent event IDs remembered to drop events replayed after a reconnect. */
+        @WithDefault("1024")
+        int dedupeWindow();
+
+        /** Event type prefixes to fire, e.g. {@code job.failed}; all types when unset. */
+        Optional<List<String>> typePrefixes();
+
+        /** Queues whose events are fired; all queues when unset. */
+        Optional<List<String>> queues();
+
+        /** Job types whose events are fired; all job types when unset. */
+        Optional<List<String>> jobTypes();
+    }
+
+    /**
+     * Micrometer metrics, published when quarkus-micrometer is present.
+     */
+    interface Metrics {
+
+        /** Maximum number of job types, and of queues, tagged individually; further values are tagged {@code other}. */
+        @WithDefault("1000")
+        int maxJobTypes();
     }
 }
@@ -6,8 +6,14 @@ import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.event.Event;
 import jakarta.enterprise.event.Observes;
 import jakarta.inject.Inject;
-import org.openjobspec.ojs.SSESubscription;
+import jakarta.inject.Named;
+import org.openjobspec.common.OjsEventDispatcher;
+import org.openjobspec.common.OjsEventFilter;
+import org.openjobspec.common.OjsEventStream;
+import org.openjobspec.ojs.transport.Json;
 
+import java.net.http.HttpClient;
+import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -23,6 +29,20 @@ import java.util.logging.Logger;
  *     if (e.isJobEvent()) { log.info("Job event: " + e.eventType()); }
  * }
  * }</pre>
+ *
+ * <p>Events are fired from an {@link OjsEventDispatcher} thread rather than the
+ * SSE reader, so slow observers do not stall the stream. Up to
+ * {@code ojs.events.queue-capacity} events are buffered; beyond that,
+ * {@code ojs.events.overflow-policy} decides whether the stream waits
+ * ({@code BLOCK}, the default) or events are dropped or coalesced per job.</p>
+ *
+ * <p>The stream is an {@link OjsEventStream}: when the connection drops it reconnects
+ * with jittered exponential backoff and resumes from the last event ID, dropping
+ * events the server replays twice.</p>
+ *
+ * <p>{@code ojs.events.type-prefixes}, {@code ojs.events.queues} and
+ * {@code ojs.events.job-types} limit the fired events. Events of unwanted types are
+ * dropped before their payload is decoded.</p>
  */
 @ApplicationScoped
 public class OjsEventBridge {
@@ -35,7 +55,12 @@ public class OjsEventBridge {
     @Inject
     Event<OjsJobEvent> cdiEvent;
 
-    private volatile SSESubscription subscription;
+    @Inject
+    @Named("ojs")
+    HttpClient httpClient;
+
+    private volatile OjsEventStream subscription;
+    private volatile OjsEventDispatcher<OjsJobEvent> dispatcher;
 
     /**
      * Subscribe to the SSE channel when the application starts (if enabled).
@@ -49,17 +74,28 @@ public class OjsEventBridge {
         var channel = config.events().channel();
         LOG.info(() -> "Subscribing to OJS events on channel: " + channel);
 
+        var events = new OjsEventDispatcher<OjsJobEvent>("ojs-events",
+                config.events().queueCapacity(), config.events().overflowPolicy(),
+                this::fire, OjsEventBridge::subjectOf);
+        dispatcher = events;
         try {
-            subscription = SSESubscription.subscribe(
+            var reconnect = new OjsEventStream.Reconnect(
+                    config.events().reconnectBackoff(),
+                    config.events().reconnectMaxBackoff(),
+                    config.events().dedupeWindow());
+            var filter = new OjsEventFilter(config.events().typePrefixes().orElse(List.of()),
+                    config.events().queues().orElse(List.of()),
+                    config.events().jobTypes().orElse(List.of()));
+            subscription = OjsEventStream.open(
+                    httpClient,
                     config.url(),
                     channel,
                     sseEvent -> {
-                        try {
-                            cdiEvent.fire(OjsJobEvent.from(sseEvent));
-                        } catch (Exception e) {
-                            LOG.log(Level.WARNING, "Failed to fire CDI event", e);
+                        if (passes(filter, sseEvent.type(), sseEvent.data())) {
+                            events.submit(OjsJobEvent.from(sseEvent));
                         }
-                    }
+                    },
+                    reconnect
             );
         } catch (Exception e) {
             LOG.log(Level.SEVERE, "Failed to subscribe to OJS events", e);
@@ -79,10 +115,56 @@ public class OjsEventBridge {
             }
             subscription = null;
         }
+        if (dispatcher != null) {
+            dispatcher.close();
+        }
+    }
+
+    private void fire(OjsJobEvent event) {
+        try {
+            cdiEvent.fire(event);
+        } catch (Exception e) {
+            LOG.log(Level.WARNING, "Failed to fire CDI event", e);
+        }
+    }
+
+    /**
+     * Whether an event passes the filter. Its payload is only decoded when the SSE type
+     * alone does not decide.
+     */
+    static boolean passes(OjsEventFilter filter, String type, String data) {
+        if (!filter.mayAccept(type)) {
+            return false;
+        }
+        if (!filter.needsPayload(type)) {
+            return true;
+        }
+        try {
+            return filter.accepts(type, Json.decodeObject(data));
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    /** The job an event belongs to; only decoded when coalescing a full queue. */
+    static String subjectOf(OjsJobEvent event) {
+        try {
+            return Json.decodeObject(event.data()).get("subject") instanceof String subject ? subject : null;
+        } catch (RuntimeException e) {
+            return null;
+        }
     }
 
     /** Returns {@code true} if the event bridge is actively subscribed. */
     public boolean isSubscribed() {
         return subscription != null;
     }
+
+    /**
+     * Returns the dispatcher buffering events for observers, for its queue depth and
+     * drop count, or {@code null} if the bridge has not started.
+     */
+    public OjsEventDispatcher<OjsJobEvent> getDispatcher() {
+        return dispatcher;
+    }
 }
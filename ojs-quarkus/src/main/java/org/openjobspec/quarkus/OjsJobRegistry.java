@@ -11,7 +11,8 @@ import java.util.concurrent.ConcurrentHashMap;
  * Registry of OJS job handlers discovered via {@link OjsJob} annotations
  * or registered programmatically.
  *
- * <p>The {@link OjsExtension} populates this registry during CDI bootstrap.
+ * <p>{@link OjsRecorder} populates this registry at startup with the handlers
+ * generated at build time by {@code ojs-quarkus-deployment}.
  * Application code can also register handlers at runtime:</p>
  *
  * <pre>{@code
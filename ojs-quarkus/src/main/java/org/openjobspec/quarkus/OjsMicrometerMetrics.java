@@ -0,0 +1,289 @@
+package org.openjobspec.quarkus;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.annotation.Priority;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import jakarta.interceptor.Interceptor;
+import org.openjobspec.common.OjsEventDispatcher;
+import org.openjobspec.common.OjsPinningMonitor;
+import org.openjobspec.common.OjsTimestamps;
+import org.openjobspec.ojs.Job;
+import org.openjobspec.ojs.JobContext;
+import org.openjobspec.ojs.JobHandler;
+import org.openjobspec.ojs.Middleware;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Micrometer integration for OJS job metrics, registered by the extension when
+ * quarkus-micrometer is present. As a {@link Middleware} bean it is installed on the
+ * worker by {@link OjsWorkerLifecycle}.
+ *
+ * <p><b>Metrics published:</b></p>
+ * <ul>
+ *   <li>{@code ojs.jobs.completed} — counter of successfully completed jobs (tag: type)</li>
+ *   <li>{@code ojs.jobs.failed} — counter of failed jobs (tag: type)</li>
+ *   <li>{@code ojs.jobs.active} — gauge of currently active jobs</li>
+ *   <li>{@code ojs.jobs.duration} — timer of job execution duration (tag: type)</li>
+ *   <li>{@code ojs.jobs.queue.latency} — timer of the time from enqueue, or the scheduled time if later,
+ *       until the handler starts (tag: queue)</li>
+ *   <li>{@code ojs.worker.slots.free} — gauge of how many more jobs the worker can run at once</li>
+ *   <li>{@code ojs.events.queue.depth} — gauge of events waiting in the {@link OjsEventBridge}'s dispatcher</li>
+ *   <li>{@code ojs.events.dropped} — counter of events dropped by the dispatcher's overflow policy</li>
+ *   <li>{@code ojs.worker.pinned} — timer of virtual threads pinned by job handlers (tag: type)</li>
+ * </ul>
+ *
+ * <p>Per-type meters are registered once and cached, so recording a job after
+ * warm-up does not allocate. At most {@code ojs.metrics.max-job-types} distinct
+ * types get their own meters; further types are recorded under {@code type=other}, and
+ * the same limit applies to queues, recorded beyond it under {@code queue=other}.</p>
+ *
+ * <p>Queue latency compares the server's timestamps on the job with the local clock,
+ * so clock skew between server and worker shifts it; negative values are recorded as
+ * zero. The timestamps are read with {@link OjsTimestamps}, which does not allocate.</p>
+ */
+@Singleton
+public class OjsMicrometerMetrics implements Middleware {
+
+    /** Default limit on the number of job types with their own meters. */
+    public static final int DEFAULT_MAX_JOB_TYPES = 1000;
+
+    /** The {@code type} tag value used once {@code maxJobTypes} is exceeded. */
+    static final String OVERFLOW_TYPE = "other";
+
+    /** The {@code queue} tag value for jobs that do not name their queue. */
+    static final String UNKNOWN_QUEUE = "unknown";
+
+    /** The {@code queue} tag value used once {@code maxJobTypes} queues are tagged. */
+    static final String OVERFLOW_QUEUE = "other";
+
+    /**
+     * Meters recorded for each executed job of a given type. The pinning timer is
+     * registered on first use, as most job types never pin their carrier thread.
+     */
+    private final class MeterSet {
+
+        private final String type;
+        private final Timer duration;
+        private final Counter completed;
+        private final Counter failed;
+        private volatile Timer pinned;
+
+        MeterSet(String type, Timer duration, Counter completed, Counter failed) {
+            this.type = type;
+            this.duration = duration;
+            this.completed = completed;
+            this.failed = failed;
+        }
+
+        Timer duration() {
+            return duration;
+        }
+
+        Counter completed() {
+            return completed;
+        }
+
+        Counter failed() {
+            return failed;
+        }
+
+        Timer pinned() {
+            // Registration is idempotent, so a racing initialization yields the same timer
+            Timer timer = pinned;
+            if (timer == null) {
+                timer = Timer.builder("ojs.worker.pinned")
+                        .tag("type", type)
+                        .description("Virtual threads pinned to their carrier thread by job handlers")
+                        .register(registry);
+                pinned = timer;
+            }
+            return timer;
+        }
+    }
+
+    private final MeterRegistry registry;
+    private final AtomicInteger activeGauge;
+    private final int maxJobTypes;
+    private final ConcurrentHashMap<String, MeterSet> jobMeters = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Timer> queueLatencies = new ConcurrentHashMap<>();
+    private volatile MeterSet overflowMeters;
+    private volatile Timer overflowQueueLatency;
+
+    @Inject
+    OjsWorkerLifecycle lifecycle;
+
+    @Inject
+    OjsEventBridge eventBridge;
+
+    @Inject
+    public OjsMicrometerMetrics(MeterRegistry registry, OjsConfig config) {
+        this(registry, config.metrics().maxJobTypes());
+        bindWorkerSlots(OjsProducer.workerConcurrency(config));
+    }
+
+    /**
+     * @param registry    the registry to publish to
+     * @param maxJobTypes maximum number of job types, and of queues, tagged individually
+     */
+    public OjsMicrometerMetrics(MeterRegistry registry, int maxJobTypes) {
+        if (maxJobTypes < 1) {
+            throw new IllegalArgumentException("maxJobTypes must be at least 1");
+        }
+        this.registry = registry;
+        this.maxJobTypes = maxJobTypes;
+        this.activeGauge = registry.gauge("ojs.jobs.active",
+                new AtomicInteger(0));
+    }
+
+    /**
+     * Bind the event dispatcher and pinning monitor, which the event bridge and worker
+     * lifecycle create when the application starts.
+     */
+    void onStart(@Observes @Priority(Interceptor.Priority.PLATFORM_AFTER) StartupEvent ev) {
+        var dispatcher = eventBridge.getDispatcher();
+        if (dispatcher != null) {
+            bindEventDispatcher(dispatcher);
+        }
+        var monitor = lifecycle.getPinningMonitor();
+        if (monitor != null) {
+            bindPinningMonitor(monitor);
+        }
+    }
+
+    /**
+     * Publish the queue depth and dropped events of an event bridge's dispatcher.
+     */
+    public void bindEventDispatcher(OjsEventDispatcher<?> dispatcher) {
+        Gauge.builder("ojs.events.queue.depth", dispatcher, OjsEventDispatcher::getQueueDepth)
+                .description("Events waiting for listeners")
+                .register(registry);
+        FunctionCounter.builder("ojs.events.dropped", dispatcher, OjsEventDispatcher::getDroppedCount)
+                .description("Events dropped because listeners fell behind")
+                .register(registry);
+    }
+
+    /**
+     * Publish the carrier thread pins detected by a {@link OjsPinningMonitor}.
+     */
+    public void bindPinningMonitor(OjsPinningMonitor monitor) {
+        monitor.setListener((jobType, duration) -> metersFor(jobType).pinned().record(duration));
+    }
+
+    /**
+     * Publish the free worker slots, given the number of jobs the worker runs at once.
+     */
+    public void bindWorkerSlots(int slots) {
+        Gauge.builder("ojs.worker.slots.free", activeGauge, active -> slots - active.get())
+                .description("Jobs the worker can start before it is saturated")
+                .register(registry);
+    }
+
+    /**
+     * Middleware apply method — wraps job execution to record metrics.
+     */
+    @Override
+    public void apply(JobContext ctx, JobHandler next) throws Exception {
+        recordLatency(ctx.job());
+        MeterSet meters = metersFor(ctx.job().type());
+
+        activeGauge.incrementAndGet();
+        long start = registry.config().clock().monotonicTime();
+        try {
+            next.handle(ctx);
+            meters.completed().increment();
+        } catch (Exception e) {
+            meters.failed().increment();
+            throw e;
+        } finally {
+            meters.duration().record(registry.config().clock().monotonicTime() - start, TimeUnit.NANOSECONDS);
+            activeGauge.decrementAndGet();
+        }
+    }
+
+    /** Record how long a job waited before its handler started. */
+    void recordLatency(Job job) {
+        long ready = Math.max(OjsTimestamps.epochMillis(job.enqueuedAt()),
+                OjsTimestamps.epochMillis(job.scheduledAt()));
+        if (ready >= 0) {
+            long now = registry.config().clock().wallTime();
+            queueLatencyFor(job.queue() != null ? job.queue() : UNKNOWN_QUEUE)
+                    .record(Math.max(0, now - ready), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /** The number of job types currently tagged individually. */
+    int trackedJobTypes() {
+        return jobMeters.size();
+    }
+
+    /** The number of queues currently tagged individually. */
+    int trackedQueues() {
+        return queueLatencies.size();
+    }
+
+    private MeterSet metersFor(String jobType) {
+        MeterSet meters = jobMeters.get(jobType);
+        if (meters != null) {
+            return meters;
+        }
+        if (jobMeters.size() >= maxJobTypes) {
+            // Registration is idempotent, so a racing initialization yields the same meters
+            MeterSet overflow = overflowMeters;
+            if (overflow == null) {
+                overflow = registerJobMeters(OVERFLOW_TYPE);
+                overflowMeters = overflow;
+            }
+            return overflow;
+        }
+        return jobMeters.computeIfAbsent(jobType, this::registerJobMeters);
+    }
+
+    private MeterSet registerJobMeters(String jobType) {
+        return new MeterSet(jobType,
+                Timer.builder("ojs.jobs.duration")
+                        .tag("type", jobType)
+                        .description("Job execution duration")
+                        .register(registry),
+                Counter.builder("ojs.jobs.completed")
+                        .tag("type", jobType)
+                        .description("Successfully completed jobs")
+                        .register(registry),
+                Counter.builder("ojs.jobs.failed")
+                        .tag("type", jobType)
+                        .description("Failed jobs")
+                        .register(registry));
+    }
+
+    private Timer queueLatencyFor(String queue) {
+        Timer latency = queueLatencies.get(queue);
+        if (latency != null) {
+            return latency;
+        }
+        if (queueLatencies.size() >= maxJobTypes) {
+            Timer overflow = overflowQueueLatency;
+            if (overflow == null) {
+                overflow = registerQueueLatency(OVERFLOW_QUEUE);
+                overflowQueueLatency = overflow;
+            }
+            return overflow;
+        }
+        return queueLatencies.computeIfAbsent(queue, this::registerQueueLatency);
+    }
+
+    private Timer registerQueueLatency(String queue) {
+        return Timer.builder("ojs.jobs.queue.latency")
+                .tag("queue", queue)
+                .description("Time from enqueue or scheduled time until the handler starts")
+                .register(registry);
+    }
+}
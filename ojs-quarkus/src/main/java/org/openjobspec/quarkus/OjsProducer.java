@@ -1,32 +1,73 @@
 package org.openjobspec.quarkus;
 
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Disposes;
 import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Named;
 import jakarta.inject.Singleton;
+import org.openjobspec.common.OjsHttpClients;
 import org.openjobspec.ojs.OJSClient;
 import org.openjobspec.ojs.OJSWorker;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+
 /**
- * CDI producer for OJS client and worker beans.
+ * CDI producer for the OJS HTTP transport, client and worker beans.
  */
 @ApplicationScoped
 public class OjsProducer {
 
+    /**
+     * The HTTP transport shared by the client and worker, so both reuse one connection pool.
+     */
     @Produces
     @Singleton
-    public OJSClient ojsClient(OjsConfig config) {
+    @Named("ojs")
+    public HttpClient ojsHttpClient(OjsConfig config) {
+        var http = config.http();
+        return OjsHttpClients.create(http.version(), Duration.ofSeconds(http.connectTimeoutSeconds()));
+    }
+
+    void closeHttpClient(@Disposes @Named("ojs") HttpClient httpClient) {
+        httpClient.close();
+    }
+
+    @Produces
+    @Singleton
+    public OJSClient ojsClient(OjsConfig config, @Named("ojs") HttpClient httpClient) {
         return OJSClient.builder()
                 .url(config.url())
+                .httpClient(httpClient)
                 .build();
     }
 
     @Produces
     @Singleton
-    public OJSWorker ojsWorker(OjsConfig config) {
+    public OJSWorker ojsWorker(OjsConfig config, @Named("ojs") HttpClient httpClient) {
+        var worker = config.worker();
+        if (worker.prefetch() < 0) {
+            throw new IllegalArgumentException("ojs.worker.prefetch must not be negative: " + worker.prefetch());
+        }
         return OJSWorker.builder()
                 .url(config.url())
+                .httpClient(httpClient)
                 .queues(config.queues())
-                .concurrency(config.concurrency())
+                .concurrency(workerConcurrency(config) + worker.prefetch())
+                .pollInterval(Duration.ofSeconds(worker.pollIntervalSeconds()))
+                // ojs.worker.grace-period-seconds is enforced by OjsWorkerLifecycle's drain alone
                 .build();
     }
+
+    /**
+     * The number of jobs the worker runs at once: {@code ojs.worker.max-in-flight} in
+     * virtual-threads mode, otherwise {@code ojs.concurrency}. The worker fetches
+     * {@code ojs.worker.prefetch} jobs beyond that, which {@link OjsWorkerLifecycle}
+     * holds until a slot is free.
+     */
+    static int workerConcurrency(OjsConfig config) {
+        var worker = config.worker();
+        return worker.execution() == OjsConfig.Worker.Execution.VIRTUAL_THREADS
+                ? worker.maxInFlight() : config.concurrency();
+    }
 }
@@ -0,0 +1,29 @@
+package org.openjobspec.quarkus;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.runtime.RuntimeValue;
+import io.quarkus.runtime.annotations.Recorder;
+import org.openjobspec.ojs.JobHandler;
+
+/**
+ * Registers the {@link OjsJob} handlers discovered at build time by
+ * {@code ojs-quarkus-deployment}.
+ *
+ * <p>Each handler is a generated class that calls its {@code @OjsJob} method
+ * directly; the recorded bytecode instantiates it with {@code new}, so no
+ * reflection is involved at startup.</p>
+ */
+@Recorder
+public class OjsRecorder {
+
+    /**
+     * Add a generated handler to the {@link OjsJobRegistry}.
+     *
+     * @param jobType the OJS job type
+     * @param handler the generated handler instance
+     */
+    public void registerHandler(String jobType, RuntimeValue<JobHandler> handler) {
+        Arc.container().instance(OjsJobRegistry.class).get()
+                .register(jobType, handler.getValue());
+    }
+}
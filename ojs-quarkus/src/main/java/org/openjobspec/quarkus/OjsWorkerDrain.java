@@ -0,0 +1,91 @@
+package org.openjobspec.quarkus;
+
+import org.openjobspec.ojs.JobContext;
+import org.openjobspec.ojs.JobHandler;
+import org.openjobspec.ojs.Middleware;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Middleware that tracks in-flight jobs so the worker can be drained on shutdown.
+ *
+ * <p>Once {@link #drain} starts, running jobs get up to the grace period to finish.
+ * Jobs the worker fetched before it stopped fetching may still be delivered during
+ * the grace period; they already hold a lease, and refusing them would fail them and
+ * burn a retry attempt, so they are run and waited for like the others. Jobs still
+ * running after the grace period are interrupted, which fails them through the
+ * worker's normal error path so the server retries them elsewhere instead of waiting
+ * for a lease to expire. Only a job delivered after that is refused.</p>
+ */
+final class OjsWorkerDrain implements Middleware {
+
+    private final ConcurrentHashMap<Thread, String> inFlight = new ConcurrentHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition idle = lock.newCondition();
+    private volatile boolean draining;
+    private boolean expired;
+
+    @Override
+    public void apply(JobContext ctx, JobHandler next) throws Exception {
+        var thread = Thread.currentThread();
+        lock.lock();
+        try {
+            // Checked under the lock so a job cannot slip in after the interrupt pass
+            if (expired) {
+                throw new IllegalStateException("OJS worker is shutting down");
+            }
+            inFlight.put(thread, ctx.job().id());
+        } finally {
+            lock.unlock();
+        }
+        try {
+            next.handle(ctx);
+        } finally {
+            inFlight.remove(thread);
+            lock.lock();
+            try {
+                idle.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /** The number of jobs currently running. */
+    int inFlightCount() {
+        return inFlight.size();
+    }
+
+    /** Whether a drain has started. */
+    boolean isDraining() {
+        return draining;
+    }
+
+    /**
+     * Wait up to {@code gracePeriod} for running jobs, including ones delivered
+     * meanwhile, to finish, then interrupt the ones that do not and refuse new jobs.
+     * The worker should already have been told to stop fetching.
+     *
+     * @return the IDs of the interrupted jobs
+     */
+    List<String> drain(Duration gracePeriod) throws InterruptedException {
+        draining = true;
+        long remaining = gracePeriod.toNanos();
+        lock.lock();
+        try {
+            while (!inFlight.isEmpty() && remaining > 0) {
+                remaining = idle.awaitNanos(remaining);
+            }
+            expired = true;
+            var interrupted = List.copyOf(inFlight.values());
+            inFlight.keySet().forEach(Thread::interrupt);
+            return interrupted;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -7,9 +7,12 @@ import jakarta.enterprise.event.Observes;
 import jakarta.enterprise.inject.Any;
 import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
+import org.openjobspec.common.OjsPinningMonitor;
+import org.openjobspec.common.OjsPrefetchBuffer;
 import org.openjobspec.ojs.Middleware;
 import org.openjobspec.ojs.OJSWorker;
 
+import java.time.Duration;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -25,14 +28,28 @@ import java.util.logging.Logger;
  *       block the Quarkus startup sequence).</li>
  * </ol>
  *
- * <p>On shutdown the worker is stopped gracefully, honouring the configured
- * grace period.</p>
+ * <p>With {@code ojs.worker.prefetch} set, an {@link OjsPrefetchBuffer} holds the
+ * jobs fetched ahead until a slot is free. It goes inside the shutdown drain, so held
+ * jobs are interrupted on shutdown too. With {@code ojs.worker.execution=VIRTUAL_THREADS} an
+ * {@link OjsPinningMonitor} is installed as well, reporting handlers that pin their
+ * carrier thread.</p>
+ *
+ * <p>On shutdown the worker stops fetching and running jobs get up to
+ * {@code ojs.worker.grace-period-seconds} to finish. Jobs still running after that
+ * are interrupted, so they fail and are retried rather than held until their lease
+ * expires. The SDK has no way to hand a job back, so each interrupted job uses up one
+ * of its retry attempts, and one interrupted on its last attempt is discarded. The
+ * grace period is enforced here only; the worker itself is built without one, so
+ * shutdown does not wait for it twice.</p>
  */
 @ApplicationScoped
 public class OjsWorkerLifecycle {
 
     private static final Logger LOG = Logger.getLogger(OjsWorkerLifecycle.class.getName());
 
+    /** How long to wait for the worker to stop once in-flight jobs are drained. */
+    private static final Duration STOP_TIMEOUT = Duration.ofSeconds(5);
+
     @Inject
     OJSWorker worker;
 
@@ -46,8 +63,12 @@ public class OjsWorkerLifecycle {
     @Any
     Instance<Middleware> middlewareInstances;
 
+    final OjsWorkerDrain drain = new OjsWorkerDrain();
+
     private volatile Thread workerThread;
 
+    private volatile OjsPinningMonitor pinningMonitor;
+
     /**
      * Start the worker when the Quarkus application starts.
      */
@@ -63,6 +84,20 @@ public class OjsWorkerLifecycle {
             LOG.fine(() -> "Registered OJS handler: " + type);
         });
 
+        // Track in-flight jobs for the shutdown drain, outermost so it sees every job
+        worker.use(drain);
+
+        if (config.worker().prefetch() > 0) {
+            worker.use(new OjsPrefetchBuffer(OjsProducer.workerConcurrency(config), config.worker().prefetch()));
+        }
+
+        if (config.worker().execution() == OjsConfig.Worker.Execution.VIRTUAL_THREADS) {
+            var monitor = new OjsPinningMonitor(Duration.ofMillis(config.worker().pinnedThresholdMillis()));
+            worker.use(monitor);
+            monitor.start();
+            pinningMonitor = monitor;
+        }
+
         // Install CDI-managed middleware
         for (Middleware mw : middlewareInstances) {
             worker.use(mw);
@@ -85,14 +120,45 @@ public class OjsWorkerLifecycle {
      * Stop the worker when the Quarkus application shuts down.
      */
     void onStop(@Observes ShutdownEvent ev) {
-        LOG.info("Stopping OJS worker");
+        var gracePeriod = Duration.ofSeconds(config.worker().gracePeriodSeconds());
+        LOG.info(() -> "Stopping OJS worker, draining in-flight jobs for up to " + gracePeriod.toSeconds() + "s");
+        // Stop fetching before draining; jobs fetched meanwhile are still run by the drain
+        var stopping = Thread.ofVirtual()
+                .name("ojs-worker-stop")
+                .start(() -> {
+                    try {
+                        worker.stop();
+                    } catch (Exception e) {
+                        LOG.log(Level.WARNING, "Error stopping OJS worker", e);
+                    }
+                });
         try {
-            worker.stop();
-        } catch (Exception e) {
-            LOG.log(Level.WARNING, "Error stopping OJS worker", e);
+            var interrupted = drain.drain(gracePeriod);
+            if (!interrupted.isEmpty()) {
+                LOG.warning(() -> "Interrupted " + interrupted.size()
+                        + " OJS jobs still running after the grace period: " + interrupted);
+            }
+            if (!stopping.join(STOP_TIMEOUT)) {
+                LOG.warning("OJS worker did not stop within " + STOP_TIMEOUT.toSeconds() + "s");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            var monitor = pinningMonitor;
+            if (monitor != null) {
+                monitor.close();
+            }
         }
     }
 
+    /**
+     * Returns the monitor counting carrier thread pins per job type, or {@code null}
+     * unless the worker runs jobs on virtual threads.
+     */
+    public OjsPinningMonitor getPinningMonitor() {
+        return pinningMonitor;
+    }
+
     /** Returns {@code true} if the worker thread is alive. */
     public boolean isRunning() {
         return workerThread != null && workerThread.isAlive();
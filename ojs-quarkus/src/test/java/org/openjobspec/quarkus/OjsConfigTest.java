@@ -3,8 +3,10 @@ package org.openjobspec.quarkus;
 import io.smallrye.config.ConfigMapping;
 import io.smallrye.config.WithDefault;
 import org.junit.jupiter.api.Test;
+import org.openjobspec.common.OjsEventDispatcher;
 
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
@@ -110,6 +112,34 @@ class OjsConfigTest {
         assertEquals(boolean.class, method.getReturnType());
     }
 
+    @Test
+    void workerPrefetchDefault() throws NoSuchMethodException {
+        var method = OjsConfig.Worker.class.getDeclaredMethod("prefetch");
+        var annotation = method.getAnnotation(WithDefault.class);
+        assertNotNull(annotation);
+        assertEquals("0", annotation.value());
+        assertEquals(int.class, method.getReturnType());
+    }
+
+    // ---- HTTP nested config ----
+
+    @Test
+    void httpVersionDefault() throws NoSuchMethodException {
+        var method = OjsConfig.Http.class.getDeclaredMethod("version");
+        var annotation = method.getAnnotation(WithDefault.class);
+        assertNotNull(annotation);
+        assertEquals("HTTP_1_1", annotation.value());
+    }
+
+    @Test
+    void httpConnectTimeoutSecondsDefault() throws NoSuchMethodException {
+        var method = OjsConfig.Http.class.getDeclaredMethod("connectTimeoutSeconds");
+        var annotation = method.getAnnotation(WithDefault.class);
+        assertNotNull(annotation);
+        assertEquals("5", annotation.value());
+        assertEquals(int.class, method.getReturnType());
+    }
+
     // ---- Encryption nested config ----
 
     @Test
@@ -177,4 +207,43 @@ class OjsConfigTest {
         assertEquals("events", annotation.value());
         assertEquals(String.class, method.getReturnType());
     }
+
+    @Test
+    void eventsQueueCapacityDefault() throws NoSuchMethodException {
+        var method = OjsConfig.Events.class.getDeclaredMethod("queueCapacity");
+        var annotation = method.getAnnotation(WithDefault.class);
+        assertNotNull(annotation);
+        assertEquals(String.valueOf(OjsEventDispatcher.DEFAULT_CAPACITY), annotation.value());
+        assertEquals(int.class, method.getReturnType());
+    }
+
+    @Test
+    void eventsOverflowPolicyDefault() throws NoSuchMethodException {
+        var method = OjsConfig.Events.class.getDeclaredMethod("overflowPolicy");
+        var annotation = method.getAnnotation(WithDefault.class);
+        assertNotNull(annotation);
+        assertEquals("BLOCK", annotation.value());
+        assertEquals(OjsEventDispatcher.OverflowPolicy.class, method.getReturnType());
+    }
+
+    @Test
+    void eventsReconnectDefaults() throws NoSuchMethodException {
+        var backoff = OjsConfig.Events.class.getDeclaredMethod("reconnectBackoff");
+        assertEquals("500ms", backoff.getAnnotation(WithDefault.class).value());
+        assertEquals(Duration.class, backoff.getReturnType());
+        var maxBackoff = OjsConfig.Events.class.getDeclaredMethod("reconnectMaxBackoff");
+        assertEquals("30s", maxBackoff.getAnnotation(WithDefault.class).value());
+        assertEquals(Duration.class, maxBackoff.getReturnType());
+        assertEquals("1024", OjsConfig.Events.class.getDeclaredMethod("dedupeWindow")
+                .getAnnotation(WithDefault.class).value());
+    }
+
+    @Test
+    void eventsFiltersAreOptionalLists() throws NoSuchMethodException {
+        for (var name : List.of("typePrefixes", "queues", "jobTypes")) {
+            var method = OjsConfig.Events.class.getDeclaredMethod(name);
+            assertEquals(Optional.class, method.getReturnType());
+            assertNull(method.getAnnotation(WithDefault.class));
+        }
+    }
 }
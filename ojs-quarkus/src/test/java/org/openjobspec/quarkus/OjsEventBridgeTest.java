@@ -1,8 +1,11 @@
 package org.openjobspec.quarkus;
 
 import org.junit.jupiter.api.Test;
+import org.openjobspec.common.OjsEventFilter;
 
 import java.lang.reflect.Method;
+import java.time.Instant;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -27,6 +30,13 @@ class OjsEventBridgeTest {
         assertEquals(jakarta.enterprise.event.Event.class, field.getType());
     }
 
+    @Test
+    void hasSharedHttpClientField() throws NoSuchFieldException {
+        var field = OjsEventBridge.class.getDeclaredField("httpClient");
+        assertTrue(field.isAnnotationPresent(jakarta.inject.Inject.class));
+        assertEquals("ojs", field.getAnnotation(jakarta.inject.Named.class).value());
+    }
+
     @Test
     void hasOnStartMethod() {
         boolean found = false;
@@ -75,4 +85,35 @@ class OjsEventBridgeTest {
         assertNotNull(bridge);
         assertFalse(bridge.isSubscribed());
     }
+
+    @Test
+    void dispatcherIsNullBeforeStart() {
+        assertNull(new OjsEventBridge().getDispatcher());
+    }
+
+    @Test
+    void filterDropsUnwantedEvents() {
+        var filter = new OjsEventFilter(List.of("job.failed"), List.of("payments"), List.of());
+
+        assertFalse(OjsEventBridge.passes(filter, "job.completed", "not json"));
+        assertFalse(OjsEventBridge.passes(filter, "job.failed", "{\"data\":{\"queue\":\"default\"}}"));
+        assertFalse(OjsEventBridge.passes(filter, "job.failed", "not json"));
+        assertTrue(OjsEventBridge.passes(filter, "job.failed", "{\"data\":{\"queue\":\"payments\"}}"));
+        assertTrue(OjsEventBridge.passes(OjsEventFilter.ALL, "job.completed", "not json"));
+    }
+
+    @Test
+    void subjectOfReadsJobFromPayload() {
+        var event = new OjsJobEvent("1", "job.completed",
+                "{\"type\":\"job.completed\",\"subject\":\"job-1\"}", Instant.now());
+
+        assertEquals("job-1", OjsEventBridge.subjectOf(event));
+    }
+
+    @Test
+    void subjectOfToleratesMalformedPayload() {
+        var event = new OjsJobEvent("1", "job.completed", "not json", Instant.now());
+
+        assertNull(OjsEventBridge.subjectOf(event));
+    }
 }
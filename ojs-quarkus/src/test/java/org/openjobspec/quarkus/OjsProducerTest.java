@@ -8,6 +8,8 @@ import org.openjobspec.ojs.OJSClient;
 import org.openjobspec.ojs.OJSWorker;
 
 import java.lang.reflect.Method;
+import java.net.http.HttpClient;
+import java.time.Duration;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -24,27 +26,27 @@ class OjsProducerTest {
 
     @Test
     void ojsClientMethodHasProducesAnnotation() throws NoSuchMethodException {
-        Method method = OjsProducer.class.getDeclaredMethod("ojsClient", OjsConfig.class);
+        Method method = OjsProducer.class.getDeclaredMethod("ojsClient", OjsConfig.class, HttpClient.class);
         assertTrue(method.isAnnotationPresent(jakarta.enterprise.inject.Produces.class));
         assertTrue(method.isAnnotationPresent(jakarta.inject.Singleton.class));
     }
 
     @Test
     void ojsWorkerMethodHasProducesAnnotation() throws NoSuchMethodException {
-        Method method = OjsProducer.class.getDeclaredMethod("ojsWorker", OjsConfig.class);
+        Method method = OjsProducer.class.getDeclaredMethod("ojsWorker", OjsConfig.class, HttpClient.class);
         assertTrue(method.isAnnotationPresent(jakarta.enterprise.inject.Produces.class));
         assertTrue(method.isAnnotationPresent(jakarta.inject.Singleton.class));
     }
 
     @Test
     void ojsClientMethodReturnsCorrectType() throws NoSuchMethodException {
-        Method method = OjsProducer.class.getDeclaredMethod("ojsClient", OjsConfig.class);
+        Method method = OjsProducer.class.getDeclaredMethod("ojsClient", OjsConfig.class, HttpClient.class);
         assertEquals(OJSClient.class, method.getReturnType());
     }
 
     @Test
     void ojsWorkerMethodReturnsCorrectType() throws NoSuchMethodException {
-        Method method = OjsProducer.class.getDeclaredMethod("ojsWorker", OjsConfig.class);
+        Method method = OjsProducer.class.getDeclaredMethod("ojsWorker", OjsConfig.class, HttpClient.class);
         assertEquals(OJSWorker.class, method.getReturnType());
     }
 
@@ -53,22 +55,59 @@ class OjsProducerTest {
         when(config.url()).thenReturn("http://test:9090");
 
         var producer = new OjsProducer();
-        var client = producer.ojsClient(config);
+        var client = producer.ojsClient(config, HttpClient.newHttpClient());
 
         assertNotNull(client);
         assertInstanceOf(OJSClient.class, client);
     }
 
     @Test
-    void producerCreatesWorkerFromConfig(@Mock OjsConfig config) {
+    void producerCreatesWorkerFromConfig(@Mock OjsConfig config, @Mock OjsConfig.Worker workerConfig) {
         when(config.url()).thenReturn("http://test:9090");
         when(config.queues()).thenReturn(List.of("high", "low"));
         when(config.concurrency()).thenReturn(20);
+        when(config.worker()).thenReturn(workerConfig);
+        when(workerConfig.pollIntervalSeconds()).thenReturn(5);
 
         var producer = new OjsProducer();
-        var worker = producer.ojsWorker(config);
+        var worker = producer.ojsWorker(config, HttpClient.newHttpClient());
 
         assertNotNull(worker);
         assertInstanceOf(OJSWorker.class, worker);
+        verify(workerConfig, never()).gracePeriodSeconds();
+    }
+
+    @Test
+    void producerBoundsVirtualThreadWorkerByMaxInFlight(@Mock OjsConfig config, @Mock OjsConfig.Worker workerConfig) {
+        when(config.url()).thenReturn("http://test:9090");
+        when(config.queues()).thenReturn(List.of("default"));
+        when(config.worker()).thenReturn(workerConfig);
+        when(workerConfig.execution()).thenReturn(OjsConfig.Worker.Execution.VIRTUAL_THREADS);
+        when(workerConfig.maxInFlight()).thenReturn(2000);
+        when(workerConfig.pollIntervalSeconds()).thenReturn(1);
+
+        var worker = new OjsProducer().ojsWorker(config, HttpClient.newHttpClient());
+
+        assertNotNull(worker);
+        verify(config, never()).concurrency();
+    }
+
+    @Test
+    void ojsHttpClientIsNamedProducer() throws NoSuchMethodException {
+        Method method = OjsProducer.class.getDeclaredMethod("ojsHttpClient", OjsConfig.class);
+        assertTrue(method.isAnnotationPresent(jakarta.enterprise.inject.Produces.class));
+        assertEquals("ojs", method.getAnnotation(jakarta.inject.Named.class).value());
+    }
+
+    @Test
+    void producerCreatesHttpClientFromConfig(@Mock OjsConfig config, @Mock OjsConfig.Http http) {
+        when(config.http()).thenReturn(http);
+        when(http.version()).thenReturn(HttpClient.Version.HTTP_2);
+        when(http.connectTimeoutSeconds()).thenReturn(2);
+
+        var httpClient = new OjsProducer().ojsHttpClient(config);
+
+        assertEquals(HttpClient.Version.HTTP_2, httpClient.version());
+        assertEquals(Duration.ofSeconds(2), httpClient.connectTimeout().orElseThrow());
     }
 }
@@ -0,0 +1,132 @@
+package org.openjobspec.quarkus;
+
+import org.junit.jupiter.api.Test;
+import org.openjobspec.ojs.Job;
+import org.openjobspec.ojs.JobContext;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class OjsWorkerDrainTest {
+
+    private final OjsWorkerDrain drain = new OjsWorkerDrain();
+
+    @Test
+    void drainsImmediatelyWhenIdle() throws Exception {
+        assertEquals(List.of(), drain.drain(Duration.ofSeconds(5)));
+        assertTrue(drain.isDraining());
+    }
+
+    @Test
+    void waitsForRunningJobsToFinish() throws Exception {
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var job = run("job-1", started, () -> release.await());
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        assertEquals(1, drain.inFlightCount());
+
+        Thread.ofVirtual().start(() -> {
+            sleep(50);
+            release.countDown();
+        });
+
+        assertEquals(List.of(), drain.drain(Duration.ofSeconds(5)));
+        job.get(5, TimeUnit.SECONDS);
+        assertEquals(0, drain.inFlightCount());
+    }
+
+    @Test
+    void interruptsJobsStillRunningAfterGracePeriod() throws Exception {
+        var started = new CountDownLatch(1);
+        var job = run("job-1", started, () -> new CountDownLatch(1).await());
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        assertEquals(List.of("job-1"), drain.drain(Duration.ofMillis(50)));
+
+        var failure = assertThrows(Exception.class, () -> job.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(InterruptedException.class, failure.getCause());
+    }
+
+    @Test
+    void runsJobsDeliveredDuringGracePeriod() throws Exception {
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var running = run("job-1", started, () -> release.await());
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        var draining = CompletableFuture.supplyAsync(() -> {
+            try {
+                return drain.drain(Duration.ofSeconds(5));
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        while (!drain.isDraining()) {
+            Thread.onSpinWait();
+        }
+
+        var lateStarted = new CountDownLatch(1);
+        var late = run("job-2", lateStarted, () -> release.await());
+        assertTrue(lateStarted.await(5, TimeUnit.SECONDS));
+        assertEquals(2, drain.inFlightCount());
+        release.countDown();
+
+        assertEquals(List.of(), draining.get(5, TimeUnit.SECONDS));
+        running.get(5, TimeUnit.SECONDS);
+        late.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void refusesJobsDeliveredAfterGracePeriod() throws Exception {
+        drain.drain(Duration.ZERO);
+
+        assertThrows(IllegalStateException.class, () -> drain.apply(context("job-1"), ctx -> null));
+        assertEquals(0, drain.inFlightCount());
+    }
+
+    private interface Work {
+        void run() throws Exception;
+    }
+
+    private CompletableFuture<Void> run(String jobId, CountDownLatch started, Work work) {
+        var result = new CompletableFuture<Void>();
+        var ctx = context(jobId);
+        Thread.ofVirtual().start(() -> {
+            try {
+                drain.apply(ctx, c -> {
+                    started.countDown();
+                    work.run();
+                    return null;
+                });
+                result.complete(null);
+            } catch (Exception e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    private static JobContext context(String jobId) {
+        var job = new Job(Job.SPEC_VERSION, jobId, "test.job", "default",
+                List.of(), Map.of(), 0, 0, null, null, null, null, null,
+                "active", 1, null, null, null, null, null, null, List.of());
+        var ctx = mock(JobContext.class);
+        when(ctx.job()).thenReturn(job);
+        return ctx;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 import java.lang.reflect.Method;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
 
 class OjsWorkerLifecycleTest {
 
@@ -98,4 +99,70 @@ class OjsWorkerLifecycleTest {
         }
         fail("onStop method not found");
     }
+
+    @Test
+    void onStopStopsWorkerAndDrains() {
+        var lifecycle = new OjsWorkerLifecycle();
+        lifecycle.worker = mock(org.openjobspec.ojs.OJSWorker.class);
+        lifecycle.config = mock(OjsConfig.class);
+        var workerConfig = mock(OjsConfig.Worker.class);
+        when(lifecycle.config.worker()).thenReturn(workerConfig);
+        when(workerConfig.gracePeriodSeconds()).thenReturn(1);
+
+        lifecycle.onStop(null);
+
+        verify(lifecycle.worker, timeout(5000)).stop();
+        assertTrue(lifecycle.drain.isDraining());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void virtualThreadExecutionInstallsPinningMonitor() {
+        var lifecycle = new OjsWorkerLifecycle();
+        lifecycle.worker = mock(org.openjobspec.ojs.OJSWorker.class);
+        lifecycle.registry = mock(OjsJobRegistry.class);
+        lifecycle.config = mock(OjsConfig.class);
+        lifecycle.middlewareInstances = mock(jakarta.enterprise.inject.Instance.class);
+        when(lifecycle.middlewareInstances.iterator()).thenReturn(java.util.Collections.emptyIterator());
+        var workerConfig = mock(OjsConfig.Worker.class);
+        when(lifecycle.config.worker()).thenReturn(workerConfig);
+        when(workerConfig.autoStart()).thenReturn(true);
+        when(workerConfig.execution()).thenReturn(OjsConfig.Worker.Execution.VIRTUAL_THREADS);
+        when(workerConfig.pinnedThresholdMillis()).thenReturn(20L);
+
+        lifecycle.onStart(null);
+        lifecycle.onStop(null);
+
+        var monitor = lifecycle.getPinningMonitor();
+        assertNotNull(monitor);
+        verify(lifecycle.worker).use(lifecycle.drain);
+        verify(lifecycle.worker).use(monitor);
+        verify(lifecycle.worker, never()).use(any(org.openjobspec.common.OjsPrefetchBuffer.class));
+    }
+
+    @Test
+    void prefetchInstallsBufferInsideDrain() {
+        var lifecycle = new OjsWorkerLifecycle();
+        lifecycle.worker = mock(org.openjobspec.ojs.OJSWorker.class);
+        lifecycle.registry = mock(OjsJobRegistry.class);
+        lifecycle.config = mock(OjsConfig.class);
+        lifecycle.middlewareInstances = mock(jakarta.enterprise.inject.Instance.class);
+        when(lifecycle.middlewareInstances.iterator()).thenReturn(java.util.Collections.emptyIterator());
+        var workerConfig = mock(OjsConfig.Worker.class);
+        when(lifecycle.config.worker()).thenReturn(workerConfig);
+        when(lifecycle.config.concurrency()).thenReturn(4);
+        when(workerConfig.autoStart()).thenReturn(true);
+        when(workerConfig.execution()).thenReturn(OjsConfig.Worker.Execution.POOL);
+        when(workerConfig.prefetch()).thenReturn(2);
+
+        lifecycle.onStart(null);
+        lifecycle.onStop(null);
+
+        var buffer = org.mockito.ArgumentCaptor.forClass(org.openjobspec.common.OjsPrefetchBuffer.class);
+        var order = inOrder(lifecycle.worker);
+        order.verify(lifecycle.worker).use(lifecycle.drain);
+        order.verify(lifecycle.worker).use(buffer.capture());
+        assertEquals(4, buffer.getValue().getSlots());
+        assertEquals(6, buffer.getValue().workerConcurrency());
+    }
 }
@@ -7,14 +7,21 @@ description = "OJS Spring Boot Starter"
 
 dependencies {
     api("org.openjobspec:ojs-sdk:${property("ojsSdkVersion")}")
+    api(project(":ojs-common"))
     api("org.springframework.boot:spring-boot-starter:${property("springBootVersion")}")
 
     compileOnly("org.springframework.boot:spring-boot-actuator:${property("springBootVersion")}")
     compileOnly("org.springframework:spring-tx:6.1.8")
+    compileOnly("org.springframework:spring-jdbc:6.1.8")
     compileOnly("io.micrometer:micrometer-core:1.13.0")
+    compileOnly("io.projectreactor:reactor-core:3.6.6")
 
     testImplementation("org.springframework.boot:spring-boot-starter-test:${property("springBootVersion")}")
     testImplementation("org.springframework.boot:spring-boot-actuator:${property("springBootVersion")}")
     testImplementation("org.springframework:spring-tx:6.1.8")
+    testImplementation("org.springframework:spring-jdbc:6.1.8")
     testImplementation("io.micrometer:micrometer-core:1.13.0")
+    testImplementation("io.projectreactor:reactor-core:3.6.6")
+    testImplementation("io.projectreactor:reactor-test:3.6.6")
+    testRuntimeOnly("com.h2database:h2:2.2.224")
 }
@@ -0,0 +1,180 @@
+package org.openjobspec.spring;
+
+import org.openjobspec.ojs.Job;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * Non-blocking counterpart of {@link OjsTemplate}. Every operation returns a
+ * {@link CompletableFuture} and runs on a dedicated executor, so callers on
+ * servlet or event-loop threads are never pinned to an HTTP round-trip.
+ *
+ * <p>By default calls run on virtual threads. The number of calls in flight
+ * against the OJS server is bounded by {@code maxInFlight}; once it is reached,
+ * further calls return a future that has already failed with a
+ * {@link RejectedExecutionException} instead of queueing, so a slow server
+ * cannot exhaust threads or connections.
+ *
+ * <pre>{@code
+ * @Autowired OjsAsyncTemplate ojs;
+ *
+ * ojs.enqueue("email.send", Map.of("to", "user@example.com"))
+ *    .thenAccept(job -> log.info("Enqueued {}", job.id()));
+ *
+ * // Configuration
+ * ojs:
+ *   async:
+ *     max-in-flight: 256
+ *     virtual-threads: true
+ * }</pre>
+ */
+public class OjsAsyncTemplate implements AutoCloseable {
+
+    private final OjsTemplate template;
+    private final Executor executor;
+    private final Semaphore inFlight;
+    private final int maxInFlight;
+    private final boolean ownsExecutor;
+
+    /**
+     * Create an async template running on virtual threads.
+     *
+     * @param template    the blocking template to delegate to
+     * @param maxInFlight maximum number of concurrent calls to the OJS server
+     */
+    public OjsAsyncTemplate(OjsTemplate template, int maxInFlight) {
+        this(template, Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("ojs-async-", 0).factory()), maxInFlight, true);
+    }
+
+    /**
+     * Create an async template running on the given executor. The executor is
+     * not shut down by {@link #close()}.
+     *
+     * @param template    the blocking template to delegate to
+     * @param executor    the executor running the blocking calls
+     * @param maxInFlight maximum number of concurrent calls to the OJS server
+     */
+    public OjsAsyncTemplate(OjsTemplate template, Executor executor, int maxInFlight) {
+        this(template, executor, maxInFlight, false);
+    }
+
+    /** Create an async template that shuts the given executor down on {@link #close()}. */
+    static OjsAsyncTemplate withOwnedExecutor(OjsTemplate template, ExecutorService executor, int maxInFlight) {
+        return new OjsAsyncTemplate(template, executor, maxInFlight, true);
+    }
+
+    private OjsAsyncTemplate(OjsTemplate template, Executor executor, int maxInFlight, boolean ownsExecutor) {
+        this.template = Objects.requireNonNull(template, "template must not be null");
+        this.executor = Objects.requireNonNull(executor, "executor must not be null");
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("maxInFlight must be at least 1");
+        }
+        this.maxInFlight = maxInFlight;
+        this.inFlight = new Semaphore(maxInFlight);
+        this.ownsExecutor = ownsExecutor;
+    }
+
+    /** Get the underlying blocking template. */
+    public OjsTemplate getTemplate() {
+        return template;
+    }
+
+    /** @see OjsTemplate#enqueue(String, Map) */
+    public CompletableFuture<Job> enqueue(String type, Map<String, Object> args) {
+        return submit(() -> template.enqueue(type, args));
+    }
+
+    /** @see OjsTemplate#enqueue(String, List) */
+    public CompletableFuture<Job> enqueue(String type, List<Object> args) {
+        return submit(() -> template.enqueue(type, args));
+    }
+
+    /** @see OjsTemplate#enqueueToQueue(String, String, Map) */
+    public CompletableFuture<Job> enqueueToQueue(String type, String queue, Map<String, Object> args) {
+        return submit(() -> template.enqueueToQueue(type, queue, args));
+    }
+
+    /** @see OjsTemplate#enqueueAt(String, Instant, Map) */
+    public CompletableFuture<Job> enqueueAt(String type, Instant scheduledAt, Map<String, Object> args) {
+        return submit(() -> template.enqueueAt(type, scheduledAt, args));
+    }
+
+    /** @see OjsTemplate#enqueueAt(String, Instant, List) */
+    public CompletableFuture<Job> enqueueAt(String type, Instant scheduledAt, List<Object> args) {
+        return submit(() -> template.enqueueAt(type, scheduledAt, args));
+    }
+
+    /** @see OjsTemplate#enqueueWithDelay(String, Duration, Map) */
+    public CompletableFuture<Job> enqueueWithDelay(String type, Duration delay, Map<String, Object> args) {
+        return submit(() -> template.enqueueWithDelay(type, delay, args));
+    }
+
+    /** @see OjsTemplate#getJob(String) */
+    public CompletableFuture<Job> getJob(String id) {
+        return submit(() -> template.getJob(id));
+    }
+
+    /** @see OjsTemplate#cancelJob(String) */
+    public CompletableFuture<Job> cancelJob(String id) {
+        return submit(() -> template.cancelJob(id));
+    }
+
+    /** @see OjsTemplate#enqueueBatch(List) */
+    public CompletableFuture<List<Job>> enqueueBatch(List<Map<String, Object>> requests) {
+        return submit(() -> template.enqueueBatch(requests));
+    }
+
+    /** @see OjsTemplate#health() */
+    public CompletableFuture<Map<String, Object>> health() {
+        return submit(template::health);
+    }
+
+    /** The number of calls currently executing against the OJS server. */
+    public int inFlightCount() {
+        return maxInFlight - inFlight.availablePermits();
+    }
+
+    /** The configured in-flight limit. */
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    /** Shut down the executor if it was created by this template. */
+    @Override
+    public void close() {
+        if (ownsExecutor && executor instanceof ExecutorService service) {
+            service.shutdown();
+        }
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> call) {
+        if (!inFlight.tryAcquire()) {
+            return CompletableFuture.failedFuture(new RejectedExecutionException(
+                    "OjsAsyncTemplate already has " + maxInFlight + " calls in flight"));
+        }
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return call.get();
+                } finally {
+                    inFlight.release();
+                }
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            inFlight.release();
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
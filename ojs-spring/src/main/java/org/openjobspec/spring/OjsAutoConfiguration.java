@@ -1,20 +1,35 @@
 package org.openjobspec.spring;
 
+import org.openjobspec.common.OjsHttpClients;
+import org.openjobspec.common.OjsPinningMonitor;
+import org.openjobspec.common.OjsPrefetchBuffer;
 import org.openjobspec.ojs.OJSClient;
 import org.openjobspec.ojs.OJSWorker;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionOutcome;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.SpringBootCondition;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.core.type.AnnotatedTypeMetadata;
 
 import jakarta.annotation.PreDestroy;
 
+import java.net.http.HttpClient;
+import java.util.Objects;
+
 /**
  * Auto-configuration for OJS client, worker, template, and supporting beans.
  * Activated when {@code ojs.enabled} is {@code true} (the default).
@@ -22,50 +37,138 @@ import jakarta.annotation.PreDestroy;
  * <p>This configuration:
  * <ul>
  *   <li>Creates an {@link OJSClient} from {@code ojs.url}</li>
+ *   <li>Shares one pooled {@link HttpClient} ({@code ojsHttpClient}, tuned by {@code ojs.http.*})
+ *       between the client and the worker</li>
  *   <li>Creates an {@link OJSWorker} with auto-registration of {@link OjsJob @OjsJob} handlers</li>
+ *   <li>Applies per-queue and per-type limits through an {@link OjsConcurrencyLimiter}</li>
  *   <li>Provides an {@link OjsTemplate} for Spring-style job operations</li>
+ *   <li>Provides an {@link OjsAsyncTemplate} for non-blocking job operations</li>
+ *   <li>Provides an {@link OjsEnqueueBatcher} when {@code ojs.enqueue.batching.enabled=true}</li>
  *   <li>Provides an {@link OjsWorkflowTemplate} for workflow orchestration</li>
  *   <li>Provides an {@link OjsCronBridge} for cron job management</li>
  *   <li>Configures {@link OjsEventBridge} when {@code ojs.events.enabled=true}</li>
  *   <li>Configures {@link OjsEncryptionAutoConfiguration} when {@code ojs.encryption.enabled=true}</li>
- *   <li>Configures {@link OjsHealthIndicator} when Spring Actuator is on the classpath</li>
+ *   <li>Configures {@link OjsHealthIndicator} and {@link OjsQueuesHealthIndicator} when Spring Actuator
+ *       is on the classpath</li>
+ *   <li>Configures {@link OjsPinningMonitor} when {@code ojs.worker.execution=virtual-threads}</li>
  *   <li>Configures {@link OjsMicrometerMetrics} when Micrometer is on the classpath</li>
  *   <li>Configures {@link OjsTransactionalEnqueue} when Spring TX is on the classpath</li>
+ *   <li>Configures {@link ReactiveOjsTemplate} when Project Reactor is on the classpath</li>
+ *   <li>Configures {@link OjsOutbox} and {@link OjsOutboxRelay} when {@code ojs.outbox.enabled=true}</li>
  * </ul>
+ *
+ * <p>Native images are supported through {@link OjsRuntimeHints} and {@link OjsJobAotProcessor}.
  */
 @AutoConfiguration
 @EnableConfigurationProperties(OjsProperties.class)
 @ConditionalOnProperty(prefix = "ojs", name = "enabled", havingValue = "true", matchIfMissing = true)
 @Import(OjsEncryptionAutoConfiguration.class)
+@ImportRuntimeHints(OjsRuntimeHints.class)
 public class OjsAutoConfiguration {
 
+    @Bean(name = "ojsHttpClient", destroyMethod = "close")
+    @ConditionalOnMissingBean(name = "ojsHttpClient")
+    public HttpClient ojsHttpClient(OjsProperties properties) {
+        var http = properties.getHttp();
+        return OjsHttpClients.create(http.getVersion(), http.getConnectTimeout());
+    }
+
     @Bean
     @ConditionalOnMissingBean
-    public OJSClient ojsClient(OjsProperties properties) {
+    public OJSClient ojsClient(OjsProperties properties,
+                               @Qualifier("ojsHttpClient") HttpClient httpClient) {
         return OJSClient.builder()
                 .url(properties.getUrl())
+                .httpClient(httpClient)
                 .build();
     }
 
     @Bean
     @ConditionalOnMissingBean
-    public OJSWorker ojsWorker(OjsProperties properties) {
+    public OJSWorker ojsWorker(OjsProperties properties,
+                               @Qualifier("ojsHttpClient") HttpClient httpClient) {
         return OJSWorker.builder()
                 .url(properties.getUrl())
+                .httpClient(httpClient)
                 .queues(properties.resolvedQueues())
-                .concurrency(properties.resolvedConcurrency())
+                .concurrency(properties.resolvedConcurrency() + properties.getWorker().getPrefetch())
                 .build();
     }
 
+    @Bean(destroyMethod = "close")
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "ojs.enqueue.batching", name = "enabled", havingValue = "true")
+    public OjsEnqueueBatcher ojsEnqueueBatcher(OJSClient client, OjsProperties properties) {
+        var batching = properties.getEnqueue().getBatching();
+        return new OjsEnqueueBatcher(client, batching.getMaxBatchSize(), batching.getLinger(),
+                batching.getMaxPending());
+    }
+
     @Bean
     @ConditionalOnMissingBean
-    public OjsTemplate ojsTemplate(OJSClient client, OjsProperties properties) {
-        return new OjsTemplate(client, properties.getDefaultQueue());
+    public OjsTemplate ojsTemplate(OJSClient client, OjsProperties properties,
+                                   org.springframework.beans.factory.ObjectProvider<OjsEnqueueBatcher> batcherProvider) {
+        return new OjsTemplate(client, properties.getDefaultQueue(), batcherProvider.getIfAvailable());
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnMissingBean
+    public OjsAsyncTemplate ojsAsyncTemplate(OjsTemplate template, OjsProperties properties) {
+        var async = properties.getAsync();
+        if (async.isVirtualThreads()) {
+            return new OjsAsyncTemplate(template, async.getMaxInFlight());
+        }
+        var executor = java.util.concurrent.Executors.newFixedThreadPool(async.getPoolSize(),
+                Thread.ofPlatform().name("ojs-async-", 0).daemon(true).factory());
+        return OjsAsyncTemplate.withOwnedExecutor(template, executor, async.getMaxInFlight());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public OjsConcurrencyLimiter ojsConcurrencyLimiter(OjsProperties properties) {
+        var worker = properties.getWorker();
+        return new OjsConcurrencyLimiter(worker.getQueueConcurrency(), worker.getLimitWait());
+    }
+
+    /**
+     * Installs the integration's middleware on the worker, outermost first: the
+     * concurrency limiter, the prefetch buffer, the metrics, then the pinning monitor.
+     * Installing them in one place keeps that order independent of bean creation
+     * order; the limiter and the buffer go first so waiting for a permit or a slot,
+     * or being refused one, never shows up in job metrics. This runs once every singleton, and so every
+     * {@link OjsJob#maxConcurrency()}, has been seen, and skips the limiter if no
+     * limit exists.
+     */
+    @Bean
+    public SmartInitializingSingleton ojsWorkerMiddlewareInstaller(
+            OJSWorker worker, OjsConcurrencyLimiter limiter, OjsProperties properties,
+            org.springframework.beans.factory.ObjectProvider<OjsMicrometerMetrics> metricsProvider,
+            org.springframework.beans.factory.ObjectProvider<OjsPinningMonitor> pinningMonitorProvider) {
+        return () -> {
+            if (limiter.hasLimits()) {
+                worker.use("ojs-concurrency", limiter);
+            }
+            int prefetch = properties.getWorker().getPrefetch();
+            if (prefetch > 0) {
+                worker.use("ojs-prefetch", new OjsPrefetchBuffer(properties.resolvedConcurrency(), prefetch));
+            }
+            metricsProvider.ifAvailable(metrics -> worker.use("ojs-metrics", metrics));
+            pinningMonitorProvider.ifAvailable(monitor -> worker.use("ojs-pinning", monitor));
+        };
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnMissingBean
+    @Conditional(OnVirtualThreadExecution.class)
+    public OjsPinningMonitor ojsPinningMonitor(OjsProperties properties) {
+        var monitor = new OjsPinningMonitor(properties.getWorker().getPinnedThreshold());
+        monitor.start();
+        return monitor;
     }
 
     @Bean
-    public OjsJobRegistrar ojsJobRegistrar(OJSWorker worker) {
-        return new OjsJobRegistrar(worker);
+    public OjsJobRegistrar ojsJobRegistrar(OJSWorker worker, OjsConcurrencyLimiter limiter) {
+        return new OjsJobRegistrar(worker, limiter);
     }
 
     @Bean
@@ -90,8 +193,20 @@ public class OjsAutoConfiguration {
         @Bean
         @ConditionalOnMissingBean
         public OjsEventBridge ojsEventBridge(OjsProperties properties,
-                                              ApplicationEventPublisher publisher) {
-            return new OjsEventBridge(properties.getUrl(), publisher);
+                                              ApplicationEventPublisher publisher,
+                                              @Qualifier("ojsHttpClient") HttpClient httpClient,
+                                              OJSClient client) {
+            var events = properties.getEvents();
+            return new OjsEventBridge(properties.getUrl(), publisher, OjsEventBridge.Options.DEFAULT
+                    .withDecodePayload(events.isDecodePayload())
+                    .withMultiplexChannel(events.getMultiplexChannel())
+                    .withQueueCapacity(events.getQueueCapacity())
+                    .withOverflowPolicy(events.getOverflowPolicy())
+                    .withHttpClient(httpClient)
+                    .withReconnect(events.toReconnect())
+                    .withFilter(events.toFilter())
+                    .withClient(client)
+                    .withWatchTimeout(events.getWatchTimeout()));
         }
 
         @Bean
@@ -101,6 +216,23 @@ public class OjsAutoConfiguration {
         }
     }
 
+    /**
+     * Matches when {@code ojs.worker.execution} binds to
+     * {@link OjsProperties.Worker.Execution#VIRTUAL_THREADS}, so every relaxed spelling
+     * that switches the worker to virtual threads also installs the pinning monitor.
+     */
+    static class OnVirtualThreadExecution extends SpringBootCondition {
+        @Override
+        public ConditionOutcome getMatchOutcome(ConditionContext context, AnnotatedTypeMetadata metadata) {
+            var execution = Binder.get(context.getEnvironment())
+                    .bind("ojs.worker.execution", OjsProperties.Worker.Execution.class)
+                    .orElse(OjsProperties.Worker.Execution.POOL);
+            return execution == OjsProperties.Worker.Execution.VIRTUAL_THREADS
+                    ? ConditionOutcome.match("ojs.worker.execution is virtual-threads")
+                    : ConditionOutcome.noMatch("ojs.worker.execution is " + execution);
+        }
+    }
+
     /** Lifecycle bean that cleans up event subscriptions on shutdown. */
     static class OjsEventBridgeShutdown {
         private final org.springframework.beans.factory.ObjectProvider<OjsEventBridge> bridgeProvider;
@@ -113,7 +245,7 @@ public class OjsAutoConfiguration {
         void shutdown() {
             var bridge = bridgeProvider.getIfAvailable();
             if (bridge != null) {
-                bridge.cancelAll();
+                bridge.close();
             }
         }
     }
@@ -123,9 +255,18 @@ public class OjsAutoConfiguration {
     static class OjsHealthAutoConfiguration {
         @Bean
         @ConditionalOnMissingBean
-        public OjsHealthIndicator ojsHealthIndicator(OJSClient client,
+        public OjsHealthIndicator ojsHealthIndicator(OJSClient client, OjsProperties properties,
                                                       org.springframework.beans.factory.ObjectProvider<OJSWorker> workerProvider) {
-            return new OjsHealthIndicator(client, workerProvider.getIfAvailable());
+            var health = properties.getHealth();
+            return new OjsHealthIndicator(client, workerProvider.getIfAvailable(),
+                    health.getCacheTtl(), health.getTimeout());
+        }
+
+        @Bean
+        @ConditionalOnMissingBean
+        public OjsQueuesHealthIndicator ojsQueuesHealthIndicator(OJSClient client, OjsProperties properties) {
+            var health = properties.getHealth();
+            return new OjsQueuesHealthIndicator(client, health.getCacheTtl(), health.getTimeout());
         }
     }
 
@@ -136,18 +277,80 @@ public class OjsAutoConfiguration {
         @Bean
         @ConditionalOnMissingBean
         public OjsMicrometerMetrics ojsMicrometerMetrics(
-                io.micrometer.core.instrument.MeterRegistry registry) {
-            return new OjsMicrometerMetrics(registry);
+                io.micrometer.core.instrument.MeterRegistry registry,
+                OjsProperties properties,
+                org.springframework.beans.factory.ObjectProvider<OjsEnqueueBatcher> batcherProvider,
+                org.springframework.beans.factory.ObjectProvider<OjsEventBridge> eventBridgeProvider,
+                org.springframework.beans.factory.ObjectProvider<OjsPinningMonitor> pinningMonitorProvider) {
+            var metrics = new OjsMicrometerMetrics(registry, properties.getMetrics().getMaxJobTypes());
+            metrics.bindWorkerSlots(properties.resolvedConcurrency());
+            batcherProvider.ifAvailable(batcher -> batcher.setFlushListener(metrics::recordBatchFlush));
+            eventBridgeProvider.ifAvailable(bridge -> metrics.bindEventDispatcher(bridge.getDispatcher()));
+            pinningMonitorProvider.ifAvailable(metrics::bindPinningMonitor);
+            return metrics;
         }
     }
 
     @Configuration(proxyBeanMethods = false)
     @ConditionalOnClass(name = "org.springframework.transaction.support.TransactionSynchronizationManager")
     static class OjsTransactionalAutoConfiguration {
+        @Bean(destroyMethod = "close")
+        @ConditionalOnMissingBean
+        public OjsTransactionalEnqueue ojsTransactionalEnqueue(
+                OJSClient client, OjsProperties properties,
+                org.springframework.beans.factory.ObjectProvider<OjsOutbox> outboxProvider,
+                org.springframework.beans.factory.ObjectProvider<OjsMicrometerMetrics> metricsProvider) {
+            var outbox = outboxProvider.getIfAvailable();
+            if (outbox != null) {
+                return new OjsTransactionalEnqueue(client, outbox);
+            }
+            var enqueue = properties.getTransaction().isAsyncFlush()
+                    ? OjsTransactionalEnqueue.withOwnedExecutor(client,
+                            java.util.concurrent.Executors.newThreadPerTaskExecutor(
+                                    Thread.ofVirtual().name("ojs-tx-flush-", 0).factory()))
+                    : new OjsTransactionalEnqueue(client);
+            metricsProvider.ifAvailable(metrics -> metrics.bindTransactionalEnqueue(enqueue));
+            return enqueue;
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "reactor.core.publisher.Mono")
+    static class OjsReactiveAutoConfiguration {
         @Bean
         @ConditionalOnMissingBean
-        public OjsTransactionalEnqueue ojsTransactionalEnqueue(OJSClient client) {
-            return new OjsTransactionalEnqueue(client);
+        public ReactiveOjsTemplate reactiveOjsTemplate(OjsAsyncTemplate asyncTemplate, OjsProperties properties) {
+            var reactive = properties.getReactive();
+            return new ReactiveOjsTemplate(asyncTemplate, reactive.getMaxBatchSize(), reactive.getLinger());
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "org.springframework.jdbc.core.JdbcTemplate")
+    @ConditionalOnProperty(prefix = "ojs.outbox", name = "enabled", havingValue = "true")
+    static class OjsOutboxAutoConfiguration {
+        @Bean
+        @ConditionalOnMissingBean
+        public OjsOutbox ojsOutbox(javax.sql.DataSource dataSource, OjsProperties properties) {
+            var outbox = new OjsOutbox(new org.springframework.jdbc.core.JdbcTemplate(dataSource),
+                    properties.getOutbox().getTable());
+            if (properties.getOutbox().isInitializeSchema()) {
+                outbox.initializeSchema();
+            }
+            return outbox;
+        }
+
+        @Bean(initMethod = "start", destroyMethod = "close")
+        @ConditionalOnMissingBean
+        public OjsOutboxRelay ojsOutboxRelay(OJSClient client, OjsOutbox outbox, OjsProperties properties) {
+            // Claim rows through the outbox's own DataSource; an application transaction manager
+            // may manage a different one, or none, such as a JPA or JTA manager
+            var txManager = new org.springframework.jdbc.datasource.DataSourceTransactionManager(
+                    Objects.requireNonNull(outbox.getJdbcTemplate().getDataSource(), "outbox DataSource"));
+            var outboxProps = properties.getOutbox();
+            return new OjsOutboxRelay(client, outbox,
+                    new org.springframework.transaction.support.TransactionTemplate(txManager),
+                    outboxProps.getBatchSize(), outboxProps.getPollInterval(), outboxProps.getMaxAttempts());
         }
     }
 }
@@ -0,0 +1,173 @@
+package org.openjobspec.spring;
+
+import org.openjobspec.ojs.Job;
+import org.openjobspec.ojs.JobContext;
+import org.openjobspec.ojs.JobHandler;
+import org.openjobspec.ojs.Middleware;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Worker middleware enforcing per-queue and per-job-type concurrency limits on
+ * top of the worker's global concurrency.
+ *
+ * <p>Queue limits come from {@code ojs.worker.queue-concurrency.<queue>}; type
+ * limits from {@link OjsJob#maxConcurrency()}. A job takes a permit of its type,
+ * then of its queue, before the handler runs, so one slow job type cannot take
+ * every worker slot.
+ *
+ * <p>A job whose type or queue is at its limit waits for a permit, heartbeating so
+ * its lease does not lapse, for at most its own timeout or, for jobs without one,
+ * {@code ojs.worker.limit-wait}. Only a job still without a permit after that is
+ * refused with an {@link IllegalStateException}, which fails the attempt. The SDK
+ * worker offers no way to pause fetching from a queue, so a saturated queue keeps
+ * being fetched while its jobs wait here.
+ *
+ * <pre>{@code
+ * ojs:
+ *   worker:
+ *     concurrency: 20
+ *     limit-wait: 30s
+ *     queue-concurrency:
+ *       reports: 2
+ *       emails: 10
+ * }</pre>
+ */
+public class OjsConcurrencyLimiter implements Middleware {
+
+    /** Default longest wait for a permit of a job without a timeout. */
+    public static final Duration DEFAULT_MAX_WAIT = Duration.ofSeconds(30);
+
+    private static final Duration HEARTBEAT_INTERVAL = Duration.ofSeconds(10);
+
+    private record Limit(int maxConcurrency, Semaphore permits) {}
+
+    private final Map<String, Limit> queueLimits = new ConcurrentHashMap<>();
+    private final Map<String, Limit> typeLimits = new ConcurrentHashMap<>();
+    private final Duration maxWait;
+    private final long heartbeatNanos;
+
+    /**
+     * @param queueLimits maximum concurrent jobs per queue name
+     */
+    public OjsConcurrencyLimiter(Map<String, Integer> queueLimits) {
+        this(queueLimits, DEFAULT_MAX_WAIT);
+    }
+
+    /**
+     * @param queueLimits maximum concurrent jobs per queue name
+     * @param maxWait     the longest a job without a timeout waits for a permit
+     */
+    public OjsConcurrencyLimiter(Map<String, Integer> queueLimits, Duration maxWait) {
+        this(queueLimits, maxWait, HEARTBEAT_INTERVAL);
+    }
+
+    OjsConcurrencyLimiter(Map<String, Integer> queueLimits, Duration maxWait, Duration heartbeatInterval) {
+        this.maxWait = Objects.requireNonNull(maxWait, "maxWait must not be null");
+        this.heartbeatNanos = heartbeatInterval.toNanos();
+        queueLimits.forEach(this::limitQueue);
+    }
+
+    /**
+     * Limit the number of jobs from {@code queue} running concurrently. A limit is
+     * fixed once set; setting a different one for the same queue fails.
+     */
+    public void limitQueue(String queue, int maxConcurrency) {
+        putLimit(queueLimits, queue, "queue " + queue, maxConcurrency);
+    }
+
+    /**
+     * Limit the number of jobs of {@code type} running concurrently. A limit is
+     * fixed once set; setting a different one for the same type fails.
+     */
+    public void limitType(String type, int maxConcurrency) {
+        putLimit(typeLimits, type, "job type " + type, maxConcurrency);
+    }
+
+    /** Whether any queue or job type is limited; without limits the middleware need not be installed. */
+    public boolean hasLimits() {
+        return !queueLimits.isEmpty() || !typeLimits.isEmpty();
+    }
+
+    /** The longest a job without a timeout waits for a permit. */
+    public Duration getMaxWait() {
+        return maxWait;
+    }
+
+    /**
+     * The number of free slots for a queue.
+     *
+     * @return the free slots, or {@code -1} if the queue is not limited
+     */
+    public int availableQueueSlots(String queue) {
+        Limit limit = queueLimits.get(queue);
+        return limit != null ? limit.permits().availablePermits() : -1;
+    }
+
+    @Override
+    public void apply(JobContext ctx, JobHandler next) throws Exception {
+        Job job = ctx.job();
+        Semaphore typeLimit = permits(typeLimits.get(job.type()));
+        Semaphore queueLimit = job.queue() != null ? permits(queueLimits.get(job.queue())) : null;
+        if (typeLimit == null && queueLimit == null) {
+            next.handle(ctx);
+            return;
+        }
+
+        long deadline = System.nanoTime() + (job.timeout() > 0 ? Duration.ofSeconds(job.timeout()) : maxWait).toNanos();
+        acquire(typeLimit, "job type " + job.type(), ctx, deadline);
+        try {
+            acquire(queueLimit, "queue " + job.queue(), ctx, deadline);
+            try {
+                next.handle(ctx);
+            } finally {
+                release(queueLimit);
+            }
+        } finally {
+            release(typeLimit);
+        }
+    }
+
+    private static void putLimit(Map<String, Limit> limits, String key, String target, int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException(
+                    "Concurrency limit for " + target + " must be at least 1, got " + maxConcurrency);
+        }
+        Limit existing = limits.putIfAbsent(key, new Limit(maxConcurrency, new Semaphore(maxConcurrency)));
+        if (existing != null && existing.maxConcurrency() != maxConcurrency) {
+            throw new IllegalStateException("Concurrency limit for " + target + " is already "
+                    + existing.maxConcurrency() + ", cannot change it to " + maxConcurrency);
+        }
+    }
+
+    private static Semaphore permits(Limit limit) {
+        return limit != null ? limit.permits() : null;
+    }
+
+    /** Wait for a permit until {@code deadline}, heartbeating the job meanwhile. */
+    private void acquire(Semaphore limit, String target, JobContext ctx, long deadline) throws InterruptedException {
+        if (limit == null || limit.tryAcquire()) {
+            return;
+        }
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            if (limit.tryAcquire(Math.min(remaining, heartbeatNanos), TimeUnit.NANOSECONDS)) {
+                return;
+            }
+            ctx.heartbeat();
+        }
+        throw new IllegalStateException("Concurrency limit of " + target
+                + " still reached after waiting, refusing job " + ctx.job().id());
+    }
+
+    private static void release(Semaphore limit) {
+        if (limit != null) {
+            limit.release();
+        }
+    }
+}
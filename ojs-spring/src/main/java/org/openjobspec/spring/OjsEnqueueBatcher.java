@@ -0,0 +1,262 @@
+package org.openjobspec.spring;
+
+import org.openjobspec.ojs.Job;
+import org.openjobspec.ojs.OJSClient;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Client-side micro-batching pipeline for enqueue calls.
+ *
+ * <p>Individual jobs are buffered and sent to the OJS backend with a single
+ * {@link OJSClient#enqueueBatch(List)} call once the buffer holds
+ * {@code maxBatchSize} jobs or the oldest buffered job has waited for
+ * {@code linger}, whichever comes first. Each submitted job gets its own
+ * {@link CompletableFuture} that completes when its batch is acknowledged.
+ *
+ * <p>At most {@code maxPending} jobs may be submitted and not yet acknowledged,
+ * counting both buffered jobs and batches in flight. Once the limit is reached,
+ * {@link #submit} returns a future that has already failed with a
+ * {@link RejectedExecutionException}, so a slow backend pushes back on producers
+ * without blocking them and without the buffer growing without bound.
+ *
+ * <pre>{@code
+ * ojs:
+ *   enqueue:
+ *     batching:
+ *       enabled: true
+ *       max-batch-size: 200
+ *       linger: 5ms
+ *       max-pending: 10000
+ * }</pre>
+ *
+ * <p>When batching is enabled, {@link OjsTemplate#enqueueBatched} routes through
+ * this pipeline.
+ */
+public class OjsEnqueueBatcher implements AutoCloseable {
+
+    /** Callback invoked after every flush, e.g. to publish metrics. */
+    @FunctionalInterface
+    public interface FlushListener {
+
+        /**
+         * @param batchSize the number of jobs in the flushed batch
+         * @param duration  the time spent in the {@code enqueueBatch} call
+         * @param success   whether every job in the batch was acknowledged
+         */
+        void onFlush(int batchSize, Duration duration, boolean success);
+    }
+
+    /** Default limit on jobs submitted and not yet acknowledged. */
+    public static final int DEFAULT_MAX_PENDING = 10_000;
+
+    private record Pending(Map<String, Object> request, CompletableFuture<Job> future) {}
+
+    private final OJSClient client;
+    private final int maxBatchSize;
+    private final Duration linger;
+    private final int maxPending;
+    private final Semaphore pendingPermits;
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService flushExecutor;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private List<Pending> buffer;
+    private ScheduledFuture<?> lingerTask;
+    private boolean closed;
+    private volatile FlushListener flushListener = (batchSize, duration, success) -> {};
+
+    public OjsEnqueueBatcher(OJSClient client, int maxBatchSize, Duration linger) {
+        this(client, maxBatchSize, linger, Math.max(DEFAULT_MAX_PENDING, maxBatchSize));
+    }
+
+    /**
+     * @param maxPending the maximum number of jobs submitted and not yet acknowledged;
+     *                   {@link #submit} rejects jobs once it is reached
+     */
+    public OjsEnqueueBatcher(OJSClient client, int maxBatchSize, Duration linger, int maxPending) {
+        this.client = Objects.requireNonNull(client, "client must not be null");
+        this.linger = Objects.requireNonNull(linger, "linger must not be null");
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be at least 1");
+        }
+        this.maxBatchSize = maxBatchSize;
+        if (maxPending < maxBatchSize) {
+            throw new IllegalArgumentException("maxPending must be at least maxBatchSize");
+        }
+        this.maxPending = maxPending;
+        this.pendingPermits = new Semaphore(maxPending);
+        this.buffer = new ArrayList<>(maxBatchSize);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("ojs-enqueue-linger").daemon(true).factory());
+        this.flushExecutor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("ojs-enqueue-flush-", 0).factory());
+    }
+
+    /** Set the listener notified after every flush. */
+    public void setFlushListener(FlushListener flushListener) {
+        this.flushListener = Objects.requireNonNull(flushListener, "flushListener must not be null");
+    }
+
+    /**
+     * Buffer a job request for the next batch. Never blocks.
+     *
+     * @param request the job request as a wire-format map
+     * @return a future completing with the created job once its batch is acknowledged,
+     *         or failing with {@link RejectedExecutionException} if {@code maxPending}
+     *         jobs are already waiting to be acknowledged
+     */
+    public CompletableFuture<Job> submit(Map<String, Object> request) {
+        Objects.requireNonNull(request, "request must not be null");
+        var future = new CompletableFuture<Job>();
+        if (!pendingPermits.tryAcquire()) {
+            future.completeExceptionally(new RejectedExecutionException(
+                    "OjsEnqueueBatcher already has " + maxPending + " jobs waiting to be acknowledged"));
+            return future;
+        }
+        List<Pending> ready = null;
+        lock.lock();
+        try {
+            if (closed) {
+                pendingPermits.release();
+                future.completeExceptionally(new IllegalStateException("OjsEnqueueBatcher is closed"));
+                return future;
+            }
+            buffer.add(new Pending(request, future));
+            if (buffer.size() >= maxBatchSize) {
+                ready = drain();
+            } else if (lingerTask == null) {
+                lingerTask = scheduler.schedule(this::flushBuffered, linger.toNanos(), TimeUnit.NANOSECONDS);
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (ready != null) {
+            dispatch(ready);
+        }
+        return future;
+    }
+
+    /** The maximum number of jobs submitted and not yet acknowledged. */
+    public int getMaxPending() {
+        return maxPending;
+    }
+
+    /** The number of jobs currently buffered and not yet sent. */
+    public int pendingCount() {
+        lock.lock();
+        try {
+            return buffer.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Flush buffered jobs, stop accepting new ones and release the background threads.
+     * Called by Spring on context shutdown.
+     */
+    @Override
+    public void close() {
+        List<Pending> remaining;
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            remaining = drain();
+        } finally {
+            lock.unlock();
+        }
+        if (!remaining.isEmpty()) {
+            send(remaining);
+        }
+        scheduler.shutdownNow();
+        flushExecutor.shutdown();
+        try {
+            flushExecutor.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void flushBuffered() {
+        List<Pending> ready;
+        lock.lock();
+        try {
+            ready = drain();
+        } finally {
+            lock.unlock();
+        }
+        if (!ready.isEmpty()) {
+            dispatch(ready);
+        }
+    }
+
+    /** Swap out the current buffer. Must be called while holding {@link #lock}. */
+    private List<Pending> drain() {
+        if (lingerTask != null) {
+            lingerTask.cancel(false);
+            lingerTask = null;
+        }
+        var drained = buffer;
+        buffer = new ArrayList<>(maxBatchSize);
+        return drained;
+    }
+
+    private void dispatch(List<Pending> batch) {
+        try {
+            flushExecutor.execute(() -> send(batch));
+        } catch (RejectedExecutionException e) {
+            // Shutting down: flush on the calling thread instead of dropping jobs
+            send(batch);
+        }
+    }
+
+    private void send(List<Pending> batch) {
+        var requests = new ArrayList<Map<String, Object>>(batch.size());
+        for (var pending : batch) {
+            requests.add(pending.request());
+        }
+
+        long start = System.nanoTime();
+        List<Job> jobs = null;
+        Exception failure = null;
+        try {
+            jobs = client.enqueueBatch(requests);
+        } catch (Exception e) {
+            failure = e;
+        } finally {
+            // Make room before completing, so callers reacting to completion can submit again
+            pendingPermits.release(batch.size());
+        }
+        var duration = Duration.ofNanos(System.nanoTime() - start);
+
+        for (int i = 0; i < batch.size(); i++) {
+            var future = batch.get(i).future();
+            if (failure != null) {
+                future.completeExceptionally(failure);
+            } else if (jobs != null && i < jobs.size()) {
+                future.complete(jobs.get(i));
+            } else {
+                future.completeExceptionally(new IllegalStateException(
+                        "OJS batch response has no job for request at index " + i));
+            }
+        }
+        flushListener.onFlush(batch.size(), duration, failure == null && jobs != null && jobs.size() == batch.size());
+    }
+}
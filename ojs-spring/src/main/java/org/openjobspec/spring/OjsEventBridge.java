@@ -1,12 +1,31 @@
 package org.openjobspec.spring;
 
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.openjobspec.common.OjsEventDispatcher;
+import org.openjobspec.common.OjsEventFilter;
+import org.openjobspec.common.OjsEventStream;
+import org.openjobspec.ojs.Job;
 import org.openjobspec.ojs.OJSClient;
 import org.openjobspec.ojs.SSESubscription;
+import org.openjobspec.ojs.transport.Json;
 import org.springframework.context.ApplicationEventPublisher;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * Bridges OJS server-sent events (SSE) to Spring's {@link ApplicationEventPublisher}.
@@ -17,8 +36,8 @@ import java.util.concurrent.CopyOnWriteArrayList;
  * <pre>{@code
  * @Autowired OjsEventBridge events;
  *
- * // Subscribe to all events for a specific job
- * events.subscribeToJob("job-id-123");
+ * // Follow a job over the shared, multiplexed stream
+ * events.watchJob("job-id-123");
  *
  * // Subscribe to all events on a queue
  * events.subscribeToQueue("default");
@@ -29,27 +48,208 @@ import java.util.concurrent.CopyOnWriteArrayList;
  *     log.info("Received {} for job {}", event.getEventType(), event.getJobId());
  * }
  * }</pre>
+ *
+ * <p>Each published event decodes its JSON once, on first access, and shares the result
+ * between listeners. The SSE reader thread decodes a payload only when it has to: to
+ * apply a {@code queues} or {@code job-types} filter, and to route an event of the
+ * shared stream to the watches of its job while any job is watched. It then hands the
+ * decoded payload on, so it is never decoded twice.
+ *
+ * <p>{@link #watchJob} multiplexes all watched jobs over a single stream on
+ * {@code ojs.events.multiplex-channel}, opened on first use. Events are routed to
+ * per-job listeners through a concurrent map, and a job is unwatched automatically
+ * once it reaches a terminal state. With {@link Options#client()} set, a new watch also
+ * looks up the job once, so a job that finished before the stream caught its events
+ * completes the watch straight away. A watch that receives no events for
+ * {@code ojs.events.watch-timeout} expires. {@link #subscribeToJob} instead opens a
+ * dedicated connection per job, which does not scale to many in-flight jobs.
+ *
+ * <p>The shared stream is an {@link OjsEventStream}: when the connection drops it
+ * reconnects with jittered exponential backoff and resumes from the last event ID,
+ * dropping events the server replays twice. It reads over {@link Options#httpClient()},
+ * the shared {@code ojsHttpClient} bean under auto-configuration, or else over a client
+ * of its own that is closed with the stream. The {@code subscribeTo*} methods return
+ * plain SDK subscriptions, which do not resume and open their own connections outside
+ * that client.
+ *
+ * <p>An {@link OjsEventFilter} ({@code ojs.events.type-prefixes}, {@code queues} and
+ * {@code job-types}) limits which events reach listeners. Events of unwanted types are
+ * dropped before their payload is decoded.
+ *
+ * <p>Listeners are invoked on a dispatch thread fed through a bounded
+ * {@link OjsEventDispatcher}, never on the SSE reader thread, so a slow listener does
+ * not stall the stream. {@code ojs.events.queue-capacity} and
+ * {@code ojs.events.overflow-policy} control what happens when listeners fall behind.
  */
 public class OjsEventBridge {
 
+    private static final Log log = LogFactory.getLog(OjsEventBridge.class);
+
+    /** Default channel of the shared stream used by {@link #watchJob}. */
+    public static final String DEFAULT_MULTIPLEX_CHANNEL = "*";
+
+    /** Event types after which a job produces no further events. */
+    static final Set<String> TERMINAL_EVENT_TYPES = Set.of("job.completed", "job.cancelled", "job.discarded");
+
+    /** Default time a watch may go without events before it expires. */
+    public static final Duration DEFAULT_WATCH_TIMEOUT = Duration.ofHours(1);
+
+    /** Shortest interval between two sweeps for expired watches. */
+    private static final long MIN_EXPIRY_SWEEP_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    /** An event on its way to one listener. */
+    private record Delivery(OjsJobEvent event, Consumer<OjsJobEvent> target) {}
+
+    /** Deliveries with the same key supersede each other when coalesced. */
+    private record DeliveryKey(String jobId, Consumer<OjsJobEvent> target) {}
+
+    /**
+     * How a bridge reads, queues and filters events. Start from {@link #DEFAULT} and
+     * change what differs:
+     *
+     * <pre>{@code
+     * var options = OjsEventBridge.Options.DEFAULT
+     *         .withQueueCapacity(256)
+     *         .withOverflowPolicy(OjsEventDispatcher.OverflowPolicy.COALESCE);
+     * }</pre>
+     *
+     * @param decodePayload    whether events decode their JSON payload on access; when
+     *                         {@code false} listeners only see the raw data
+     * @param multiplexChannel the queue or wildcard channel carrying events of watched jobs
+     * @param queueCapacity    maximum number of events waiting for listeners
+     * @param overflowPolicy   what to do with an incoming event when the queue is full
+     * @param httpClient       the client reading the shared stream, or {@code null} to create one on first use
+     * @param reconnect        backoff and de-duplication of the shared stream
+     * @param filter           the events published to listeners
+     * @param client           looks up the state of newly watched jobs, or {@code null} to skip the lookup
+     * @param watchTimeout     how long a watch may go without events before it expires; zero for never
+     */
+    public record Options(boolean decodePayload, String multiplexChannel, int queueCapacity,
+                          OjsEventDispatcher.OverflowPolicy overflowPolicy, HttpClient httpClient,
+                          OjsEventStream.Reconnect reconnect, OjsEventFilter filter, OJSClient client,
+                          Duration watchTimeout) {
+
+        /**
+         * Decoded payloads, the {@code *} channel, a blocking queue of default capacity, no filter,
+         * no job lookup and watches expiring after {@link #DEFAULT_WATCH_TIMEOUT}.
+         */
+        public static final Options DEFAULT = new Options(true, DEFAULT_MULTIPLEX_CHANNEL,
+                OjsEventDispatcher.DEFAULT_CAPACITY, OjsEventDispatcher.OverflowPolicy.BLOCK, null,
+                OjsEventStream.Reconnect.DEFAULT, OjsEventFilter.ALL, null, DEFAULT_WATCH_TIMEOUT);
+
+        public Options {
+            Objects.requireNonNull(multiplexChannel, "multiplexChannel must not be null");
+            Objects.requireNonNull(overflowPolicy, "overflowPolicy must not be null");
+            Objects.requireNonNull(reconnect, "reconnect must not be null");
+            Objects.requireNonNull(filter, "filter must not be null");
+            Objects.requireNonNull(watchTimeout, "watchTimeout must not be null");
+            if (watchTimeout.isNegative()) {
+                throw new IllegalArgumentException("watchTimeout must not be negative");
+            }
+        }
+
+        public Options withDecodePayload(boolean decodePayload) {
+            return new Options(decodePayload, multiplexChannel, queueCapacity, overflowPolicy, httpClient,
+                    reconnect, filter, client, watchTimeout);
+        }
+
+        public Options withMultiplexChannel(String multiplexChannel) {
+            return new Options(decodePayload, multiplexChannel, queueCapacity, overflowPolicy, httpClient,
+                    reconnect, filter, client, watchTimeout);
+        }
+
+        public Options withQueueCapacity(int queueCapacity) {
+            return new Options(decodePayload, multiplexChannel, queueCapacity, overflowPolicy, httpClient,
+                    reconnect, filter, client, watchTimeout);
+        }
+
+        public Options withOverflowPolicy(OjsEventDispatcher.OverflowPolicy overflowPolicy) {
+            return new Options(decodePayload, multiplexChannel, queueCapacity, overflowPolicy, httpClient,
+                    reconnect, filter, client, watchTimeout);
+        }
+
+        public Options withHttpClient(HttpClient httpClient) {
+            return new Options(decodePayload, multiplexChannel, queueCapacity, overflowPolicy, httpClient,
+                    reconnect, filter, client, watchTimeout);
+        }
+
+        public Options withReconnect(OjsEventStream.Reconnect reconnect) {
+            return new Options(decodePayload, multiplexChannel, queueCapacity, overflowPolicy, httpClient,
+                    reconnect, filter, client, watchTimeout);
+        }
+
+        public Options withFilter(OjsEventFilter filter) {
+            return new Options(decodePayload, multiplexChannel, queueCapacity, overflowPolicy, httpClient,
+                    reconnect, filter, client, watchTimeout);
+        }
+
+        public Options withClient(OJSClient client) {
+            return new Options(decodePayload, multiplexChannel, queueCapacity, overflowPolicy, httpClient,
+                    reconnect, filter, client, watchTimeout);
+        }
+
+        public Options withWatchTimeout(Duration watchTimeout) {
+            return new Options(decodePayload, multiplexChannel, queueCapacity, overflowPolicy, httpClient,
+                    reconnect, filter, client, watchTimeout);
+        }
+    }
+
     private final String serverUrl;
     private final ApplicationEventPublisher publisher;
-    private final CopyOnWriteArrayList<SSESubscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final Consumer<OjsJobEvent> publish;
+    private final boolean decodePayload;
+    private final OjsEventFilter filter;
+    private final OjsEventDispatcher<Delivery> dispatcher;
+    private final Function<BiConsumer<String, String>, ? extends AutoCloseable> sharedStreamOpener;
+    private final Set<SSESubscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private final ConcurrentHashMap<String, List<JobWatch>> watches = new ConcurrentHashMap<>();
+    private final OJSClient client;
+    private final long watchTimeoutNanos;
+    private volatile AutoCloseable sharedStream;
+    private ScheduledExecutorService watchExpiry;
 
     public OjsEventBridge(String serverUrl, ApplicationEventPublisher publisher) {
+        this(serverUrl, publisher, Options.DEFAULT);
+    }
+
+    /**
+     * @param serverUrl the OJS server URL
+     * @param publisher the publisher receiving {@link OjsJobEvent}s
+     * @param options   how events are read, queued and filtered
+     */
+    public OjsEventBridge(String serverUrl, ApplicationEventPublisher publisher, Options options) {
+        this(serverUrl, publisher, options, sink -> openSharedStream(serverUrl, options, sink));
+    }
+
+    OjsEventBridge(String serverUrl, ApplicationEventPublisher publisher, Options options,
+                   Function<BiConsumer<String, String>, ? extends AutoCloseable> sharedStreamOpener) {
         this.serverUrl = Objects.requireNonNull(serverUrl, "serverUrl must not be null");
         this.publisher = Objects.requireNonNull(publisher, "publisher must not be null");
+        Objects.requireNonNull(options, "options must not be null");
+        this.publish = publisher::publishEvent;
+        this.decodePayload = options.decodePayload();
+        this.filter = options.filter();
+        this.sharedStreamOpener = sharedStreamOpener;
+        this.client = options.client();
+        this.watchTimeoutNanos = options.watchTimeout().toNanos();
+        this.dispatcher = new OjsEventDispatcher<>("ojs-events", options.queueCapacity(), options.overflowPolicy(),
+                delivery -> delivery.target().accept(delivery.event()), OjsEventBridge::keyOf);
     }
 
     /**
      * Subscribe to SSE events for a specific job and publish them as Spring events.
      *
+     * <p>Opens a dedicated connection for the job; prefer {@link #watchJob(String)}
+     * when following many jobs. The connection is a plain SDK subscription: it does
+     * not reconnect, so once it drops no further events of the job arrive. Watches
+     * share a stream that reconnects and resumes.
+     *
      * @param jobId the job ID to subscribe to
      * @return the SSE subscription (can be cancelled)
      */
     public SSESubscription subscribeToJob(String jobId) {
         var subscription = SSESubscription.subscribeJob(
-                serverUrl, jobId, event -> publishEvent(event, jobId));
+                serverUrl, jobId, event -> publishEvent(event.type(), event.data(), jobId));
         subscriptions.add(subscription);
         return subscription;
     }
@@ -57,12 +257,16 @@ public class OjsEventBridge {
     /**
      * Subscribe to SSE events for a queue and publish them as Spring events.
      *
+     * <p>The connection is a plain SDK subscription: it does not reconnect, so once it
+     * drops no further events of the queue arrive. Cancel it and subscribe again to
+     * recover.
+     *
      * @param queue the queue name to subscribe to
      * @return the SSE subscription (can be cancelled)
      */
     public SSESubscription subscribeToQueue(String queue) {
         var subscription = SSESubscription.subscribeQueue(
-                serverUrl, queue, event -> publishEvent(event, null));
+                serverUrl, queue, event -> publishEvent(event.type(), event.data(), null));
         subscriptions.add(subscription);
         return subscription;
     }
@@ -70,40 +274,314 @@ public class OjsEventBridge {
     /**
      * Subscribe to SSE events on a custom channel and publish them as Spring events.
      *
+     * <p>The connection is a plain SDK subscription: it does not reconnect, so once it
+     * drops no further events of the channel arrive. Cancel it and subscribe again to
+     * recover.
+     *
      * @param channel the SSE channel path
      * @return the SSE subscription (can be cancelled)
      */
     public SSESubscription subscribe(String channel) {
         var subscription = SSESubscription.subscribe(
-                serverUrl, channel, event -> publishEvent(event, null));
+                serverUrl, channel, event -> publishEvent(event.type(), event.data(), null));
         subscriptions.add(subscription);
         return subscription;
     }
 
     /**
-     * Cancel all active subscriptions. Called during shutdown to clean up resources.
+     * Follow a job over the shared multiplexed stream and publish its events as
+     * Spring events until it reaches a terminal state.
+     *
+     * @param jobId the job ID to follow
+     * @return the watch (can be cancelled)
+     */
+    public JobWatch watchJob(String jobId) {
+        return watchJob(jobId, publisher::publishEvent);
+    }
+
+    /**
+     * Follow a job over the shared multiplexed stream, delivering its events to
+     * {@code listener} until it reaches a terminal state.
+     *
+     * <p>With a {@link Options#client() client} configured, this call looks up the job
+     * once. If it has already completed, been cancelled or been discarded, the listener
+     * receives one event of that type, carrying the state under {@code data.state}, and
+     * the watch ends. A failed lookup leaves the watch to the stream and its timeout.
+     *
+     * @param jobId    the job ID to follow
+     * @param listener receives the job's events on the dispatch thread
+     * @return the watch (can be cancelled)
+     */
+    public JobWatch watchJob(String jobId, Consumer<OjsJobEvent> listener) {
+        Objects.requireNonNull(jobId, "jobId must not be null");
+        var watch = new JobWatch(jobId, Objects.requireNonNull(listener, "listener must not be null"));
+        watches.compute(jobId, (id, current) -> {
+            if (current == null) {
+                return List.of(watch);
+            }
+            var updated = new ArrayList<>(current);
+            updated.add(watch);
+            return List.copyOf(updated);
+        });
+        ensureSharedStream();
+        completeIfFinished(watch);
+        return watch;
+    }
+
+    /**
+     * Cancel all active subscriptions and watches. Called during shutdown to clean up resources.
      */
     public void cancelAll() {
         for (var sub : subscriptions) {
-            try {
-                sub.cancel();
-            } catch (Exception ignored) {
-                // Best-effort cleanup
-            }
+            cancelQuietly(sub);
         }
         subscriptions.clear();
+        synchronized (this) {
+            if (sharedStream != null) {
+                closeQuietly(sharedStream);
+                sharedStream = null;
+            }
+            if (watchExpiry != null) {
+                watchExpiry.shutdownNow();
+                watchExpiry = null;
+            }
+        }
+        watches.clear();
     }
 
-    /** The number of active subscriptions. */
+    /** The number of active subscriptions, not counting the shared multiplexed stream. */
     public int activeSubscriptionCount() {
         return subscriptions.size();
     }
 
-    private void publishEvent(SSESubscription.SSEEvent sseEvent, String jobId) {
-        var data = sseEvent.data() != null
-                ? Map.<String, Object>of("raw", sseEvent.data())
-                : Map.<String, Object>of();
-        var event = new OjsJobEvent(this, sseEvent.type(), jobId, data);
-        publisher.publishEvent(event);
+    /** The number of jobs currently followed through {@link #watchJob}. */
+    public int watchedJobCount() {
+        return watches.size();
+    }
+
+    /** The queue between the SSE reader and listeners, for monitoring. */
+    public OjsEventDispatcher<?> getDispatcher() {
+        return dispatcher;
+    }
+
+    /**
+     * Cancel all subscriptions, then deliver the events already queued and stop the
+     * dispatch thread.
+     */
+    public void close() {
+        cancelAll();
+        dispatcher.close();
+    }
+
+    /**
+     * Queue one SSE event for publishing. Its payload is decoded lazily by {@link OjsJobEvent},
+     * unless the filter needs it, in which case the decoded payload is handed on.
+     */
+    void publishEvent(String type, String data, String jobId) {
+        if (!filter.mayAccept(type)) {
+            return;
+        }
+        OjsJobEvent event;
+        if (filter.needsPayload(type)) {
+            var decoded = decodeQuietly(data);
+            if (decoded == null || !filter.accepts(type, decoded)) {
+                return;
+            }
+            event = OjsJobEvent.decoded(this, type, jobId, data, decoded);
+        } else {
+            event = OjsJobEvent.fromJson(this, type, jobId, data, decodePayload);
+        }
+        dispatcher.submit(new Delivery(event, publish));
+    }
+
+    /**
+     * Route one event from the shared stream to the watches of its job. The payload is
+     * decoded here to find the job, and the decoded form is handed to the listeners.
+     */
+    void dispatch(String type, String data) {
+        if (watches.isEmpty() || data == null) {
+            return;
+        }
+        var decoded = decodeQuietly(data);
+        if (decoded == null || !(decoded.get("subject") instanceof String jobId)) {
+            return;
+        }
+        var jobWatches = TERMINAL_EVENT_TYPES.contains(type) ? watches.remove(jobId) : watches.get(jobId);
+        if (jobWatches == null || !filter.accepts(type, decoded)) {
+            return;
+        }
+        var event = OjsJobEvent.decoded(this, type, jobId, data, decoded);
+        var now = System.nanoTime();
+        for (var watch : jobWatches) {
+            watch.lastEventNanos = now;
+            dispatcher.submit(new Delivery(event, watch.listener));
+        }
+    }
+
+    private void ensureSharedStream() {
+        if (sharedStream == null) {
+            synchronized (this) {
+                if (sharedStream == null) {
+                    sharedStream = sharedStreamOpener.apply(this::dispatch);
+                }
+                if (watchExpiry == null && watchTimeoutNanos > 0) {
+                    var sweep = Math.max(watchTimeoutNanos / 4, MIN_EXPIRY_SWEEP_NANOS);
+                    watchExpiry = Executors.newSingleThreadScheduledExecutor(
+                            Thread.ofPlatform().name("ojs-watch-expiry").daemon().factory());
+                    watchExpiry.scheduleWithFixedDelay(this::expireIdleWatches, sweep, sweep, TimeUnit.NANOSECONDS);
+                }
+            }
+        }
+    }
+
+    /** Ends a new watch whose job has already reached a terminal state. */
+    private void completeIfFinished(JobWatch watch) {
+        if (client == null) {
+            return;
+        }
+        Job job;
+        try {
+            job = client.getJob(watch.jobId);
+        } catch (RuntimeException e) {
+            log.debug("Could not look up the state of watched job " + watch.jobId, e);
+            return;
+        }
+        if (job == null || job.state() == null) {
+            return;
+        }
+        var type = "job." + job.state();
+        if (TERMINAL_EVENT_TYPES.contains(type) && unwatch(watch)) {
+            var data = Map.<String, Object>of("type", type, "subject", watch.jobId,
+                    "data", Map.of("state", job.state()));
+            dispatcher.submit(new Delivery(new OjsJobEvent(this, type, watch.jobId, data), watch.listener));
+        }
+    }
+
+    private void expireIdleWatches() {
+        var now = System.nanoTime();
+        for (var jobWatches : watches.values()) {
+            for (var watch : jobWatches) {
+                if (now - watch.lastEventNanos >= watchTimeoutNanos && unwatch(watch)) {
+                    log.debug("Watch of job " + watch.jobId + " expired without a terminal event");
+                }
+            }
+        }
+    }
+
+    /** Removes the watch, returning whether it was still registered. */
+    private boolean unwatch(JobWatch watch) {
+        var removed = new AtomicBoolean();
+        watches.computeIfPresent(watch.jobId, (id, current) -> {
+            if (!current.contains(watch)) {
+                return current;
+            }
+            removed.set(true);
+            var remaining = current.stream().filter(w -> w != watch).toList();
+            return remaining.isEmpty() ? null : remaining;
+        });
+        return removed.get();
+    }
+
+    /**
+     * The job and listener of a delivery, so coalescing only replaces an event meant for
+     * the same listener. Only called once the dispatch queue is full.
+     */
+    private static DeliveryKey keyOf(Delivery delivery) {
+        var event = delivery.event();
+        var jobId = event.getJobId();
+        if (jobId == null) {
+            var typed = event.getEvent();
+            jobId = typed != null ? typed.subject() : null;
+        }
+        return jobId != null ? new DeliveryKey(jobId, delivery.target()) : null;
+    }
+
+    /**
+     * Opens the multiplexed stream on the configured client. Without one, the stream gets
+     * a client of its own, which is closed together with the stream.
+     */
+    private static AutoCloseable openSharedStream(String serverUrl, Options options, BiConsumer<String, String> sink) {
+        var client = options.httpClient() != null ? options.httpClient() : HttpClient.newHttpClient();
+        OjsEventStream stream;
+        try {
+            stream = OjsEventStream.open(client, serverUrl, options.multiplexChannel(),
+                    event -> sink.accept(event.type(), event.data()), options.reconnect());
+        } catch (RuntimeException e) {
+            if (client != options.httpClient()) {
+                client.close();
+            }
+            throw e;
+        }
+        if (client == options.httpClient()) {
+            return stream;
+        }
+        return () -> {
+            try {
+                stream.close();
+            } finally {
+                client.close();
+            }
+        };
+    }
+
+    private static Map<String, Object> decodeQuietly(String data) {
+        if (data == null) {
+            return null;
+        }
+        try {
+            return Json.decodeObject(data);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static void cancelQuietly(SSESubscription subscription) {
+        try {
+            subscription.cancel();
+        } catch (Exception ignored) {
+            // Best-effort cleanup
+        }
+    }
+
+    private static void closeQuietly(AutoCloseable stream) {
+        try {
+            stream.close();
+        } catch (Exception ignored) {
+            // Best-effort cleanup
+        }
+    }
+
+    /** A job followed over the shared multiplexed stream. */
+    public final class JobWatch implements AutoCloseable {
+
+        private final String jobId;
+        private final Consumer<OjsJobEvent> listener;
+        private volatile long lastEventNanos = System.nanoTime();
+
+        private JobWatch(String jobId, Consumer<OjsJobEvent> listener) {
+            this.jobId = jobId;
+            this.listener = listener;
+        }
+
+        /** The ID of the watched job. */
+        public String getJobId() {
+            return jobId;
+        }
+
+        /** Whether events of the job are still delivered to this watch; {@code false} once it ended or expired. */
+        public boolean isActive() {
+            var current = watches.get(jobId);
+            return current != null && current.contains(this);
+        }
+
+        /** Stop delivering events of the job to this watch. */
+        public void cancel() {
+            unwatch(this);
+        }
+
+        @Override
+        public void close() {
+            cancel();
+        }
     }
 }
@@ -0,0 +1,84 @@
+package org.openjobspec.spring;
+
+import org.openjobspec.ojs.JobContext;
+import org.openjobspec.ojs.JobHandler;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * {@link JobHandler} that dispatches to an {@link OjsJob @OjsJob} method through a
+ * {@link MethodHandle} bound once at registration time.
+ *
+ * <p>Unlike {@link Method#invoke}, the handle carries no per-call access check or
+ * argument array, and exceptions thrown by the handler propagate unwrapped.
+ */
+final class OjsHandlerInvoker implements JobHandler {
+
+    private static final MethodType HANDLER_TYPE = MethodType.methodType(Object.class, JobContext.class);
+
+    private final MethodHandle handle;
+    private final String description;
+
+    private OjsHandlerInvoker(MethodHandle handle, String description) {
+        this.handle = handle;
+        this.description = description;
+    }
+
+    /**
+     * Bind an {@code @OjsJob} method of a bean into a job handler.
+     *
+     * @param bean   the bean declaring the method (ignored for static methods)
+     * @param method the handler method, taking a single {@link JobContext}
+     * @return the bound handler
+     * @throws IllegalStateException if the method signature is not supported
+     */
+    static OjsHandlerInvoker bind(Object bean, Method method) {
+        String description = checkSignature(method);
+        try {
+            method.setAccessible(true);
+            MethodHandle handle = MethodHandles.lookup().unreflect(method);
+            if (!Modifier.isStatic(method.getModifiers())) {
+                handle = handle.bindTo(bean);
+            }
+            return new OjsHandlerInvoker(handle.asType(HANDLER_TYPE), description);
+        } catch (IllegalAccessException | RuntimeException e) {
+            throw new IllegalStateException("Cannot bind @OjsJob method " + description, e);
+        }
+    }
+
+    /**
+     * Check that an {@code @OjsJob} method takes a single {@link JobContext}.
+     *
+     * @return the method description used in error messages
+     * @throws IllegalStateException if the method signature is not supported
+     */
+    static String checkSignature(Method method) {
+        String description = method.getDeclaringClass().getName() + "." + method.getName();
+        var parameterTypes = method.getParameterTypes();
+        if (parameterTypes.length != 1 || !parameterTypes[0].isAssignableFrom(JobContext.class)) {
+            throw new IllegalStateException(
+                    "@OjsJob method " + description + " must take a single JobContext parameter");
+        }
+        return description;
+    }
+
+    @Override
+    public Object handle(JobContext ctx) throws Exception {
+        try {
+            return (Object) handle.invokeExact(ctx);
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new RuntimeException("Job handler threw non-exception throwable", t);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "OjsHandlerInvoker[" + description + "]";
+    }
+}
@@ -0,0 +1,119 @@
+package org.openjobspec.spring;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Caches the outcome of a blocking backend call made by a health indicator.
+ *
+ * <p>A result younger than the TTL is returned as is. Once it is older, the call
+ * is refreshed in the background and the previous result is returned until the
+ * refresh completes, so a health probe never waits on the backend after the first
+ * check. Concurrent refreshes share one in-flight call, and each call is bounded
+ * by the timeout. A call still running at the timeout has its thread interrupted,
+ * which aborts a blocking JDK {@code HttpClient} request instead of leaving it to
+ * hold a connection. A zero TTL disables caching: every probe waits for a fresh call.
+ *
+ * @param <T> the type returned by the backend call
+ */
+final class OjsHealthCache<T> {
+
+    /** The outcome of one backend call: either a value or the failure. */
+    record Result<T>(T value, Throwable error) {}
+
+    private static final Executor VIRTUAL_THREADS =
+            task -> Thread.ofVirtual().name("ojs-health").start(task);
+
+    private final Supplier<T> call;
+    private final long ttlNanos;
+    private final Duration timeout;
+    private final Executor executor;
+    private final LongSupplier nanoClock;
+    private volatile Result<T> result;
+    private volatile long checkedAtNanos;
+    private CompletableFuture<Result<T>> pending;
+
+    OjsHealthCache(Supplier<T> call, Duration ttl, Duration timeout) {
+        this(call, ttl, timeout, VIRTUAL_THREADS, System::nanoTime);
+    }
+
+    OjsHealthCache(Supplier<T> call, Duration ttl, Duration timeout,
+                   Executor executor, LongSupplier nanoClock) {
+        this.call = call;
+        this.ttlNanos = ttl.toNanos();
+        this.timeout = timeout;
+        this.executor = executor;
+        this.nanoClock = nanoClock;
+    }
+
+    /** The latest result, refreshing it first if none is cached or caching is disabled. */
+    Result<T> get() {
+        Result<T> current = result;
+        if (current != null && nanoClock.getAsLong() - checkedAtNanos < ttlNanos) {
+            return current;
+        }
+        CompletableFuture<Result<T>> refresh = refresh();
+        return current != null && ttlNanos > 0 ? current : refresh.join();
+    }
+
+    /** Start a refresh unless one is already in flight. */
+    synchronized CompletableFuture<Result<T>> refresh() {
+        if (pending == null || pending.isDone()) {
+            var running = new Call();
+            pending = CompletableFuture.supplyAsync(running::run, executor)
+                    .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+                    .handle((value, error) -> {
+                        if (error instanceof TimeoutException) {
+                            running.interrupt();
+                        }
+                        var outcome = new Result<>(value, error instanceof CompletionException
+                                && error.getCause() != null ? error.getCause() : error);
+                        checkedAtNanos = nanoClock.getAsLong();
+                        result = outcome;
+                        return outcome;
+                    });
+        }
+        return pending;
+    }
+
+    /** One backend call, interrupted once it outlives the timeout. */
+    private final class Call {
+
+        private Thread thread;
+        private boolean timedOut;
+
+        T run() {
+            synchronized (this) {
+                if (timedOut) {
+                    throw new CancellationException("health call timed out before it started");
+                }
+                thread = Thread.currentThread();
+            }
+            try {
+                return call.get();
+            } finally {
+                synchronized (this) {
+                    thread = null;
+                    if (timedOut) {
+                        // Do not leave the interrupt meant for this call to the executor's thread
+                        Thread.interrupted();
+                    }
+                }
+            }
+        }
+
+        synchronized void interrupt() {
+            timedOut = true;
+            if (thread != null) {
+                thread.interrupt();
+            }
+        }
+    }
+}
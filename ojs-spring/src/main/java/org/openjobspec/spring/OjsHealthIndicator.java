@@ -5,66 +5,79 @@ import org.openjobspec.ojs.OJSWorker;
 import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.HealthIndicator;
 
+import java.time.Duration;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
- * Spring Actuator health indicator that checks the OJS backend connectivity,
- * reports queue depths, and includes worker status.
+ * Spring Actuator health indicator that checks the OJS backend connectivity and
+ * includes worker status.
  *
  * <p>The health check calls the OJS {@code /health} endpoint and enriches the
  * response with local worker state information when a worker is available.
+ * The backend result is cached for {@code ojs.health.cache-ttl} and refreshed in
+ * the background, so liveness and readiness probes do not each reach the server.
+ * Queue depths are reported separately by {@link OjsQueuesHealthIndicator}.
  */
 public class OjsHealthIndicator implements HealthIndicator {
 
-    private final OJSClient client;
+    /** Default time a backend result is reused. */
+    public static final Duration DEFAULT_CACHE_TTL = Duration.ofSeconds(10);
+
+    /** Default bound on a backend health call. */
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(3);
+
     private final OJSWorker worker;
+    private final OjsHealthCache<Map<String, Object>> cache;
 
     public OjsHealthIndicator(OJSClient client) {
         this(client, null);
     }
 
     public OjsHealthIndicator(OJSClient client, OJSWorker worker) {
-        this.client = client;
+        this(client, worker, DEFAULT_CACHE_TTL, DEFAULT_TIMEOUT);
+    }
+
+    /**
+     * @param client   the client used to reach the backend
+     * @param worker   the local worker, or {@code null}
+     * @param cacheTtl how long a backend result is reused
+     * @param timeout  maximum time to wait for the backend
+     */
+    public OjsHealthIndicator(OJSClient client, OJSWorker worker, Duration cacheTtl, Duration timeout) {
+        this(worker, new OjsHealthCache<>(client::health, cacheTtl, timeout));
+    }
+
+    OjsHealthIndicator(OJSWorker worker, OjsHealthCache<Map<String, Object>> cache) {
         this.worker = worker;
+        this.cache = cache;
     }
 
     @Override
     public Health health() {
-        try {
-            var status = client.health();
-            var details = new LinkedHashMap<String, Object>(status);
-
-            if (worker != null) {
-                var workerDetails = new LinkedHashMap<String, Object>();
-                workerDetails.put("id", worker.getWorkerId());
-                workerDetails.put("state", worker.getState().value());
-                workerDetails.put("activeJobs", worker.getActiveJobCount());
-                details.put("worker", workerDetails);
-            }
-
-            enrichWithQueueStats(details);
-
-            return Health.up()
-                    .withDetails(details)
-                    .build();
-        } catch (Exception e) {
-            var builder = Health.down().withException(e);
+        var result = cache.get();
+        if (result.error() != null) {
+            var builder = Health.down().withException(asException(result.error()));
             if (worker != null) {
                 builder.withDetail("worker.state", worker.getState().value());
             }
             return builder.build();
         }
-    }
 
-    private void enrichWithQueueStats(Map<String, Object> details) {
-        try {
-            var queues = client.listQueues();
-            if (!queues.isEmpty()) {
-                details.put("queues", queues);
-            }
-        } catch (Exception ignored) {
-            // Queue stats are best-effort
+        var details = new LinkedHashMap<String, Object>(result.value());
+        if (worker != null) {
+            var workerDetails = new LinkedHashMap<String, Object>();
+            workerDetails.put("id", worker.getWorkerId());
+            workerDetails.put("state", worker.getState().value());
+            workerDetails.put("activeJobs", worker.getActiveJobCount());
+            details.put("worker", workerDetails);
         }
+        return Health.up()
+                .withDetails(details)
+                .build();
+    }
+
+    static Exception asException(Throwable error) {
+        return error instanceof Exception e ? e : new RuntimeException(error);
     }
 }
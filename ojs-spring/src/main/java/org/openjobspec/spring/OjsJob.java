@@ -53,4 +53,10 @@ public @interface OjsJob {
 
     /** The queue to use for this job type. Defaults to the configured default queue. */
     String queue() default "";
+
+    /**
+     * Maximum number of jobs of this type running concurrently on this worker.
+     * Defaults to {@code 0} (limited only by the worker concurrency).
+     */
+    int maxConcurrency() default 0;
 }
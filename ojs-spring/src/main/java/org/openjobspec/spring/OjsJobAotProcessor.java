@@ -0,0 +1,79 @@
+package org.openjobspec.spring;
+
+import org.springframework.aot.hint.ExecutableMode;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.RegisteredBean;
+import org.springframework.core.ResolvableType;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Resolves {@link OjsJob @OjsJob} handlers at build time for Spring AOT and GraalVM
+ * native images.
+ *
+ * <p>Every bean type is scanned the same way {@link OjsJobRegistrar} scans beans at
+ * runtime. For a {@code @Bean} method that is the method's return type, since the
+ * bean is not created during AOT processing: a bean declared as an interface is
+ * scanned through the {@code @OjsJob} methods of that interface, and class-level
+ * handlers need the {@code @Bean} method to return the handler class itself.
+ * Method-level handlers are checked for a supported signature, so a bad
+ * handler fails the AOT build instead of the native executable's startup, and are
+ * registered for reflective invocation. Class-level {@link OjsJobHandler} beans are
+ * registered as types so their annotation stays readable.
+ *
+ * <p>Registered through {@code META-INF/spring/aot.factories}.
+ */
+class OjsJobAotProcessor implements BeanFactoryInitializationAotProcessor {
+
+    @Override
+    public BeanFactoryInitializationAotContribution processAheadOfTime(ConfigurableListableBeanFactory beanFactory) {
+        Set<Class<?>> handlerTypes = new LinkedHashSet<>();
+        List<Method> handlerMethods = new ArrayList<>();
+        for (String beanName : beanFactory.getBeanDefinitionNames()) {
+            for (Class<?> beanClass : beanTypes(RegisteredBean.of(beanFactory, beanName))) {
+                if (beanClass.isAnnotationPresent(OjsJob.class) && OjsJobHandler.class.isAssignableFrom(beanClass)) {
+                    handlerTypes.add(beanClass);
+                }
+                for (Method method : OjsJobRegistrar.jobMethods(beanClass)) {
+                    OjsHandlerInvoker.checkSignature(method);
+                    handlerMethods.add(method);
+                }
+            }
+        }
+        if (handlerTypes.isEmpty() && handlerMethods.isEmpty()) {
+            return null;
+        }
+        return (generationContext, code) -> registerHints(
+                generationContext.getRuntimeHints(), handlerTypes, handlerMethods);
+    }
+
+    /**
+     * The types a bean is known by before it is created: its bean type and, for a
+     * factory method, the method's return type. The bean type alone is {@code Object}
+     * or the factory class for beans that {@code @Bean} methods create.
+     */
+    static Set<Class<?>> beanTypes(RegisteredBean bean) {
+        Set<Class<?>> types = new LinkedHashSet<>();
+        types.add(ClassUtils.getUserClass(bean.getBeanType().toClass()));
+        if (bean.getMergedBeanDefinition().getFactoryMethodName() != null
+                && bean.resolveInstantiationDescriptor().executable() instanceof Method factoryMethod) {
+            types.add(ClassUtils.getUserClass(ResolvableType.forMethodReturnType(factoryMethod).toClass()));
+        }
+        types.remove(Object.class);
+        return types;
+    }
+
+    static void registerHints(RuntimeHints hints, Set<Class<?>> handlerTypes, List<Method> handlerMethods) {
+        var reflection = hints.reflection();
+        handlerTypes.forEach(reflection::registerType);
+        handlerMethods.forEach(method -> reflection.registerMethod(method, ExecutableMode.INVOKE));
+    }
+}
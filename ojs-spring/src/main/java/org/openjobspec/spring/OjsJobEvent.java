@@ -1,7 +1,10 @@
 package org.openjobspec.spring;
 
+import org.openjobspec.ojs.Event;
+import org.openjobspec.ojs.transport.Json;
 import org.springframework.context.ApplicationEvent;
 
+import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
 
@@ -21,15 +24,26 @@ import java.util.Objects;
  *
  * @EventListener(condition = "#event.eventType == 'job.failed'")
  * public void onJobFailed(OjsJobEvent event) {
- *     alertService.notify("Job failed: " + event.getJobId());
+ *     alertService.notify("Job failed: " + event.getEvent().data());
  * }
  * }</pre>
+ *
+ * <p>Events created by the bridge carry the raw SSE data and decode it on the first
+ * call to {@link #getData()} or {@link #getEvent()}. The decoded payload is kept on the
+ * event, so all listeners receiving it share a single parse, and events whose payload
+ * no listener reads are never decoded.
  */
 public class OjsJobEvent extends ApplicationEvent {
 
+    /** Payload data, and whether it was structured data rather than the raw fallback. */
+    private record Payload(Map<String, Object> data, boolean structured) {}
+
     private final String eventType;
     private final String jobId;
-    private final Map<String, Object> data;
+    private final String rawData;
+    private final boolean decodePayload;
+    private volatile Payload payload;
+    private volatile Event event;
 
     /**
      * Create a new OJS job event.
@@ -40,10 +54,45 @@ public class OjsJobEvent extends ApplicationEvent {
      * @param data      the event payload
      */
     public OjsJobEvent(Object source, String eventType, String jobId, Map<String, Object> data) {
+        this(source, eventType, jobId, null, true);
+        this.payload = new Payload(data != null ? Map.copyOf(data) : Map.of(), true);
+    }
+
+    private OjsJobEvent(Object source, String eventType, String jobId, String rawData, boolean decodePayload) {
         super(source);
         this.eventType = Objects.requireNonNull(eventType, "eventType must not be null");
         this.jobId = jobId;
-        this.data = data != null ? Map.copyOf(data) : Map.of();
+        this.rawData = rawData;
+        this.decodePayload = decodePayload;
+    }
+
+    /**
+     * Create an event whose payload is the given JSON, decoded on first access.
+     *
+     * @param source    the event source (typically the OjsEventBridge)
+     * @param eventType the OJS event type
+     * @param jobId     the job ID (may be null for non-job events)
+     * @param json      the raw SSE data (may be null)
+     * @return the event
+     */
+    public static OjsJobEvent fromJson(Object source, String eventType, String jobId, String json) {
+        return fromJson(source, eventType, jobId, json, true);
+    }
+
+    /**
+     * @param decodePayload whether {@link #getData()} decodes the JSON; when {@code false}
+     *                      it only exposes the raw data under {@code "raw"}
+     */
+    static OjsJobEvent fromJson(Object source, String eventType, String jobId, String json, boolean decodePayload) {
+        return new OjsJobEvent(source, eventType, jobId, json, decodePayload);
+    }
+
+    /** Create an event for JSON the caller has already decoded, so it is not parsed again. */
+    static OjsJobEvent decoded(Object source, String eventType, String jobId, String json,
+                               Map<String, Object> decoded) {
+        var event = new OjsJobEvent(source, eventType, jobId, json, true);
+        event.payload = new Payload(Collections.unmodifiableMap(decoded), true);
+        return event;
     }
 
     /** The OJS event type (e.g. "job.completed", "job.failed", "workflow.completed"). */
@@ -56,9 +105,38 @@ public class OjsJobEvent extends ApplicationEvent {
         return jobId;
     }
 
-    /** The event payload data. */
+    /**
+     * The event payload data, decoded from JSON on first access. Data that is not a
+     * JSON object is exposed unparsed under the {@code "raw"} key.
+     */
     public Map<String, Object> getData() {
-        return data;
+        return payload().data();
+    }
+
+    /** The raw SSE data this event was created from, or {@code null}. */
+    public String getRawData() {
+        return rawData;
+    }
+
+    /**
+     * The payload as a typed SDK {@link Event}, decoded on first access, or {@code null}
+     * when the payload is not an OJS event envelope.
+     */
+    public Event getEvent() {
+        Event typed = event;
+        if (typed == null) {
+            var current = payload();
+            if (!current.structured()) {
+                return null;
+            }
+            try {
+                typed = Event.fromMap(current.data());
+            } catch (RuntimeException e) {
+                return null;
+            }
+            event = typed;
+        }
+        return typed;
     }
 
     /**
@@ -86,8 +164,34 @@ public class OjsJobEvent extends ApplicationEvent {
         return eventType.startsWith("worker.");
     }
 
+    private Payload payload() {
+        Payload current = payload;
+        if (current == null) {
+            // A racing first access decodes twice; both results are equal
+            current = decode();
+            payload = current;
+        }
+        return current;
+    }
+
+    private Payload decode() {
+        if (rawData == null) {
+            return new Payload(Map.of(), false);
+        }
+        if (decodePayload) {
+            try {
+                return new Payload(Collections.unmodifiableMap(Json.decodeObject(rawData)), true);
+            } catch (RuntimeException e) {
+                // Not a JSON object; fall through to the raw form
+            }
+        }
+        return new Payload(Map.of("raw", rawData), false);
+    }
+
     @Override
     public String toString() {
-        return "OjsJobEvent{type='%s', jobId='%s', data=%s}".formatted(eventType, jobId, data);
+        Payload current = payload;
+        Object shown = current != null ? current.data() : rawData;
+        return "OjsJobEvent{type='%s', jobId='%s', data=%s}".formatted(eventType, jobId, shown);
     }
 }
@@ -1,11 +1,16 @@
 package org.openjobspec.spring;
 
-import org.openjobspec.ojs.JobContext;
 import org.openjobspec.ojs.OJSWorker;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.util.ClassUtils;
 
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
 
 /**
  * Scans Spring beans for {@link OjsJob} annotations and {@link OjsJobHandler}
@@ -18,13 +23,27 @@ import java.lang.reflect.Method;
  *   <li><b>Method-level:</b> Methods annotated with {@code @OjsJob} on any bean
  *       are registered as individual handlers.</li>
  * </ul>
+ *
+ * <p>Method-level handlers are bound once into an {@link OjsHandlerInvoker}, so job
+ * dispatch does not go through reflection. For native images, {@link OjsJobAotProcessor}
+ * registers the reflection hints this scan needs at build time.
  */
 public class OjsJobRegistrar implements BeanPostProcessor {
 
     private final OJSWorker worker;
+    private final OjsConcurrencyLimiter limiter;
 
     public OjsJobRegistrar(OJSWorker worker) {
+        this(worker, null);
+    }
+
+    /**
+     * @param worker  the worker to register handlers on
+     * @param limiter the limiter receiving {@link OjsJob#maxConcurrency()} limits, or {@code null}
+     */
+    public OjsJobRegistrar(OJSWorker worker, OjsConcurrencyLimiter limiter) {
         this.worker = worker;
+        this.limiter = limiter;
     }
 
     @Override
@@ -36,21 +55,49 @@ public class OjsJobRegistrar implements BeanPostProcessor {
         if (classAnnotation != null && bean instanceof OjsJobHandler handler) {
             String jobType = resolveJobType(classAnnotation);
             if (!jobType.isEmpty()) {
+                applyConcurrencyLimit(jobType, classAnnotation);
                 worker.register(jobType, ctx -> handler.execute(new OjsJobContext(ctx)));
             }
         }
 
-        // Method-level @OjsJob
-        for (Method method : beanClass.getDeclaredMethods()) {
+        // Method-level @OjsJob, including methods declared on the bean's interfaces
+        for (Method method : jobMethods(beanClass)) {
             var annotation = method.getAnnotation(OjsJob.class);
-            if (annotation != null) {
-                String jobType = resolveJobType(annotation);
-                worker.register(jobType, ctx -> invokeHandler(bean, method, ctx));
-            }
+            String jobType = resolveJobType(annotation);
+            applyConcurrencyLimit(jobType, annotation);
+            worker.register(jobType, OjsHandlerInvoker.bind(bean, method));
         }
         return bean;
     }
 
+    /**
+     * The methods of {@code beanClass} annotated with {@link OjsJob}, followed by the annotated
+     * instance methods of its interfaces that the class does not annotate itself.
+     */
+    static List<Method> jobMethods(Class<?> beanClass) {
+        var methods = new ArrayList<Method>();
+        var signatures = new HashSet<String>();
+        for (Method method : beanClass.getDeclaredMethods()) {
+            if (method.isAnnotationPresent(OjsJob.class)) {
+                methods.add(method);
+                signatures.add(signature(method));
+            }
+        }
+        for (Class<?> type : ClassUtils.getAllInterfacesForClassAsSet(beanClass)) {
+            for (Method method : type.getDeclaredMethods()) {
+                if (method.isAnnotationPresent(OjsJob.class) && !Modifier.isStatic(method.getModifiers())
+                        && signatures.add(signature(method))) {
+                    methods.add(method);
+                }
+            }
+        }
+        return methods;
+    }
+
+    private static String signature(Method method) {
+        return method.getName() + Arrays.toString(method.getParameterTypes());
+    }
+
     static String resolveJobType(OjsJob annotation) {
         String type = annotation.type();
         if (type == null || type.isEmpty()) {
@@ -59,15 +106,14 @@ public class OjsJobRegistrar implements BeanPostProcessor {
         return type != null ? type : "";
     }
 
-    private Object invokeHandler(Object bean, Method method, JobContext ctx) throws Exception {
-        try {
-            if (!method.canAccess(bean)) {
-                method.setAccessible(true);
-            }
-            return method.invoke(bean, ctx);
-        } catch (java.lang.reflect.InvocationTargetException e) {
-            if (e.getCause() instanceof Exception ex) throw ex;
-            throw new RuntimeException("Job handler threw non-exception throwable", e.getCause());
+    private void applyConcurrencyLimit(String jobType, OjsJob annotation) {
+        if (annotation.maxConcurrency() <= 0) {
+            return;
+        }
+        if (limiter == null) {
+            throw new IllegalStateException("@OjsJob(maxConcurrency) on " + jobType
+                    + " requires an OjsConcurrencyLimiter");
         }
+        limiter.limitType(jobType, annotation.maxConcurrency());
     }
 }
@@ -0,0 +1,53 @@
+package org.openjobspec.spring;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Builds wire-format job request maps as accepted by
+ * {@link org.openjobspec.ojs.OJSClient#enqueueBatch(List)}.
+ *
+ * <p>Batched requests must create the same job as the direct
+ * {@link org.openjobspec.ojs.OJSClient#enqueue(String, Object)} call for the same
+ * arguments, so {@link #args(Object)} lays arguments out the way the SDK does.
+ */
+final class OjsJobRequests {
+
+    private OjsJobRequests() {
+    }
+
+    /**
+     * Build a wire-format request for a single job.
+     *
+     * @param type  the job type
+     * @param queue the target queue, or {@code null} for the server default
+     * @param args  the job arguments as a map
+     * @return the request map
+     */
+    static Map<String, Object> wire(String type, String queue, Map<String, Object> args) {
+        Objects.requireNonNull(type, "type must not be null");
+        var request = new LinkedHashMap<String, Object>();
+        request.put("type", type);
+        request.put("args", args(args != null ? args : Map.of()));
+        if (queue != null && !queue.isEmpty()) {
+            request.put("options", Map.of("queue", queue));
+        }
+        return request;
+    }
+
+    /**
+     * The {@code args} array for a job, laid out as the SDK sends the arguments given to
+     * {@link org.openjobspec.ojs.OJSClient#enqueue(String, Object)}: a list is the array
+     * itself, anything else, such as an argument map, is its only element. This is where
+     * {@link org.openjobspec.ojs.Job#argsMap()} reads the map back from.
+     */
+    static List<Object> args(Object args) {
+        if (args instanceof List<?> list) {
+            return new ArrayList<>(list);
+        }
+        return List.of(Objects.requireNonNull(args, "args must not be null"));
+    }
+}
@@ -0,0 +1,91 @@
+package org.openjobspec.spring;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Minimal JSON encoder for job arguments (maps, lists, strings, numbers,
+ * booleans and {@code null}), used where the starter has to persist a job
+ * outside of the SDK client. Decoding goes through the SDK's
+ * {@link org.openjobspec.ojs.transport.Json}.
+ */
+final class OjsJson {
+
+    private OjsJson() {
+    }
+
+    static String encode(Object value) {
+        var sb = new StringBuilder();
+        write(sb, value);
+        return sb.toString();
+    }
+
+    private static void write(StringBuilder sb, Object value) {
+        if (value == null) {
+            sb.append("null");
+        } else if (value instanceof CharSequence || value instanceof Character || value instanceof Enum<?>) {
+            writeString(sb, value.toString());
+        } else if (value instanceof Number number) {
+            if (number instanceof Double d && (d.isNaN() || d.isInfinite())
+                    || number instanceof Float f && (f.isNaN() || f.isInfinite())) {
+                throw new IllegalArgumentException("Cannot encode non-finite number " + number);
+            }
+            sb.append(number);
+        } else if (value instanceof Boolean) {
+            sb.append(value);
+        } else if (value instanceof Map<?, ?> map) {
+            sb.append('{');
+            boolean first = true;
+            for (var entry : map.entrySet()) {
+                if (!first) {
+                    sb.append(',');
+                }
+                first = false;
+                writeString(sb, String.valueOf(entry.getKey()));
+                sb.append(':');
+                write(sb, entry.getValue());
+            }
+            sb.append('}');
+        } else if (value instanceof Iterable<?> iterable) {
+            writeArray(sb, iterable.iterator());
+        } else if (value instanceof Object[] array) {
+            writeArray(sb, Arrays.asList(array).iterator());
+        } else {
+            throw new IllegalArgumentException("Cannot encode " + value.getClass().getName() + " as JSON");
+        }
+    }
+
+    private static void writeArray(StringBuilder sb, Iterator<?> values) {
+        sb.append('[');
+        while (values.hasNext()) {
+            write(sb, values.next());
+            if (values.hasNext()) {
+                sb.append(',');
+            }
+        }
+        sb.append(']');
+    }
+
+    private static void writeString(StringBuilder sb, String s) {
+        sb.append('"');
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        sb.append('"');
+    }
+}
@@ -0,0 +1,140 @@
+package org.openjobspec.spring;
+
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Transactional outbox for OJS jobs.
+ *
+ * <p>Jobs are inserted into an outbox table through a {@link JdbcTemplate}, so the
+ * insert joins the caller's JDBC transaction: a job exists if and only if the
+ * transaction commits. {@link OjsOutboxRelay} then delivers the rows to the OJS
+ * server. Each row gets a UUID that is sent as the job's idempotency key.
+ *
+ * <p>The table layout is in {@code org/openjobspec/spring/ojs-outbox-schema.sql}, which
+ * {@link #initializeSchema()} runs under the configured table name
+ * ({@code ojs.outbox.initialize-schema}):
+ * <pre>{@code
+ * CREATE TABLE ojs_outbox (
+ *     id              VARCHAR(36)   PRIMARY KEY,
+ *     job_type        VARCHAR(255)  NOT NULL,
+ *     queue           VARCHAR(255),
+ *     args            TEXT          NOT NULL,
+ *     created_at      TIMESTAMP     NOT NULL,
+ *     status          VARCHAR(16)   NOT NULL,
+ *     attempts        INT           NOT NULL,
+ *     next_attempt_at TIMESTAMP     NOT NULL,
+ *     last_error      VARCHAR(1000)
+ * );
+ * }</pre>
+ *
+ * <p>Rows the relay gave up on stay in the table with {@code status = 'dead'} and
+ * their last error, for inspection or a manual retry by setting the status back to
+ * {@code pending}.
+ */
+public class OjsOutbox {
+
+    /** Status of rows waiting to be relayed. */
+    public static final String STATUS_PENDING = "pending";
+
+    /** Status of rows the relay gave up on after too many failed attempts. */
+    public static final String STATUS_DEAD = "dead";
+
+    /** Classpath location of the outbox DDL. */
+    public static final String SCHEMA_LOCATION = "org/openjobspec/spring/ojs-outbox-schema.sql";
+
+    private static final Pattern TABLE_NAME = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*(\\.[A-Za-z_][A-Za-z0-9_]*)?");
+
+    private final JdbcTemplate jdbc;
+    private final String table;
+    private final String insertSql;
+
+    public OjsOutbox(JdbcTemplate jdbc, String table) {
+        this.jdbc = Objects.requireNonNull(jdbc, "jdbc must not be null");
+        this.table = validateTableName(table);
+        this.insertSql = "INSERT INTO " + this.table
+                + " (id, job_type, queue, args, created_at, status, attempts, next_attempt_at)"
+                + " VALUES (?, ?, ?, ?, ?, '" + STATUS_PENDING + "', 0, ?)";
+    }
+
+    /**
+     * Add a job to the outbox within the current transaction.
+     *
+     * @param type  the job type
+     * @param queue the target queue, or {@code null} for the server default
+     * @param args  the job arguments
+     * @return the idempotency key of the job
+     */
+    public String add(String type, String queue, Map<String, Object> args) {
+        Objects.requireNonNull(type, "type must not be null");
+        String id = UUID.randomUUID().toString();
+        var now = Timestamp.from(Instant.now());
+        jdbc.update(insertSql, id, type, queue, OjsJson.encode(args != null ? args : Map.of()), now, now);
+        return id;
+    }
+
+    /**
+     * Create the outbox table and its index from {@link #SCHEMA_LOCATION}, named after
+     * {@link #getTable()}, unless the table already exists.
+     *
+     * @return whether the table was created
+     */
+    public boolean initializeSchema() {
+        if (tableExists()) {
+            return false;
+        }
+        String script;
+        try {
+            script = new ClassPathResource(SCHEMA_LOCATION, OjsOutbox.class.getClassLoader())
+                    .getContentAsString(StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read " + SCHEMA_LOCATION, e);
+        }
+        String indexPrefix = table.substring(table.indexOf('.') + 1);
+        script = script.replace("CREATE TABLE ojs_outbox ", "CREATE TABLE " + table + " ")
+                .replace("CREATE INDEX ojs_outbox_", "CREATE INDEX " + indexPrefix + "_")
+                .replace(" ON ojs_outbox ", " ON " + table + " ");
+        new ResourceDatabasePopulator(new ByteArrayResource(script.getBytes(StandardCharsets.UTF_8)))
+                .execute(Objects.requireNonNull(jdbc.getDataSource(), "jdbc has no DataSource"));
+        return true;
+    }
+
+    private boolean tableExists() {
+        try {
+            jdbc.queryForList("SELECT id FROM " + table + " WHERE 1 = 0");
+            return true;
+        } catch (DataAccessException e) {
+            return false;
+        }
+    }
+
+    /** The JDBC template the outbox writes through. */
+    public JdbcTemplate getJdbcTemplate() {
+        return jdbc;
+    }
+
+    /** The outbox table name. */
+    public String getTable() {
+        return table;
+    }
+
+    static String validateTableName(String table) {
+        if (table == null || !TABLE_NAME.matcher(table).matches()) {
+            throw new IllegalArgumentException("Invalid outbox table name: " + table);
+        }
+        return table;
+    }
+}
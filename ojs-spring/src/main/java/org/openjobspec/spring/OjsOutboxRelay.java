@@ -0,0 +1,233 @@
+package org.openjobspec.spring;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.openjobspec.ojs.OJSClient;
+import org.openjobspec.ojs.transport.Json;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Background relay delivering jobs from the {@link OjsOutbox} table to the OJS server.
+ *
+ * <p>Every {@code pollInterval} the relay claims up to {@code batchSize} of the oldest
+ * pending rows in a short transaction, with {@code SELECT ... FOR UPDATE SKIP LOCKED},
+ * by counting the attempt and pushing the row's {@code next_attempt_at} out by a claim
+ * timeout. It then sends them with a single {@code enqueueBatch} call outside any
+ * transaction, so no row lock or connection is held across the HTTP call, and deletes
+ * them once the server has accepted them. {@code SKIP LOCKED} and the claim let several
+ * application instances relay the same table without sending a row twice concurrently;
+ * rows of an instance that dies after claiming are picked up once the claim times out.
+ *
+ * <p>If the server rejects a batch, its rows are sent again one by one, so a single
+ * row the server will never accept, for example one with an unknown type, cannot hold
+ * up the rest. A failed row is retried with exponential backoff, its error kept in
+ * {@code last_error}; after {@code maxAttempts} it is marked {@code status = 'dead'}
+ * and no longer relayed.
+ *
+ * <p>The claim query uses {@code LIMIT ... FOR UPDATE SKIP LOCKED}, which PostgreSQL,
+ * MySQL 8 and H2 support; Oracle and SQL Server do not.
+ *
+ * <p>Delivery is at-least-once: a crash between the enqueue and the delete resends
+ * the row. Every job carries its outbox row id as {@code meta.idempotency_key}
+ * so duplicates can be recognised.
+ */
+public class OjsOutboxRelay implements AutoCloseable {
+
+    /** Default number of attempts before a row is marked dead. */
+    public static final int DEFAULT_MAX_ATTEMPTS = 25;
+
+    private static final Log log = LogFactory.getLog(OjsOutboxRelay.class);
+
+    private static final Duration CLAIM_TIMEOUT = Duration.ofMinutes(5);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(15);
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private record Row(String id, String type, String queue, String args, int attempts) {}
+
+    private record Relayed(int claimed, int delivered) {}
+
+    private final OJSClient client;
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration pollInterval;
+    private final int maxAttempts;
+    private final String claimSql;
+    private final String markClaimedSql;
+    private final String deleteSql;
+    private final String retrySql;
+    private final String deadSql;
+    private ScheduledExecutorService scheduler;
+
+    public OjsOutboxRelay(OJSClient client, OjsOutbox outbox, TransactionTemplate transactionTemplate,
+                          int batchSize, Duration pollInterval) {
+        this(client, outbox, transactionTemplate, batchSize, pollInterval, DEFAULT_MAX_ATTEMPTS);
+    }
+
+    /**
+     * @param transactionTemplate transactions on the outbox's {@code DataSource}, used to claim rows
+     * @param maxAttempts         attempts after which a row is marked dead
+     */
+    public OjsOutboxRelay(OJSClient client, OjsOutbox outbox, TransactionTemplate transactionTemplate,
+                          int batchSize, Duration pollInterval, int maxAttempts) {
+        this.client = Objects.requireNonNull(client, "client must not be null");
+        this.transactionTemplate = Objects.requireNonNull(transactionTemplate, "transactionTemplate must not be null");
+        this.pollInterval = Objects.requireNonNull(pollInterval, "pollInterval must not be null");
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be at least 1");
+        }
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be at least 1");
+        }
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.jdbc = Objects.requireNonNull(outbox, "outbox must not be null").getJdbcTemplate();
+        String table = outbox.getTable();
+        this.claimSql = "SELECT id, job_type, queue, args, attempts FROM " + table
+                + " WHERE status = '" + OjsOutbox.STATUS_PENDING + "' AND next_attempt_at <= ?"
+                + " ORDER BY created_at LIMIT ? FOR UPDATE SKIP LOCKED";
+        this.markClaimedSql = "UPDATE " + table + " SET attempts = attempts + 1, next_attempt_at = ? WHERE id = ?";
+        this.deleteSql = "DELETE FROM " + table + " WHERE id = ?";
+        this.retrySql = "UPDATE " + table + " SET next_attempt_at = ?, last_error = ? WHERE id = ?";
+        this.deadSql = "UPDATE " + table + " SET status = '" + OjsOutbox.STATUS_DEAD + "', last_error = ? WHERE id = ?";
+    }
+    /** Start polling the outbox table. Called by Spring on context startup. */
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("ojs-outbox-relay").daemon(true).factory());
+        scheduler.scheduleWithFixedDelay(this::drain, 0, pollInterval.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /** Stop polling. Called by Spring on context shutdown. */
+    @Override
+    public synchronized void close() {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        scheduler = null;
+    }
+
+    /**
+     * Relay batches until no pending row is due or claiming fails.
+     *
+     * @return the number of jobs relayed
+     */
+    public int drain() {
+        int total = 0;
+        try {
+            Relayed relayed;
+            do {
+                relayed = relayBatch();
+                total += relayed.delivered();
+            } while (relayed.claimed() == batchSize);
+        } catch (RuntimeException e) {
+            log.warn("Failed to relay OJS outbox batch, will retry on next poll", e);
+        }
+        return total;
+    }
+
+    /** Claim a batch, send it and record the outcome of every row. */
+    Relayed relayBatch() {
+        List<Row> rows = claim();
+        if (rows.isEmpty()) {
+            return new Relayed(0, 0);
+        }
+        try {
+            send(rows);
+            return new Relayed(rows.size(), rows.size());
+        } catch (RuntimeException e) {
+            if (rows.size() == 1) {
+                failed(rows.getFirst(), e);
+                return new Relayed(1, 0);
+            }
+            log.warn("OJS outbox batch of " + rows.size() + " jobs failed, relaying its rows one by one", e);
+        }
+        int delivered = 0;
+        for (var row : rows) {
+            try {
+                send(List.of(row));
+                delivered++;
+            } catch (RuntimeException e) {
+                failed(row, e);
+            }
+        }
+        return new Relayed(rows.size(), delivered);
+    }
+
+    /** Claim due rows in a short transaction of their own. */
+    private List<Row> claim() {
+        var now = Instant.now();
+        List<Row> rows = transactionTemplate.execute(status -> {
+            List<Row> claimed = jdbc.query(claimSql, (rs, rowNum) -> new Row(
+                    rs.getString("id"), rs.getString("job_type"), rs.getString("queue"), rs.getString("args"),
+                    rs.getInt("attempts") + 1), Timestamp.from(now), batchSize);
+            var claimedUntil = Timestamp.from(now.plus(CLAIM_TIMEOUT));
+            var ids = new ArrayList<Object[]>(claimed.size());
+            for (var row : claimed) {
+                ids.add(new Object[] {claimedUntil, row.id()});
+            }
+            jdbc.batchUpdate(markClaimedSql, ids);
+            return claimed;
+        });
+        return rows != null ? rows : List.of();
+    }
+
+    private void send(List<Row> rows) {
+        var requests = new ArrayList<Map<String, Object>>(rows.size());
+        var ids = new ArrayList<Object[]>(rows.size());
+        for (var row : rows) {
+            requests.add(toRequest(row));
+            ids.add(new Object[] {row.id()});
+        }
+        client.enqueueBatch(requests);
+        jdbc.batchUpdate(deleteSql, ids);
+    }
+
+    private void failed(Row row, RuntimeException e) {
+        String error = String.valueOf(e);
+        if (error.length() > MAX_ERROR_LENGTH) {
+            error = error.substring(0, MAX_ERROR_LENGTH);
+        }
+        if (row.attempts() >= maxAttempts) {
+            log.error("OJS outbox job " + row.id() + " of type " + row.type() + " failed " + row.attempts()
+                    + " times, marking it dead", e);
+            jdbc.update(deadSql, error, row.id());
+            return;
+        }
+        jdbc.update(retrySql, Timestamp.from(Instant.now().plus(backoff(row.attempts()))), error, row.id());
+    }
+
+    /** The poll interval doubled for every attempt after the first, up to {@link #MAX_BACKOFF}. */
+    private Duration backoff(int attempts) {
+        long millis = pollInterval.toMillis() << Math.min(attempts - 1, 30);
+        return millis < 0 || millis > MAX_BACKOFF.toMillis() ? MAX_BACKOFF : Duration.ofMillis(millis);
+    }
+
+    private static Map<String, Object> toRequest(Row row) {
+        var request = new LinkedHashMap<>(OjsJobRequests.wire(row.type(), row.queue(), Json.decodeObject(row.args())));
+        request.put("meta", Map.of("idempotency_key", row.id()));
+        return request;
+    }
+}
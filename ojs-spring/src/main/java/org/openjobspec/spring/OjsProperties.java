@@ -1,8 +1,15 @@
 package org.openjobspec.spring;
 
+import org.openjobspec.common.OjsEventDispatcher;
+import org.openjobspec.common.OjsEventFilter;
+import org.openjobspec.common.OjsEventStream;
+import org.openjobspec.common.OjsPinningMonitor;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -13,11 +20,19 @@ import java.util.Map;
  * ojs:
  *   url: http://localhost:8080
  *   default-queue: default
+ *   http:
+ *     version: http-1-1
+ *     connect-timeout: 5s
+ *   health:
+ *     cache-ttl: 10s
+ *     timeout: 3s
  *   worker:
  *     concurrency: 10
  *     queues:
  *       - default
  *       - email
+ *     queue-concurrency:
+ *       email: 4
  *   retry:
  *     max-attempts: 5
  *     initial-interval: 2s
@@ -27,6 +42,35 @@ import java.util.Map;
  *     on-exhaustion: discard
  *   events:
  *     enabled: true
+ *     decode-payload: true
+ *     multiplex-channel: "*"
+ *     queue-capacity: 1024
+ *     overflow-policy: block
+ *     reconnect-backoff: 500ms
+ *     reconnect-max-backoff: 30s
+ *     dedupe-window: 1024
+ *     type-prefixes: job.failed
+ *     queues: payments,billing
+ *   enqueue:
+ *     batching:
+ *       enabled: true
+ *       max-batch-size: 100
+ *       linger: 10ms
+ *   async:
+ *     max-in-flight: 256
+ *     virtual-threads: true
+ *   reactive:
+ *     max-batch-size: 100
+ *     linger: 10ms
+ *   transaction:
+ *     async-flush: false
+ *   outbox:
+ *     enabled: false
+ *     table: ojs_outbox
+ *     batch-size: 100
+ *     poll-interval: 1s
+ *   metrics:
+ *     max-job-types: 1000
  *   cron:
  *     sync-on-startup: false
  *     definitions:
@@ -61,12 +105,36 @@ public class OjsProperties {
     /** Worker configuration. */
     private Worker worker = new Worker();
 
+    /** HTTP transport configuration. */
+    private Http http = new Http();
+
+    /** Actuator health check configuration. */
+    private Health health = new Health();
+
     /** Retry configuration. */
     private Retry retry = new Retry();
 
     /** Events configuration. */
     private Events events = new Events();
 
+    /** Client-side enqueue configuration. */
+    private Enqueue enqueue = new Enqueue();
+
+    /** Asynchronous template configuration. */
+    private Async async = new Async();
+
+    /** Reactive template configuration. */
+    private Reactive reactive = new Reactive();
+
+    /** Transactional enqueue configuration. */
+    private Transaction transaction = new Transaction();
+
+    /** Transactional outbox configuration. */
+    private Outbox outbox = new Outbox();
+
+    /** Metrics configuration. */
+    private Metrics metrics = new Metrics();
+
     /** Cron configuration. */
     private Cron cron = new Cron();
 
@@ -124,6 +192,22 @@ public class OjsProperties {
         this.worker = worker;
     }
 
+    public Http getHttp() {
+        return http;
+    }
+
+    public void setHttp(Http http) {
+        this.http = http;
+    }
+
+    public Health getHealth() {
+        return health;
+    }
+
+    public void setHealth(Health health) {
+        this.health = health;
+    }
+
     public Retry getRetry() {
         return retry;
     }
@@ -140,6 +224,54 @@ public class OjsProperties {
         this.events = events;
     }
 
+    public Enqueue getEnqueue() {
+        return enqueue;
+    }
+
+    public void setEnqueue(Enqueue enqueue) {
+        this.enqueue = enqueue;
+    }
+
+    public Async getAsync() {
+        return async;
+    }
+
+    public void setAsync(Async async) {
+        this.async = async;
+    }
+
+    public Transaction getTransaction() {
+        return transaction;
+    }
+
+    public void setTransaction(Transaction transaction) {
+        this.transaction = transaction;
+    }
+
+    public Outbox getOutbox() {
+        return outbox;
+    }
+
+    public void setOutbox(Outbox outbox) {
+        this.outbox = outbox;
+    }
+
+    public Metrics getMetrics() {
+        return metrics;
+    }
+
+    public void setMetrics(Metrics metrics) {
+        this.metrics = metrics;
+    }
+
+    public Reactive getReactive() {
+        return reactive;
+    }
+
+    public void setReactive(Reactive reactive) {
+        this.reactive = reactive;
+    }
+
     public Cron getCron() {
         return cron;
     }
@@ -165,10 +297,14 @@ public class OjsProperties {
     }
 
     /**
-     * Resolve effective worker concurrency: prefer nested {@code worker.concurrency}
-     * if explicitly set, otherwise fall back to top-level {@code concurrency}.
+     * Resolve effective worker concurrency: {@code worker.max-in-flight} in
+     * virtual-threads execution mode, otherwise prefer nested {@code worker.concurrency}
+     * if explicitly set and fall back to top-level {@code concurrency}.
      */
     public int resolvedConcurrency() {
+        if (worker.getExecution() == Worker.Execution.VIRTUAL_THREADS) {
+            return worker.getMaxInFlight();
+        }
         return worker.getConcurrency() > 0 ? worker.getConcurrency() : concurrency;
     }
 
@@ -181,15 +317,93 @@ public class OjsProperties {
                 ? worker.getQueues() : queues;
     }
 
+    /** HTTP transport configuration properties, shared by the client and worker. */
+    public static class Http {
+
+        /** Preferred HTTP version. */
+        private HttpClient.Version version = HttpClient.Version.HTTP_1_1;
+
+        /** Timeout for establishing a connection. */
+        private Duration connectTimeout = Duration.ofSeconds(5);
+
+        public HttpClient.Version getVersion() {
+            return version;
+        }
+
+        public void setVersion(HttpClient.Version version) {
+            this.version = version;
+        }
+
+        public Duration getConnectTimeout() {
+            return connectTimeout;
+        }
+
+        public void setConnectTimeout(Duration connectTimeout) {
+            this.connectTimeout = connectTimeout;
+        }
+    }
+
+    /** Actuator health check configuration properties. */
+    public static class Health {
+
+        /** How long a backend health result is reused before it is refreshed in the background. */
+        private Duration cacheTtl = Duration.ofSeconds(10);
+
+        /** Maximum time to wait for a backend health call. */
+        private Duration timeout = Duration.ofSeconds(3);
+
+        public Duration getCacheTtl() {
+            return cacheTtl;
+        }
+
+        public void setCacheTtl(Duration cacheTtl) {
+            this.cacheTtl = cacheTtl;
+        }
+
+        public Duration getTimeout() {
+            return timeout;
+        }
+
+        public void setTimeout(Duration timeout) {
+            this.timeout = timeout;
+        }
+    }
+
     /** Worker-specific configuration properties. */
     public static class Worker {
 
+        /** How job handlers are scheduled. */
+        public enum Execution {
+            /** Jobs in flight are bounded by {@code concurrency}, sized like a thread pool. */
+            POOL,
+            /** Each job runs on its own virtual thread, bounded only by {@code max-in-flight}. */
+            VIRTUAL_THREADS
+        }
+
         /** Number of virtual threads processing jobs concurrently. */
         private int concurrency = 0;
 
+        /** Execution mode: "pool" or "virtual-threads". */
+        private Execution execution = Execution.POOL;
+
+        /** Maximum jobs in flight in virtual-threads execution mode. */
+        private int maxInFlight = 1000;
+
+        /** Minimum time a job has to pin its carrier thread to be reported in virtual-threads mode. */
+        private Duration pinnedThreshold = OjsPinningMonitor.DEFAULT_THRESHOLD;
+
         /** Queues the worker should poll. */
         private List<String> queues = List.of();
 
+        /** Maximum concurrent jobs per queue, on top of the global concurrency. */
+        private Map<String, Integer> queueConcurrency = new LinkedHashMap<>();
+
+        /** Longest a job without a timeout of its own waits for a queue or type concurrency permit. */
+        private Duration limitWait = OjsConcurrencyLimiter.DEFAULT_MAX_WAIT;
+
+        /** Jobs fetched ahead of the free worker slots and held until one frees up; 0 disables prefetching. */
+        private int prefetch = 0;
+
         public int getConcurrency() {
             return concurrency;
         }
@@ -205,6 +419,57 @@ public class OjsProperties {
         public void setQueues(List<String> queues) {
             this.queues = queues;
         }
+
+        public Execution getExecution() {
+            return execution;
+        }
+
+        public void setExecution(Execution execution) {
+            this.execution = execution;
+        }
+
+        public int getMaxInFlight() {
+            return maxInFlight;
+        }
+
+        public void setMaxInFlight(int maxInFlight) {
+            this.maxInFlight = maxInFlight;
+        }
+
+        public int getPrefetch() {
+            return prefetch;
+        }
+
+        public void setPrefetch(int prefetch) {
+            if (prefetch < 0) {
+                throw new IllegalArgumentException("ojs.worker.prefetch must not be negative: " + prefetch);
+            }
+            this.prefetch = prefetch;
+        }
+
+        public Duration getPinnedThreshold() {
+            return pinnedThreshold;
+        }
+
+        public void setPinnedThreshold(Duration pinnedThreshold) {
+            this.pinnedThreshold = pinnedThreshold;
+        }
+
+        public Map<String, Integer> getQueueConcurrency() {
+            return queueConcurrency;
+        }
+
+        public void setQueueConcurrency(Map<String, Integer> queueConcurrency) {
+            this.queueConcurrency = queueConcurrency;
+        }
+
+        public Duration getLimitWait() {
+            return limitWait;
+        }
+
+        public void setLimitWait(Duration limitWait) {
+            this.limitWait = limitWait;
+        }
     }
 
     /** Retry policy configuration properties. */
@@ -239,6 +504,39 @@ public class OjsProperties {
         /** Whether to enable the OJS event bridge. */
         private boolean enabled = false;
 
+        /** Whether event payloads are decoded from JSON when a listener reads them. */
+        private boolean decodePayload = true;
+
+        /** Channel of the shared stream that multiplexes watched jobs ({@code *} for all events). */
+        private String multiplexChannel = "*";
+
+        /** Maximum number of events waiting for listeners. */
+        private int queueCapacity = OjsEventDispatcher.DEFAULT_CAPACITY;
+
+        /** What to do with an incoming event when the listener queue is full. */
+        private OjsEventDispatcher.OverflowPolicy overflowPolicy = OjsEventDispatcher.OverflowPolicy.BLOCK;
+
+        /** Delay before reconnecting a dropped event stream, doubled on every further failure. */
+        private Duration reconnectBackoff = OjsEventStream.Reconnect.DEFAULT.initialBackoff();
+
+        /** Upper bound of the reconnect delay. */
+        private Duration reconnectMaxBackoff = OjsEventStream.Reconnect.DEFAULT.maxBackoff();
+
+        /** Number of recent event IDs remembered to drop events replayed after a reconnect. */
+        private int dedupeWindow = OjsEventStream.Reconnect.DEFAULT.dedupeWindow();
+
+        /** How long a job watch may go without events before it expires; zero for never. */
+        private Duration watchTimeout = OjsEventBridge.DEFAULT_WATCH_TIMEOUT;
+
+        /** Event type prefixes to publish, e.g. {@code job.failed} or {@code workflow.}; empty for all. */
+        private List<String> typePrefixes = List.of();
+
+        /** Queues whose events are published; empty for all. */
+        private List<String> queues = List.of();
+
+        /** Job types whose events are published; empty for all. */
+        private List<String> jobTypes = List.of();
+
         public boolean isEnabled() {
             return enabled;
         }
@@ -246,6 +544,336 @@ public class OjsProperties {
         public void setEnabled(boolean enabled) {
             this.enabled = enabled;
         }
+
+        public boolean isDecodePayload() {
+            return decodePayload;
+        }
+
+        public void setDecodePayload(boolean decodePayload) {
+            this.decodePayload = decodePayload;
+        }
+
+        public String getMultiplexChannel() {
+            return multiplexChannel;
+        }
+
+        public void setMultiplexChannel(String multiplexChannel) {
+            this.multiplexChannel = multiplexChannel;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public OjsEventDispatcher.OverflowPolicy getOverflowPolicy() {
+            return overflowPolicy;
+        }
+
+        public void setOverflowPolicy(OjsEventDispatcher.OverflowPolicy overflowPolicy) {
+            this.overflowPolicy = overflowPolicy;
+        }
+
+        public Duration getReconnectBackoff() {
+            return reconnectBackoff;
+        }
+
+        public void setReconnectBackoff(Duration reconnectBackoff) {
+            this.reconnectBackoff = reconnectBackoff;
+        }
+
+        public Duration getReconnectMaxBackoff() {
+            return reconnectMaxBackoff;
+        }
+
+        public void setReconnectMaxBackoff(Duration reconnectMaxBackoff) {
+            this.reconnectMaxBackoff = reconnectMaxBackoff;
+        }
+
+        public int getDedupeWindow() {
+            return dedupeWindow;
+        }
+
+        public void setDedupeWindow(int dedupeWindow) {
+            this.dedupeWindow = dedupeWindow;
+        }
+
+        public Duration getWatchTimeout() {
+            return watchTimeout;
+        }
+
+        public void setWatchTimeout(Duration watchTimeout) {
+            this.watchTimeout = watchTimeout;
+        }
+
+        public List<String> getTypePrefixes() {
+            return typePrefixes;
+        }
+
+        public void setTypePrefixes(List<String> typePrefixes) {
+            this.typePrefixes = typePrefixes;
+        }
+
+        public List<String> getQueues() {
+            return queues;
+        }
+
+        public void setQueues(List<String> queues) {
+            this.queues = queues;
+        }
+
+        public List<String> getJobTypes() {
+            return jobTypes;
+        }
+
+        public void setJobTypes(List<String> jobTypes) {
+            this.jobTypes = jobTypes;
+        }
+
+        /** The filter applied to published events. */
+        public OjsEventFilter toFilter() {
+            return new OjsEventFilter(typePrefixes, queues, jobTypes);
+        }
+
+        /** The reconnect settings of the bridge's event stream. */
+        public OjsEventStream.Reconnect toReconnect() {
+            return new OjsEventStream.Reconnect(reconnectBackoff, reconnectMaxBackoff, dedupeWindow);
+        }
+    }
+
+    /** Client-side enqueue configuration properties. */
+    public static class Enqueue {
+
+        /** Micro-batching of individual enqueue calls. */
+        private Batching batching = new Batching();
+
+        public Batching getBatching() {
+            return batching;
+        }
+
+        public void setBatching(Batching batching) {
+            this.batching = batching;
+        }
+    }
+
+    /** Enqueue micro-batching configuration properties. */
+    public static class Batching {
+
+        /** Whether to buffer enqueues and flush them via {@code enqueueBatch}. */
+        private boolean enabled = false;
+
+        /** Maximum number of jobs sent in a single batch. */
+        private int maxBatchSize = 100;
+
+        /** Maximum time a job waits in the buffer before its batch is flushed. */
+        private Duration linger = Duration.ofMillis(10);
+
+        /** Maximum number of jobs submitted and not yet acknowledged before further enqueues are rejected. */
+        private int maxPending = OjsEnqueueBatcher.DEFAULT_MAX_PENDING;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMaxBatchSize() {
+            return maxBatchSize;
+        }
+
+        public void setMaxBatchSize(int maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+        }
+
+        public Duration getLinger() {
+            return linger;
+        }
+
+        public void setLinger(Duration linger) {
+            this.linger = linger;
+        }
+
+        public int getMaxPending() {
+            return maxPending;
+        }
+
+        public void setMaxPending(int maxPending) {
+            this.maxPending = maxPending;
+        }
+    }
+
+    /** Asynchronous template configuration properties. */
+    public static class Async {
+
+        /**
+         * Maximum number of concurrent calls to the OJS server from {@code OjsAsyncTemplate};
+         * further calls are rejected.
+         */
+        private int maxInFlight = 256;
+
+        /** Run async calls on virtual threads; when false a fixed platform thread pool is used. */
+        private boolean virtualThreads = true;
+
+        /** Platform thread pool size, used when {@code virtual-threads} is false. */
+        private int poolSize = 16;
+
+        public int getMaxInFlight() {
+            return maxInFlight;
+        }
+
+        public void setMaxInFlight(int maxInFlight) {
+            this.maxInFlight = maxInFlight;
+        }
+
+        public boolean isVirtualThreads() {
+            return virtualThreads;
+        }
+
+        public void setVirtualThreads(boolean virtualThreads) {
+            this.virtualThreads = virtualThreads;
+        }
+
+        public int getPoolSize() {
+            return poolSize;
+        }
+
+        public void setPoolSize(int poolSize) {
+            this.poolSize = poolSize;
+        }
+    }
+
+    /** Reactive template configuration properties. */
+    public static class Reactive {
+
+        /** Maximum number of jobs per {@code enqueueBatch} call in stream enqueues. */
+        private int maxBatchSize = 100;
+
+        /** Maximum time a stream enqueue waits to fill a batch. */
+        private Duration linger = Duration.ofMillis(10);
+
+        public int getMaxBatchSize() {
+            return maxBatchSize;
+        }
+
+        public void setMaxBatchSize(int maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+        }
+
+        public Duration getLinger() {
+            return linger;
+        }
+
+        public void setLinger(Duration linger) {
+            this.linger = linger;
+        }
+    }
+
+    /** Transactional enqueue configuration properties. */
+    public static class Transaction {
+
+        /** Send post-commit enqueues on a background thread instead of the committing thread. */
+        private boolean asyncFlush = false;
+
+        public boolean isAsyncFlush() {
+            return asyncFlush;
+        }
+
+        public void setAsyncFlush(boolean asyncFlush) {
+            this.asyncFlush = asyncFlush;
+        }
+    }
+
+    /** Transactional outbox configuration properties. */
+    public static class Outbox {
+
+        /**
+         * Write transactional enqueues to an outbox table relayed in the background. The relay
+         * needs {@code SELECT ... FOR UPDATE SKIP LOCKED}: PostgreSQL, MySQL 8 or H2.
+         */
+        private boolean enabled = false;
+
+        /** Name of the outbox table. */
+        private String table = "ojs_outbox";
+
+        /** Create the outbox table on startup if it does not exist. */
+        private boolean initializeSchema = false;
+
+        /** Maximum number of jobs relayed per {@code enqueueBatch} call. */
+        private int batchSize = 100;
+
+        /** Delay between outbox polls. */
+        private Duration pollInterval = Duration.ofSeconds(1);
+
+        /** Failed relay attempts after which an outbox row is marked dead and no longer relayed. */
+        private int maxAttempts = OjsOutboxRelay.DEFAULT_MAX_ATTEMPTS;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getTable() {
+            return table;
+        }
+
+        public void setTable(String table) {
+            this.table = table;
+        }
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public Duration getPollInterval() {
+            return pollInterval;
+        }
+
+        public void setPollInterval(Duration pollInterval) {
+            this.pollInterval = pollInterval;
+        }
+
+        public int getMaxAttempts() {
+            return maxAttempts;
+        }
+
+        public void setMaxAttempts(int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+        }
+
+        public boolean isInitializeSchema() {
+            return initializeSchema;
+        }
+
+        public void setInitializeSchema(boolean initializeSchema) {
+            this.initializeSchema = initializeSchema;
+        }
+    }
+
+    /** Micrometer metrics configuration properties. */
+    public static class Metrics {
+
+        /** Maximum number of job types, and of queues, tagged individually; further values are tagged {@code other}. */
+        private int maxJobTypes = 1000;
+
+        public int getMaxJobTypes() {
+            return maxJobTypes;
+        }
+
+        public void setMaxJobTypes(int maxJobTypes) {
+            this.maxJobTypes = maxJobTypes;
+        }
     }
 
     /** Cron configuration properties. */
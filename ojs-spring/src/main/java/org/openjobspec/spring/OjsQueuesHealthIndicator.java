@@ -0,0 +1,49 @@
+package org.openjobspec.spring;
+
+import org.openjobspec.ojs.OJSClient;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Spring Actuator health contributor reporting a snapshot of OJS queue depths.
+ *
+ * <p>Kept apart from {@link OjsHealthIndicator} so that readiness does not depend on
+ * listing every queue: the contributor is always {@code UP}, or {@code UNKNOWN} when
+ * the listing fails, and never takes the application down. The listing is cached
+ * and refreshed in the background like the connectivity check.
+ */
+public class OjsQueuesHealthIndicator implements HealthIndicator {
+
+    private final OjsHealthCache<List<?>> cache;
+
+    public OjsQueuesHealthIndicator(OJSClient client) {
+        this(client, OjsHealthIndicator.DEFAULT_CACHE_TTL, OjsHealthIndicator.DEFAULT_TIMEOUT);
+    }
+
+    /**
+     * @param client   the client used to list queues
+     * @param cacheTtl how long a listing is reused
+     * @param timeout  maximum time to wait for the backend
+     */
+    public OjsQueuesHealthIndicator(OJSClient client, Duration cacheTtl, Duration timeout) {
+        this(new OjsHealthCache<>(client::listQueues, cacheTtl, timeout));
+    }
+
+    OjsQueuesHealthIndicator(OjsHealthCache<List<?>> cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public Health health() {
+        var result = cache.get();
+        if (result.error() != null) {
+            return Health.unknown().withException(OjsHealthIndicator.asException(result.error())).build();
+        }
+        return Health.up()
+                .withDetail("queues", result.value())
+                .build();
+    }
+}
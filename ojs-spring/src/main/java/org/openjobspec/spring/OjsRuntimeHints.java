@@ -0,0 +1,37 @@
+package org.openjobspec.spring;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+/**
+ * Native-image hints for the reflection and resources the starter uses itself.
+ *
+ * <ul>
+ *   <li>{@link OjsEncryptionAutoConfiguration} loads {@code EncryptionMiddleware} and its
+ *       nested types by name, so they are registered without a compile-time reference.</li>
+ *   <li>{@link OjsOutbox#initializeSchema()} reads {@link OjsOutbox#SCHEMA_LOCATION} from
+ *       the classpath.</li>
+ * </ul>
+ *
+ * <p>{@code @OjsJob} handlers in application beans are covered by {@link OjsJobAotProcessor}.
+ */
+class OjsRuntimeHints implements RuntimeHintsRegistrar {
+
+    static final String ENCRYPTION_MIDDLEWARE = "org.openjobspec.ojs.EncryptionMiddleware";
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        var reflection = hints.reflection();
+        reflection.registerType(TypeReference.of(ENCRYPTION_MIDDLEWARE),
+                MemberCategory.INVOKE_PUBLIC_METHODS);
+        reflection.registerType(TypeReference.of(ENCRYPTION_MIDDLEWARE + "$EncryptionCodec"),
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+        reflection.registerType(TypeReference.of(ENCRYPTION_MIDDLEWARE + "$StaticKeyProvider"),
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+        reflection.registerType(TypeReference.of(ENCRYPTION_MIDDLEWARE + "$KeyProvider"));
+
+        hints.resources().registerPattern(OjsOutbox.SCHEMA_LOCATION);
+    }
+}
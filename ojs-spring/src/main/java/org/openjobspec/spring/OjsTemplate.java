@@ -8,6 +8,7 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Spring-style template class for OJS job operations. Provides a convenient,
@@ -30,16 +31,25 @@ import java.util.Map;
  *
  * // Enqueue to specific queue
  * ojs.enqueueToQueue("email.send", "high-priority", Map.of("to", "vip@example.com"));
+ *
+ * // Micro-batched enqueue (requires ojs.enqueue.batching.enabled=true)
+ * CompletableFuture<Job> job = ojs.enqueueBatched("email.send", Map.of("to", "user@example.com"));
  * }</pre>
  */
 public class OjsTemplate {
 
     private final OJSClient client;
     private final String defaultQueue;
+    private final OjsEnqueueBatcher batcher;
 
     public OjsTemplate(OJSClient client, String defaultQueue) {
+        this(client, defaultQueue, null);
+    }
+
+    public OjsTemplate(OJSClient client, String defaultQueue, OjsEnqueueBatcher batcher) {
         this.client = client;
         this.defaultQueue = defaultQueue;
+        this.batcher = batcher;
     }
 
     /** Get the underlying OJS client for advanced operations. */
@@ -47,6 +57,11 @@ public class OjsTemplate {
         return client;
     }
 
+    /** Get the queue used when none is specified. */
+    public String getDefaultQueue() {
+        return defaultQueue;
+    }
+
     /**
      * Enqueue a job immediately with map arguments.
      *
@@ -158,6 +173,46 @@ public class OjsTemplate {
         return client.enqueueBatch(requests);
     }
 
+    /**
+     * Enqueue a job to the default queue through the micro-batching pipeline.
+     *
+     * <p>When {@code ojs.enqueue.batching.enabled} is {@code true}, the job is buffered
+     * and sent together with other jobs in a single {@code enqueueBatch} call.
+     * Otherwise it is enqueued immediately and the returned future is already complete.
+     *
+     * @param type the job type
+     * @param args the job arguments
+     * @return a future completing with the created job once its batch is acknowledged
+     */
+    public CompletableFuture<Job> enqueueBatched(String type, Map<String, Object> args) {
+        return enqueueBatched(type, defaultQueue, args);
+    }
+
+    /**
+     * Enqueue a job to a specific queue through the micro-batching pipeline.
+     *
+     * @param type  the job type
+     * @param queue the target queue
+     * @param args  the job arguments
+     * @return a future completing with the created job once its batch is acknowledged
+     * @see #enqueueBatched(String, Map)
+     */
+    public CompletableFuture<Job> enqueueBatched(String type, String queue, Map<String, Object> args) {
+        if (batcher == null) {
+            try {
+                return CompletableFuture.completedFuture(enqueueToQueue(type, queue, args));
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+        return batcher.submit(OjsJobRequests.wire(type, queue, args));
+    }
+
+    /** Whether enqueues through {@link #enqueueBatched} are micro-batched. */
+    public boolean isBatching() {
+        return batcher != null;
+    }
+
     /**
      * Check server health.
      *
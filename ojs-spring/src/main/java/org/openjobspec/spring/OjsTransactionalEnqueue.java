@@ -1,15 +1,42 @@
 package org.openjobspec.spring;
 
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import org.openjobspec.ojs.OJSClient;
 import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Enqueues OJS jobs after the current Spring {@code @Transactional} block commits.
  *
- * <p>If no transaction is active, the job is enqueued immediately.
+ * <p>All jobs enqueued within one transaction are buffered and sent with a single
+ * {@code enqueueBatch} call after commit. If no transaction is active, the job is
+ * enqueued immediately. Either way jobs go out as {@code enqueueBatch} requests, so
+ * a job is created the same way whether it is sent alone or with others. The buffer
+ * follows its transaction: while a {@code REQUIRES_NEW} transaction suspends it, jobs
+ * go to the inner transaction's own buffer and are sent when that one commits.
+ *
+ * <p>With a flush executor, the post-commit call runs on that executor so commit
+ * latency does not include the HTTP round-trip. The transaction has committed by
+ * then, so a failed call cannot roll it back: the failure is logged with the job
+ * types, counted in {@link #getFailedCount()} and passed to the
+ * {@link FailureListener}. Without a flush executor the failure is also thrown to
+ * the committing caller.
+ *
+ * <p>In outbox mode ({@code ojs.outbox.enabled=true}) jobs are instead written to
+ * the {@link OjsOutbox} table inside the transaction and delivered by
+ * {@link OjsOutboxRelay}, so they survive a crash or an unavailable OJS server
+ * right after commit.
  *
  * <pre>{@code
  * @Service
@@ -24,12 +51,62 @@ import java.util.Map;
  * }
  * }</pre>
  */
-public class OjsTransactionalEnqueue {
+public class OjsTransactionalEnqueue implements AutoCloseable {
+
+    private static final Log log = LogFactory.getLog(OjsTransactionalEnqueue.class);
+
+    /** Callback invoked when jobs could not be enqueued after their transaction committed. */
+    @FunctionalInterface
+    public interface FailureListener {
+
+        /**
+         * @param requests the wire-format requests of the jobs that were not enqueued
+         * @param error    the failure of the {@code enqueueBatch} call
+         */
+        void onFailure(List<Map<String, Object>> requests, Exception error);
+    }
+
+    private final AtomicLong failedCount = new AtomicLong();
+    private volatile FailureListener failureListener = (requests, error) -> {};
 
     private final OJSClient client;
+    private final Executor flushExecutor;
+    private final boolean ownsExecutor;
+    private final OjsOutbox outbox;
 
     public OjsTransactionalEnqueue(OJSClient client) {
+        this(client, null, false, null);
+    }
+
+    /**
+     * Create a transactional enqueue in outbox mode.
+     *
+     * @param client the OJS client
+     * @param outbox the outbox jobs are written to
+     */
+    public OjsTransactionalEnqueue(OJSClient client, OjsOutbox outbox) {
+        this(client, null, false, Objects.requireNonNull(outbox, "outbox must not be null"));
+    }
+
+    /**
+     * @param client        the OJS client
+     * @param flushExecutor executor running the post-commit enqueue; not shut down by {@link #close()}
+     */
+    public OjsTransactionalEnqueue(OJSClient client, Executor flushExecutor) {
+        this(client, Objects.requireNonNull(flushExecutor, "flushExecutor must not be null"), false, null);
+    }
+
+    /** Create a transactional enqueue that shuts the given executor down on {@link #close()}. */
+    static OjsTransactionalEnqueue withOwnedExecutor(OJSClient client, ExecutorService flushExecutor) {
+        return new OjsTransactionalEnqueue(client, flushExecutor, true, null);
+    }
+
+    private OjsTransactionalEnqueue(OJSClient client, Executor flushExecutor, boolean ownsExecutor,
+                                    OjsOutbox outbox) {
         this.client = client;
+        this.flushExecutor = flushExecutor;
+        this.ownsExecutor = ownsExecutor;
+        this.outbox = outbox;
     }
 
     /**
@@ -40,16 +117,106 @@ public class OjsTransactionalEnqueue {
      * @param args the job arguments
      */
     public void afterCommit(String type, Map<String, Object> args) {
-        if (TransactionSynchronizationManager.isSynchronizationActive()) {
-            TransactionSynchronizationManager.registerSynchronization(
-                    new TransactionSynchronization() {
-                        @Override
-                        public void afterCommit() {
-                            client.enqueue(type, args);
-                        }
-                    });
+        if (outbox != null) {
+            outbox.add(type, null, args);
+        } else if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            transactionBuffer().add(OjsJobRequests.wire(type, null, args));
         } else {
-            client.enqueue(type, args);
+            client.enqueueBatch(List.of(OjsJobRequests.wire(type, null, args)));
+        }
+    }
+
+    /** Set the listener notified when jobs could not be enqueued after commit. */
+    public void setFailureListener(FailureListener failureListener) {
+        this.failureListener = Objects.requireNonNull(failureListener, "failureListener must not be null");
+    }
+
+    /** The number of jobs that could not be enqueued after their transaction committed. */
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    /** Whether jobs are written to the transactional outbox. */
+    public boolean isOutbox() {
+        return outbox != null;
+    }
+
+    /** Whether post-commit enqueues run on a separate executor. */
+    public boolean isAsyncFlush() {
+        return flushExecutor != null;
+    }
+
+    /** Wait for pending asynchronous flushes and shut down the executor if owned. */
+    @Override
+    public void close() {
+        if (ownsExecutor && flushExecutor instanceof ExecutorService service) {
+            service.shutdown();
+            try {
+                service.awaitTermination(30, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /** Get the buffer bound to the current transaction, registering its synchronization on first use. */
+    @SuppressWarnings("unchecked")
+    private List<Map<String, Object>> transactionBuffer() {
+        var buffer = (List<Map<String, Object>>) TransactionSynchronizationManager.getResource(this);
+        if (buffer == null) {
+            var newBuffer = new ArrayList<Map<String, Object>>();
+            TransactionSynchronizationManager.bindResource(this, newBuffer);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void suspend() {
+                    TransactionSynchronizationManager.unbindResource(OjsTransactionalEnqueue.this);
+                }
+
+                @Override
+                public void resume() {
+                    TransactionSynchronizationManager.bindResource(OjsTransactionalEnqueue.this, newBuffer);
+                }
+
+                @Override
+                public void afterCommit() {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(OjsTransactionalEnqueue.this);
+                    var batch = List.copyOf(newBuffer);
+                    if (flushExecutor != null) {
+                        flushExecutor.execute(() -> send(batch, false));
+                    } else {
+                        send(batch, true);
+                    }
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(OjsTransactionalEnqueue.this);
+                }
+            });
+            buffer = newBuffer;
+        }
+        return buffer;
+    }
+
+    /**
+     * Enqueue the jobs of a committed transaction, logging and reporting a failure
+     * and, if {@code rethrow}, throwing it on to the committing caller.
+     */
+    private void send(List<Map<String, Object>> requests, boolean rethrow) {
+        try {
+            client.enqueueBatch(requests);
+        } catch (RuntimeException e) {
+            failedCount.addAndGet(requests.size());
+            var types = new LinkedHashSet<Object>();
+            for (var request : requests) {
+                types.add(request.get("type"));
+            }
+            log.error("Failed to enqueue " + requests.size() + " OJS job(s) of type(s) " + types
+                    + " after their transaction committed", e);
+            failureListener.onFailure(requests, e);
+            if (rethrow) {
+                throw e;
+            }
         }
     }
 }
@@ -0,0 +1,132 @@
+package org.openjobspec.spring;
+
+import org.openjobspec.ojs.Job;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Project Reactor counterpart of {@link OjsTemplate} for Spring WebFlux applications.
+ *
+ * <p>Every operation is lazy: nothing is sent until the returned publisher is
+ * subscribed. Blocking SDK calls are delegated to {@link OjsAsyncTemplate}, so
+ * Netty event-loop threads are never blocked and no {@code boundedElastic}
+ * offloading is needed.
+ *
+ * <pre>{@code
+ * @Autowired ReactiveOjsTemplate ojs;
+ *
+ * Mono<Job> job = ojs.enqueue("email.send", Map.of("to", "user@example.com"));
+ *
+ * // Stream enqueue: elements are grouped into enqueueBatch calls
+ * Flux<Job> jobs = ojs.enqueueAll("order.index", orders.map(o -> Map.of("orderId", o.id())));
+ * }</pre>
+ */
+public class ReactiveOjsTemplate {
+
+    private final OjsAsyncTemplate async;
+    private final int maxBatchSize;
+    private final Duration linger;
+
+    /**
+     * @param async        the async template the blocking calls are delegated to
+     * @param maxBatchSize maximum number of jobs per {@code enqueueBatch} call in stream enqueues
+     * @param linger       maximum time a stream enqueue waits to fill a batch
+     */
+    public ReactiveOjsTemplate(OjsAsyncTemplate async, int maxBatchSize, Duration linger) {
+        this.async = Objects.requireNonNull(async, "async must not be null");
+        this.linger = Objects.requireNonNull(linger, "linger must not be null");
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be at least 1");
+        }
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /** Get the underlying async template. */
+    public OjsAsyncTemplate getAsyncTemplate() {
+        return async;
+    }
+
+    /** @see OjsTemplate#enqueue(String, Map) */
+    public Mono<Job> enqueue(String type, Map<String, Object> args) {
+        return Mono.fromFuture(() -> async.enqueue(type, args));
+    }
+
+    /** @see OjsTemplate#enqueue(String, List) */
+    public Mono<Job> enqueue(String type, List<Object> args) {
+        return Mono.fromFuture(() -> async.enqueue(type, args));
+    }
+
+    /** @see OjsTemplate#enqueueToQueue(String, String, Map) */
+    public Mono<Job> enqueueToQueue(String type, String queue, Map<String, Object> args) {
+        return Mono.fromFuture(() -> async.enqueueToQueue(type, queue, args));
+    }
+
+    /** @see OjsTemplate#enqueueAt(String, Instant, Map) */
+    public Mono<Job> enqueueAt(String type, Instant scheduledAt, Map<String, Object> args) {
+        return Mono.fromFuture(() -> async.enqueueAt(type, scheduledAt, args));
+    }
+
+    /** @see OjsTemplate#enqueueWithDelay(String, Duration, Map) */
+    public Mono<Job> enqueueWithDelay(String type, Duration delay, Map<String, Object> args) {
+        return Mono.fromFuture(() -> async.enqueueWithDelay(type, delay, args));
+    }
+
+    /** @see OjsTemplate#getJob(String) */
+    public Mono<Job> getJob(String id) {
+        return Mono.fromFuture(() -> async.getJob(id));
+    }
+
+    /** @see OjsTemplate#cancelJob(String) */
+    public Mono<Job> cancelJob(String id) {
+        return Mono.fromFuture(() -> async.cancelJob(id));
+    }
+
+    /** @see OjsTemplate#enqueueBatch(List) */
+    public Flux<Job> enqueueBatch(List<Map<String, Object>> requests) {
+        return Mono.fromFuture(() -> async.enqueueBatch(requests)).flatMapIterable(jobs -> jobs);
+    }
+
+    /**
+     * Enqueue a stream of jobs of one type to the default queue.
+     *
+     * @param type the job type
+     * @param args the arguments of each job
+     * @return the created jobs, in the order of {@code args}
+     * @see #enqueueAll(Publisher)
+     */
+    public Flux<Job> enqueueAll(String type, Publisher<Map<String, Object>> args) {
+        var queue = async.getTemplate().getDefaultQueue();
+        return enqueueAll(Flux.from(args).map(a -> OjsJobRequests.wire(type, queue, a)));
+    }
+
+    /**
+     * Enqueue a stream of wire-format job requests (as accepted by
+     * {@link OjsTemplate#enqueueBatch(List)}).
+     *
+     * <p>Requests are grouped into batches of up to {@code maxBatchSize} or
+     * whatever arrived within {@code linger}, and each batch is sent with a single
+     * {@code enqueueBatch} call. Batches are sent one at a time and upstream demand
+     * is only requested as batches are acknowledged, so a slow server applies
+     * backpressure to the source.
+     *
+     * @param requests the job requests
+     * @return the created jobs, in the order of {@code requests}
+     */
+    public Flux<Job> enqueueAll(Publisher<Map<String, Object>> requests) {
+        return Flux.from(requests)
+                .bufferTimeout(maxBatchSize, linger, true)
+                .concatMap(this::enqueueBatch);
+    }
+
+    /** @see OjsTemplate#health() */
+    public Mono<Map<String, Object>> health() {
+        return Mono.fromFuture(async::health);
+    }
+}
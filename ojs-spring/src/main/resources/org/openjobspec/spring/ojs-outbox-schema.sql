@@ -0,0 +1,13 @@
+CREATE TABLE ojs_outbox (
+    id              VARCHAR(36)   PRIMARY KEY,
+    job_type        VARCHAR(255)  NOT NULL,
+    queue           VARCHAR(255),
+    args            TEXT          NOT NULL,
+    created_at      TIMESTAMP     NOT NULL,
+    status          VARCHAR(16)   NOT NULL,
+    attempts        INT           NOT NULL,
+    next_attempt_at TIMESTAMP     NOT NULL,
+    last_error      VARCHAR(1000)
+);
+
+CREATE INDEX ojs_outbox_status_created_at_idx ON ojs_outbox (status, created_at);
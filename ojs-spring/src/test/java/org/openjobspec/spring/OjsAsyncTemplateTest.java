@@ -0,0 +1,102 @@
+package org.openjobspec.spring;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.openjobspec.ojs.Job;
+import org.openjobspec.ojs.OJSClient;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OjsAsyncTemplateTest {
+
+    @Mock
+    OJSClient client;
+
+    @Test
+    void enqueueCompletesWithCreatedJob() throws Exception {
+        var expectedJob = createTestJob("job-1");
+        when(client.enqueue("email.send", Map.of("to", "user@test.com"))).thenReturn(expectedJob);
+
+        try (var async = new OjsAsyncTemplate(new OjsTemplate(client, "default"), 4)) {
+            var result = async.enqueue("email.send", Map.of("to", "user@test.com"));
+
+            assertEquals(expectedJob, result.get(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void getJobRunsOffCallerThread() throws Exception {
+        var callerThread = Thread.currentThread();
+        when(client.getJob("job-1")).thenAnswer(inv -> {
+            assertNotSame(callerThread, Thread.currentThread());
+            return createTestJob("job-1");
+        });
+
+        try (var async = new OjsAsyncTemplate(new OjsTemplate(client, "default"), 4)) {
+            assertEquals("job-1", async.getJob("job-1").get(5, TimeUnit.SECONDS).id());
+        }
+    }
+
+    @Test
+    void failuresCompleteExceptionally() {
+        when(client.cancelJob("job-1")).thenThrow(new RuntimeException("Connection refused"));
+
+        try (var async = new OjsAsyncTemplate(new OjsTemplate(client, "default"), 4)) {
+            var result = async.cancelJob("job-1");
+
+            var ex = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertEquals("Connection refused", ex.getCause().getMessage());
+            assertEquals(0, async.inFlightCount());
+        }
+    }
+
+    @Test
+    void rejectsCallsBeyondInFlightLimit() throws Exception {
+        var release = new CountDownLatch(1);
+        when(client.getJob(anyString())).thenAnswer(inv -> {
+            release.await(5, TimeUnit.SECONDS);
+            return createTestJob(inv.getArgument(0));
+        });
+
+        try (var async = new OjsAsyncTemplate(new OjsTemplate(client, "default"), 2)) {
+            var first = async.getJob("job-1");
+            var second = async.getJob("job-2");
+            var rejected = async.getJob("job-3");
+
+            var ex = assertThrows(ExecutionException.class, () -> rejected.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(RejectedExecutionException.class, ex.getCause());
+            assertEquals(2, async.inFlightCount());
+
+            release.countDown();
+            CompletableFuture.allOf(first, second).get(5, TimeUnit.SECONDS);
+            assertEquals("job-4", async.getJob("job-4").get(5, TimeUnit.SECONDS).id());
+        }
+
+        verify(client, never()).getJob("job-3");
+    }
+
+    @Test
+    void rejectsNonPositiveInFlightLimit() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new OjsAsyncTemplate(new OjsTemplate(client, "default"), 0));
+    }
+
+    private static Job createTestJob(String id) {
+        return new Job(Job.SPEC_VERSION, id, "test.job", "default",
+                List.of(), Map.of(), 0, 0, null, null, null, null, null,
+                "available", 0, null, null, null, null, null, null, List.of());
+    }
+}
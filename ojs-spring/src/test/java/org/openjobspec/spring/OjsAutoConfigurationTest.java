@@ -1,12 +1,39 @@
 package org.openjobspec.spring;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.openjobspec.common.OjsPrefetchBuffer;
+import org.openjobspec.ojs.Job;
+import org.openjobspec.ojs.JobContext;
+import org.openjobspec.ojs.JobHandler;
+import org.openjobspec.ojs.Middleware;
 import org.openjobspec.ojs.OJSClient;
 import org.openjobspec.ojs.OJSWorker;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import javax.sql.DataSource;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 class OjsAutoConfigurationTest {
 
@@ -51,6 +78,65 @@ class OjsAutoConfigurationTest {
                 });
     }
 
+    @Test
+    void sharesTunedHttpClient() {
+        contextRunner
+                .withPropertyValues(
+                        "ojs.url=http://localhost:8080",
+                        "ojs.http.version=http-2",
+                        "ojs.http.connect-timeout=2s"
+                )
+                .run(ctx -> {
+                    var httpClient = ctx.getBean("ojsHttpClient", HttpClient.class);
+                    assertEquals(HttpClient.Version.HTTP_2, httpClient.version());
+                    assertEquals(Duration.ofSeconds(2), httpClient.connectTimeout().orElseThrow());
+                });
+    }
+
+    @Test
+    void virtualThreadExecutionInstallsPinningMonitor() {
+        contextRunner
+                .withPropertyValues(
+                        "ojs.url=http://localhost:8080",
+                        "ojs.worker.execution=virtual-threads",
+                        "ojs.worker.max-in-flight=2000"
+                )
+                .run(ctx -> {
+                    assertEquals(2000, ctx.getBean(OjsProperties.class).resolvedConcurrency());
+                    assertTrue(ctx.containsBean("ojsPinningMonitor"));
+                });
+        contextRunner
+                .withPropertyValues("ojs.url=http://localhost:8080")
+                .run(ctx -> assertFalse(ctx.containsBean("ojsPinningMonitor")));
+    }
+
+    @Test
+    void pinningMonitorFollowsRelaxedExecutionBinding() {
+        for (var execution : java.util.List.of("VIRTUAL_THREADS", "virtual_threads", "Virtual-Threads")) {
+            contextRunner
+                    .withPropertyValues("ojs.url=http://localhost:8080", "ojs.worker.execution=" + execution)
+                    .run(ctx -> {
+                        assertEquals(OjsProperties.Worker.Execution.VIRTUAL_THREADS,
+                                ctx.getBean(OjsProperties.class).getWorker().getExecution());
+                        assertTrue(ctx.containsBean("ojsPinningMonitor"), execution);
+                    });
+        }
+    }
+
+    @Test
+    void registersHealthIndicators() {
+        contextRunner
+                .withPropertyValues(
+                        "ojs.url=http://localhost:8080",
+                        "ojs.health.cache-ttl=30s"
+                )
+                .run(ctx -> {
+                    assertTrue(ctx.containsBean("ojsHealthIndicator"));
+                    assertTrue(ctx.containsBean("ojsQueuesHealthIndicator"));
+                    assertEquals(Duration.ofSeconds(30), ctx.getBean(OjsProperties.class).getHealth().getCacheTtl());
+                });
+    }
+
     @Test
     void registersJobRegistrar() {
         contextRunner
@@ -68,6 +154,187 @@ class OjsAutoConfigurationTest {
                 });
     }
 
+    @Test
+    void registersOjsAsyncTemplate() {
+        contextRunner
+                .withPropertyValues(
+                        "ojs.url=http://localhost:8080",
+                        "ojs.async.max-in-flight=32"
+                )
+                .run(ctx -> {
+                    var async = ctx.getBean(OjsAsyncTemplate.class);
+                    assertEquals(32, async.getMaxInFlight());
+                    assertSame(ctx.getBean(OjsTemplate.class), async.getTemplate());
+                });
+    }
+
+    @Test
+    void registersReactiveTemplateWhenReactorPresent() {
+        contextRunner
+                .withPropertyValues("ojs.url=http://localhost:8080")
+                .run(ctx -> assertNotNull(ctx.getBean(ReactiveOjsTemplate.class)));
+    }
+
+    @Test
+    void configuresQueueConcurrencyLimits() {
+        contextRunner
+                .withPropertyValues(
+                        "ojs.url=http://localhost:8080",
+                        "ojs.worker.queue-concurrency.reports=2"
+                )
+                .run(ctx -> {
+                    var limiter = ctx.getBean(OjsConcurrencyLimiter.class);
+                    assertEquals(2, limiter.availableQueueSlots("reports"));
+                    assertEquals(-1, limiter.availableQueueSlots("default"));
+                });
+    }
+
+    @Test
+    void installsConcurrencyLimiterOnlyWhenLimitsAreConfigured() {
+        var unlimited = mock(OJSWorker.class);
+        contextRunner
+                .withBean(OJSWorker.class, () -> unlimited)
+                .withPropertyValues("ojs.url=http://localhost:8080")
+                .run(ctx -> verify(unlimited, never()).use(eq("ojs-concurrency"), any()));
+
+        var limited = mock(OJSWorker.class);
+        contextRunner
+                .withBean(OJSWorker.class, () -> limited)
+                .withPropertyValues(
+                        "ojs.url=http://localhost:8080",
+                        "ojs.worker.queue-concurrency.reports=2"
+                )
+                .run(ctx -> verify(limited).use("ojs-concurrency", ctx.getBean(OjsConcurrencyLimiter.class)));
+    }
+
+    @Test
+    void installsPrefetchBufferBetweenLimiterAndMetrics() {
+        var worker = mock(OJSWorker.class);
+        contextRunner
+                .withBean(OJSWorker.class, () -> worker)
+                .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+                .withPropertyValues(
+                        "ojs.url=http://localhost:8080",
+                        "ojs.worker.queue-concurrency.reports=1",
+                        "ojs.worker.prefetch=3"
+                )
+                .run(ctx -> {
+                    var order = inOrder(worker);
+                    order.verify(worker).use("ojs-concurrency", ctx.getBean(OjsConcurrencyLimiter.class));
+                    order.verify(worker).use(eq("ojs-prefetch"), any(OjsPrefetchBuffer.class));
+                    order.verify(worker).use("ojs-metrics", ctx.getBean(OjsMicrometerMetrics.class));
+                });
+
+        var unbuffered = mock(OJSWorker.class);
+        contextRunner
+                .withBean(OJSWorker.class, () -> unbuffered)
+                .withPropertyValues("ojs.url=http://localhost:8080")
+                .run(ctx -> verify(unbuffered, never()).use(eq("ojs-prefetch"), any()));
+    }
+
+    @Test
+    void installsLimiterOutsideMetricsWhateverTheBeanOrder() {
+        var worker = mock(OJSWorker.class);
+        var registry = new SimpleMeterRegistry();
+        contextRunner
+                .withBean(OJSWorker.class, () -> worker)
+                .withBean(MeterRegistry.class, () -> registry)
+                .withPropertyValues(
+                        "ojs.url=http://localhost:8080",
+                        "ojs.worker.queue-concurrency.reports=1"
+                )
+                .run(ctx -> {
+                    // Create the metrics before the limiter, the reverse of the install order
+                    var metrics = ctx.getBean(OjsMicrometerMetrics.class);
+                    var limiter = ctx.getBean(OjsConcurrencyLimiter.class);
+                    var order = inOrder(worker);
+                    order.verify(worker).use("ojs-concurrency", limiter);
+                    order.verify(worker).use("ojs-metrics", metrics);
+
+                    var job = new Job(Job.SPEC_VERSION, "job-1", "report.generate", "reports",
+                            List.of(), Map.of(), 0, 0, null, null, null, null, null,
+                            "active", 1, null, null, null, null, null, null, List.of());
+                    var jobCtx = mock(JobContext.class);
+                    when(jobCtx.job()).thenReturn(job);
+                    var entered = new CountDownLatch(1);
+                    var released = new CountDownLatch(1);
+                    var holder = Thread.ofVirtual().start(() -> {
+                        try {
+                            limiter.apply(jobCtx, innerCtx -> {
+                                entered.countDown();
+                                released.await();
+                                return null;
+                            });
+                        } catch (Exception e) {
+                            throw new RuntimeException(e);
+                        }
+                    });
+                    assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+                    // A job refused by the limiter never reaches the metrics
+                    var chain = installedChain(worker, innerCtx -> null);
+                    assertThrows(IllegalStateException.class, () -> chain.handle(jobCtx));
+                    released.countDown();
+                    holder.join();
+                    assertNull(registry.find("ojs.jobs.failed").counter());
+                });
+    }
+
+    /** The handler {@code worker} would run, with its middleware applied in installation order. */
+    private static JobHandler installedChain(OJSWorker worker, JobHandler handler) {
+        var middleware = ArgumentCaptor.forClass(Middleware.class);
+        verify(worker, atLeastOnce()).use(anyString(), middleware.capture());
+        JobHandler chain = handler;
+        var installed = middleware.getAllValues();
+        for (int i = installed.size() - 1; i >= 0; i--) {
+            var mw = installed.get(i);
+            var next = chain;
+            chain = ctx -> {
+                mw.apply(ctx, next);
+                return null;
+            };
+        }
+        return chain;
+    }
+
+    @Test
+    void configuresOutboxWhenEnabled() {
+        contextRunner
+                .withBean(DataSource.class, () -> new EmbeddedDatabaseBuilder()
+                        .setType(EmbeddedDatabaseType.H2)
+                        .generateUniqueName(true)
+                        .addScript(OjsOutbox.SCHEMA_LOCATION)
+                        .build())
+                .withPropertyValues(
+                        "ojs.url=http://localhost:8080",
+                        "ojs.outbox.enabled=true"
+                )
+                .run(ctx -> {
+                    assertTrue(ctx.containsBean("ojsOutboxRelay"));
+                    assertTrue(ctx.getBean(OjsTransactionalEnqueue.class).isOutbox());
+                });
+    }
+
+    @Test
+    void initializesOutboxSchemaWhenAsked() {
+        contextRunner
+                .withBean(DataSource.class, () -> new EmbeddedDatabaseBuilder()
+                        .setType(EmbeddedDatabaseType.H2)
+                        .generateUniqueName(true)
+                        .build())
+                .withPropertyValues(
+                        "ojs.url=http://localhost:8080",
+                        "ojs.outbox.enabled=true",
+                        "ojs.outbox.initialize-schema=true"
+                )
+                .run(ctx -> {
+                    var outbox = ctx.getBean(OjsOutbox.class);
+                    outbox.add("email.send", null, java.util.Map.of());
+                    assertEquals(1, outbox.getJdbcTemplate()
+                            .queryForObject("SELECT COUNT(*) FROM ojs_outbox", Integer.class));
+                });
+    }
+
     @Test
     void templateUsesDefaultQueue() {
         contextRunner
@@ -0,0 +1,226 @@
+package org.openjobspec.spring;
+
+import org.junit.jupiter.api.Test;
+import org.openjobspec.ojs.Job;
+import org.openjobspec.ojs.JobContext;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class OjsConcurrencyLimiterTest {
+
+    @Test
+    void enforcesQueueLimit() throws Exception {
+        var limiter = new OjsConcurrencyLimiter(Map.of("reports", 2));
+
+        assertEquals(2, maxConcurrent(limiter, createJobContext("report.generate", "reports", 0), 8));
+        assertEquals(2, limiter.availableQueueSlots("reports"));
+    }
+
+    @Test
+    void enforcesTypeLimit() throws Exception {
+        var limiter = new OjsConcurrencyLimiter(Map.of());
+        limiter.limitType("report.generate", 1);
+
+        assertEquals(1, maxConcurrent(limiter, createJobContext("report.generate", "default", 0), 4));
+    }
+
+    @Test
+    void waitsForPermitAndHeartbeatsMeanwhile() throws Exception {
+        var limiter = new OjsConcurrencyLimiter(Map.of("reports", 1), Duration.ofSeconds(5), Duration.ofMillis(20));
+        var released = new CountDownLatch(1);
+        var holder = hold(limiter, createJobContext("report.generate", "reports", 0), released);
+        var waiting = createJobContext("report.generate", "reports", 0);
+        var called = new AtomicInteger();
+        var waiter = Thread.ofVirtual().start(() -> {
+            try {
+                limiter.apply(waiting, innerCtx -> called.incrementAndGet());
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+
+        verify(waiting, timeout(5000).atLeast(2)).heartbeat();
+        assertEquals(0, called.get());
+        released.countDown();
+        holder.join();
+        waiter.join();
+
+        assertEquals(1, called.get());
+        assertEquals(1, limiter.availableQueueSlots("reports"));
+    }
+
+    @Test
+    void refusesJobStillWithoutPermitAfterMaxWait() throws Exception {
+        var limiter = new OjsConcurrencyLimiter(Map.of("reports", 1), Duration.ofMillis(50));
+        var released = new CountDownLatch(1);
+        var holder = hold(limiter, createJobContext("report.generate", "reports", 0), released);
+        var called = new AtomicInteger();
+
+        var refused = assertThrows(IllegalStateException.class, () -> limiter.apply(
+                createJobContext("report.generate", "reports", 0), innerCtx -> called.incrementAndGet()));
+
+        assertTrue(refused.getMessage().contains("queue reports"));
+        assertEquals(0, called.get());
+        released.countDown();
+        holder.join();
+        assertEquals(1, limiter.availableQueueSlots("reports"));
+    }
+
+    @Test
+    void waitsUpToTheJobTimeoutWhenItHasOne() throws Exception {
+        var limiter = new OjsConcurrencyLimiter(Map.of("reports", 1), Duration.ofMillis(10));
+        var released = new CountDownLatch(1);
+        var holder = hold(limiter, createJobContext("report.generate", "reports", 0), released);
+        Thread.ofVirtual().start(() -> {
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            released.countDown();
+        });
+        var called = new AtomicInteger();
+
+        limiter.apply(createJobContext("report.generate", "reports", 5), innerCtx -> called.incrementAndGet());
+
+        holder.join();
+        assertEquals(1, called.get());
+    }
+
+    @Test
+    void releasesTypePermitWhenQueueRefuses() throws Exception {
+        var limiter = new OjsConcurrencyLimiter(Map.of("reports", 1), Duration.ofMillis(50));
+        limiter.limitType("report.generate", 1);
+        var released = new CountDownLatch(1);
+        var holder = hold(limiter, createJobContext("report.other", "reports", 0), released);
+        var ctx = createJobContext("report.generate", "reports", 0);
+
+        assertThrows(IllegalStateException.class, () -> limiter.apply(ctx, innerCtx -> null));
+        released.countDown();
+        holder.join();
+
+        var called = new AtomicInteger();
+        limiter.apply(ctx, innerCtx -> called.incrementAndGet());
+        assertEquals(1, called.get());
+    }
+
+    @Test
+    void keepsTheFirstLimitOfATypeOrQueue() {
+        var limiter = new OjsConcurrencyLimiter(Map.of("reports", 2));
+        limiter.limitType("report.generate", 1);
+
+        limiter.limitType("report.generate", 1);
+        limiter.limitQueue("reports", 2);
+        assertThrows(IllegalStateException.class, () -> limiter.limitType("report.generate", 3));
+        assertThrows(IllegalStateException.class, () -> limiter.limitQueue("reports", 1));
+        assertEquals(2, limiter.availableQueueSlots("reports"));
+    }
+
+    @Test
+    void reportsWhetherAnyLimitIsConfigured() {
+        var limiter = new OjsConcurrencyLimiter(Map.of());
+        assertFalse(limiter.hasLimits());
+
+        limiter.limitType("report.generate", 1);
+        assertTrue(limiter.hasLimits());
+        assertTrue(new OjsConcurrencyLimiter(Map.of("reports", 1)).hasLimits());
+    }
+
+    @Test
+    void passesThroughUnlimitedJobs() throws Exception {
+        var limiter = new OjsConcurrencyLimiter(Map.of("reports", 1));
+        var ctx = createJobContext("email.send", "emails");
+        var called = new AtomicInteger();
+
+        limiter.apply(ctx, innerCtx -> called.incrementAndGet());
+
+        assertEquals(1, called.get());
+        assertEquals(-1, limiter.availableQueueSlots("emails"));
+    }
+
+    @Test
+    void releasesPermitsWhenHandlerFails() {
+        var limiter = new OjsConcurrencyLimiter(Map.of("reports", 1));
+        limiter.limitType("report.generate", 1);
+        var ctx = createJobContext("report.generate", "reports");
+
+        assertThrows(IllegalStateException.class, () -> limiter.apply(ctx, innerCtx -> {
+            throw new IllegalStateException("boom");
+        }));
+
+        assertEquals(1, limiter.availableQueueSlots("reports"));
+    }
+
+    @Test
+    void rejectsNonPositiveLimit() {
+        assertThrows(IllegalArgumentException.class, () -> new OjsConcurrencyLimiter(Map.of("reports", 0)));
+    }
+
+    /** Start a job that holds its permits until {@code released} opens. */
+    private static Thread hold(OjsConcurrencyLimiter limiter, JobContext ctx, CountDownLatch released)
+            throws InterruptedException {
+        var entered = new CountDownLatch(1);
+        var holder = Thread.ofVirtual().start(() -> {
+            try {
+                limiter.apply(ctx, innerCtx -> {
+                    entered.countDown();
+                    released.await();
+                    return null;
+                });
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+        return holder;
+    }
+
+    /** Run {@code jobs} jobs at once and return the most that ran concurrently. */
+    private static int maxConcurrent(OjsConcurrencyLimiter limiter, JobContext ctx, int jobs) throws Exception {
+        var running = new AtomicInteger();
+        var max = new AtomicInteger();
+        var completed = new AtomicInteger();
+        var threads = new ArrayList<Thread>();
+        for (int i = 0; i < jobs; i++) {
+            threads.add(Thread.ofVirtual().start(() -> {
+                try {
+                    limiter.apply(ctx, innerCtx -> {
+                        max.accumulateAndGet(running.incrementAndGet(), Math::max);
+                        Thread.sleep(20);
+                        running.decrementAndGet();
+                        return completed.incrementAndGet();
+                    });
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            }));
+        }
+        for (var thread : threads) {
+            thread.join();
+        }
+        assertEquals(jobs, completed.get());
+        return max.get();
+    }
+
+    private static JobContext createJobContext(String jobType, String queue) {
+        return createJobContext(jobType, queue, 0);
+    }
+
+    private static JobContext createJobContext(String jobType, String queue, int timeoutSeconds) {
+        var job = new Job(Job.SPEC_VERSION, "test-id", jobType, queue,
+                List.of(), Map.of(), 0, timeoutSeconds, null, null, null, null, null,
+                "active", 1, null, null, null, null, null, null, List.of());
+        var ctx = mock(JobContext.class);
+        when(ctx.job()).thenReturn(job);
+        return ctx;
+    }
+}
@@ -0,0 +1,149 @@
+package org.openjobspec.spring;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.openjobspec.ojs.Job;
+import org.openjobspec.ojs.OJSClient;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OjsEnqueueBatcherTest {
+
+    @Mock
+    OJSClient client;
+
+    @Test
+    void flushesWhenMaxBatchSizeReached() throws Exception {
+        when(client.enqueueBatch(anyList()))
+                .thenReturn(List.of(createTestJob("job-1"), createTestJob("job-2")));
+
+        try (var batcher = new OjsEnqueueBatcher(client, 2, Duration.ofMinutes(1))) {
+            var first = batcher.submit(OjsJobRequests.wire("email.send", "default", Map.of("n", 1)));
+            var second = batcher.submit(OjsJobRequests.wire("email.send", "default", Map.of("n", 2)));
+
+            assertEquals("job-1", first.get(5, TimeUnit.SECONDS).id());
+            assertEquals("job-2", second.get(5, TimeUnit.SECONDS).id());
+            verify(client, times(1)).enqueueBatch(anyList());
+        }
+    }
+
+    @Test
+    void flushesAfterLinger() throws Exception {
+        when(client.enqueueBatch(anyList())).thenReturn(List.of(createTestJob("job-1")));
+
+        try (var batcher = new OjsEnqueueBatcher(client, 100, Duration.ofMillis(20))) {
+            var future = batcher.submit(OjsJobRequests.wire("email.send", null, Map.of()));
+
+            assertEquals("job-1", future.get(5, TimeUnit.SECONDS).id());
+            assertEquals(0, batcher.pendingCount());
+        }
+    }
+
+    @Test
+    void failsEveryFutureInBatchOnError() {
+        when(client.enqueueBatch(anyList())).thenThrow(new RuntimeException("Connection refused"));
+
+        try (var batcher = new OjsEnqueueBatcher(client, 2, Duration.ofMinutes(1))) {
+            var first = batcher.submit(OjsJobRequests.wire("a", null, Map.of()));
+            var second = batcher.submit(OjsJobRequests.wire("b", null, Map.of()));
+
+            assertThrows(ExecutionException.class, () -> first.get(5, TimeUnit.SECONDS));
+            assertThrows(ExecutionException.class, () -> second.get(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void notifiesFlushListener() throws Exception {
+        when(client.enqueueBatch(anyList()))
+                .thenReturn(List.of(createTestJob("job-1"), createTestJob("job-2")));
+        var sizes = new CopyOnWriteArrayList<Integer>();
+
+        try (var batcher = new OjsEnqueueBatcher(client, 2, Duration.ofMinutes(1))) {
+            batcher.setFlushListener((batchSize, duration, success) -> {
+                assertTrue(success);
+                sizes.add(batchSize);
+            });
+            batcher.submit(OjsJobRequests.wire("a", null, Map.of()));
+            batcher.submit(OjsJobRequests.wire("b", null, Map.of())).get(5, TimeUnit.SECONDS);
+        }
+
+        assertEquals(List.of(2), sizes);
+    }
+
+    @Test
+    void closeFlushesPendingJobs() throws Exception {
+        when(client.enqueueBatch(anyList())).thenReturn(List.of(createTestJob("job-1")));
+
+        var batcher = new OjsEnqueueBatcher(client, 100, Duration.ofMinutes(1));
+        var future = batcher.submit(OjsJobRequests.wire("a", null, Map.of()));
+        batcher.close();
+
+        assertTrue(future.isDone());
+        assertEquals("job-1", future.get().id());
+    }
+
+    @Test
+    void rejectsSubmitAfterClose() {
+        var batcher = new OjsEnqueueBatcher(client, 10, Duration.ofMillis(10));
+        batcher.close();
+
+        var future = batcher.submit(OjsJobRequests.wire("a", null, Map.of()));
+
+        assertTrue(future.isCompletedExceptionally());
+        verifyNoInteractions(client);
+    }
+
+    @Test
+    void rejectsNonPositiveBatchSize() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new OjsEnqueueBatcher(client, 0, Duration.ofMillis(10)));
+    }
+
+    @Test
+    void rejectsSubmitWhileMaxPendingJobsAreUnacknowledged() throws Exception {
+        var acknowledge = new CountDownLatch(1);
+        when(client.enqueueBatch(anyList())).thenAnswer(invocation -> {
+            acknowledge.await();
+            return List.of(createTestJob("job-1"));
+        });
+
+        try (var batcher = new OjsEnqueueBatcher(client, 1, Duration.ofMinutes(1), 1)) {
+            var first = batcher.submit(OjsJobRequests.wire("a", null, Map.of()));
+            var rejected = batcher.submit(OjsJobRequests.wire("b", null, Map.of()));
+
+            var error = assertThrows(ExecutionException.class, rejected::get);
+            assertInstanceOf(RejectedExecutionException.class, error.getCause());
+
+            acknowledge.countDown();
+            assertEquals("job-1", first.get(5, TimeUnit.SECONDS).id());
+            assertEquals("job-1", batcher.submit(OjsJobRequests.wire("c", null, Map.of()))
+                    .get(5, TimeUnit.SECONDS).id());
+        }
+    }
+
+    @Test
+    void rejectsMaxPendingBelowBatchSize() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new OjsEnqueueBatcher(client, 10, Duration.ofMillis(10), 5));
+    }
+
+    private static Job createTestJob(String id) {
+        return new Job(Job.SPEC_VERSION, id, "test.job", "default",
+                List.of(), Map.of(), 0, 0, null, null, null, null, null,
+                "available", 0, null, null, null, null, null, null, List.of());
+    }
+}
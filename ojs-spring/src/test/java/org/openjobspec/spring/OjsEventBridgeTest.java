@@ -2,11 +2,31 @@ package org.openjobspec.spring;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.openjobspec.common.OjsEventDispatcher;
+import org.openjobspec.common.OjsEventFilter;
+import org.openjobspec.ojs.Job;
+import org.openjobspec.ojs.OJSClient;
+import org.openjobspec.ojs.SSESubscription;
 import org.springframework.context.ApplicationEventPublisher;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class OjsEventBridgeTest {
@@ -40,4 +60,277 @@ class OjsEventBridgeTest {
         var bridge = new OjsEventBridge("http://localhost:8080", publisher);
         assertEquals(0, bridge.activeSubscriptionCount());
     }
+
+    @Test
+    void publishesEventWithRawPayload() {
+        var bridge = new OjsEventBridge("http://localhost:8080", publisher);
+
+        bridge.publishEvent("job.completed", "{\"type\":\"job.completed\"}", "job-1");
+        bridge.close();
+
+        var captor = ArgumentCaptor.forClass(OjsJobEvent.class);
+        verify(publisher).publishEvent(captor.capture());
+        var event = captor.getValue();
+        assertEquals("job.completed", event.getEventType());
+        assertEquals("job-1", event.getJobId());
+        assertEquals("{\"type\":\"job.completed\"}", event.getRawData());
+        assertEquals("job.completed", event.getData().get("type"));
+    }
+
+    @Test
+    void publishesUndecodedEventsWhenDecodingDisabled() {
+        var bridge = new OjsEventBridge("http://localhost:8080", publisher,
+                OjsEventBridge.Options.DEFAULT.withDecodePayload(false));
+
+        bridge.publishEvent("job.completed", "{}", null);
+        bridge.close();
+
+        var captor = ArgumentCaptor.forClass(OjsJobEvent.class);
+        verify(publisher).publishEvent(captor.capture());
+        assertEquals(Map.of("raw", "{}"), captor.getValue().getData());
+    }
+
+    @Test
+    void watchedJobsShareOneStream() {
+        var opened = new AtomicInteger();
+        var bridge = multiplexed(opened, new AtomicReference<>());
+
+        bridge.watchJob("job-1", event -> {});
+        bridge.watchJob("job-2", event -> {});
+
+        assertEquals(1, opened.get());
+        assertEquals(2, bridge.watchedJobCount());
+        assertEquals(0, bridge.activeSubscriptionCount());
+    }
+
+    @Test
+    void routesEventsToWatchOfTheirJob() {
+        var sink = new AtomicReference<BiConsumer<String, String>>();
+        var bridge = multiplexed(new AtomicInteger(), sink);
+        var first = new ArrayList<OjsJobEvent>();
+        var second = new ArrayList<OjsJobEvent>();
+        bridge.watchJob("job-1", first::add);
+        bridge.watchJob("job-2", second::add);
+
+        sink.get().accept("job.started", eventJson("job.started", "job-1"));
+        bridge.close();
+
+        assertEquals(1, first.size());
+        assertEquals("job-1", first.get(0).getJobId());
+        assertEquals("job.started", first.get(0).getData().get("type"));
+        assertTrue(second.isEmpty());
+    }
+
+    @Test
+    void unwatchesJobOnTerminalEvent() {
+        var sink = new AtomicReference<BiConsumer<String, String>>();
+        var bridge = multiplexed(new AtomicInteger(), sink);
+        var received = new ArrayList<OjsJobEvent>();
+        var watch = bridge.watchJob("job-1", received::add);
+
+        sink.get().accept("job.completed", eventJson("job.completed", "job-1"));
+        sink.get().accept("job.completed", eventJson("job.completed", "job-1"));
+
+        assertFalse(watch.isActive());
+        assertEquals(0, bridge.watchedJobCount());
+        bridge.close();
+        assertEquals(1, received.size());
+    }
+
+    @Test
+    void cancelledWatchStopsReceiving() {
+        var sink = new AtomicReference<BiConsumer<String, String>>();
+        var bridge = multiplexed(new AtomicInteger(), sink);
+        var received = new ArrayList<OjsJobEvent>();
+        var watch = bridge.watchJob("job-1", received::add);
+        var other = bridge.watchJob("job-1", event -> {});
+
+        watch.cancel();
+        sink.get().accept("job.started", eventJson("job.started", "job-1"));
+
+        assertTrue(other.isActive());
+        assertEquals(1, bridge.watchedJobCount());
+        bridge.close();
+        assertTrue(received.isEmpty());
+    }
+
+    @Test
+    void completesWatchOfJobThatAlreadyFinished() {
+        var client = mock(OJSClient.class);
+        when(client.getJob("job-1")).thenReturn(jobInState("job-1", "completed"));
+        when(client.getJob("job-2")).thenReturn(jobInState("job-2", "active"));
+        var bridge = multiplexed(OjsEventBridge.Options.DEFAULT.withClient(client),
+                new AtomicInteger(), new AtomicReference<>());
+        var received = new ArrayList<OjsJobEvent>();
+
+        var finished = bridge.watchJob("job-1", received::add);
+        var running = bridge.watchJob("job-2", event -> {});
+
+        assertFalse(finished.isActive());
+        assertTrue(running.isActive());
+        bridge.close();
+        assertEquals(1, received.size());
+        assertEquals("job.completed", received.get(0).getEventType());
+        assertEquals("job-1", received.get(0).getJobId());
+        assertEquals(Map.of("state", "completed"), received.get(0).getData().get("data"));
+    }
+
+    @Test
+    void expiresWatchWithoutEvents() throws Exception {
+        var bridge = multiplexed(OjsEventBridge.Options.DEFAULT.withWatchTimeout(Duration.ofMillis(50)),
+                new AtomicInteger(), new AtomicReference<>());
+
+        var watch = bridge.watchJob("job-1", event -> {});
+
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (watch.isActive() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertFalse(watch.isActive());
+        assertEquals(0, bridge.watchedJobCount());
+        bridge.close();
+    }
+
+    @Test
+    void rejectsNegativeWatchTimeout() {
+        assertThrows(IllegalArgumentException.class,
+                () -> OjsEventBridge.Options.DEFAULT.withWatchTimeout(Duration.ofSeconds(-1)));
+    }
+
+    @Test
+    void watchJobPublishesSpringEvents() {
+        var sink = new AtomicReference<BiConsumer<String, String>>();
+        var bridge = multiplexed(new AtomicInteger(), sink);
+        bridge.watchJob("job-1");
+
+        sink.get().accept("job.started", eventJson("job.started", "job-1"));
+        bridge.close();
+
+        verify(publisher).publishEvent(org.mockito.ArgumentMatchers.any(OjsJobEvent.class));
+    }
+
+    @Test
+    void cancelAllClearsWatches() {
+        var bridge = multiplexed(new AtomicInteger(), new AtomicReference<>());
+        bridge.watchJob("job-1", event -> {});
+
+        bridge.cancelAll();
+
+        assertEquals(0, bridge.watchedJobCount());
+    }
+
+    @Test
+    void dispatchesOffTheReaderThread() {
+        var reader = Thread.currentThread();
+        var listenerThread = new AtomicReference<Thread>();
+        var bridge = new OjsEventBridge("http://localhost:8080", event -> listenerThread.set(Thread.currentThread()));
+
+        bridge.publishEvent("job.completed", "{}", "job-1");
+        bridge.close();
+
+        assertNotNull(listenerThread.get());
+        assertNotSame(reader, listenerThread.get());
+    }
+
+    @Test
+    void optionsRejectMissingSettings() {
+        assertThrows(NullPointerException.class,
+                () -> OjsEventBridge.Options.DEFAULT.withMultiplexChannel(null));
+        assertThrows(NullPointerException.class,
+                () -> OjsEventBridge.Options.DEFAULT.withFilter(null));
+        assertThrows(NullPointerException.class,
+                () -> new OjsEventBridge("http://localhost:8080", publisher, null));
+    }
+
+    @Test
+    void usesConfiguredOverflowPolicy() {
+        var bridge = new OjsEventBridge("http://localhost:8080", publisher, OjsEventBridge.Options.DEFAULT
+                .withQueueCapacity(8)
+                .withOverflowPolicy(OjsEventDispatcher.OverflowPolicy.DROP_NEWEST));
+
+        assertEquals(8, bridge.getDispatcher().getCapacity());
+        assertEquals(OjsEventDispatcher.OverflowPolicy.DROP_NEWEST, bridge.getDispatcher().getOverflowPolicy());
+    }
+
+    @Test
+    void coalescesEventsPerJobAndListener() throws Exception {
+        var sink = new AtomicReference<BiConsumer<String, String>>();
+        var options = OjsEventBridge.Options.DEFAULT
+                .withQueueCapacity(2)
+                .withOverflowPolicy(OjsEventDispatcher.OverflowPolicy.COALESCE);
+        var bridge = new OjsEventBridge("http://localhost:8080", publisher, options, stream -> {
+            sink.set(stream);
+            return mock(SSESubscription.class);
+        });
+        var entered = new CountDownLatch(1);
+        var released = new CountDownLatch(1);
+        var watched = new CopyOnWriteArrayList<String>();
+        bridge.watchJob("job-1", event -> {
+            entered.countDown();
+            awaitQuietly(released);
+            watched.add(event.getEventType());
+        });
+
+        sink.get().accept("job.started", eventJson("job.started", "job-1"));
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+        bridge.publishEvent("job.progress", eventJson("job.progress", "job-1"), "job-1");
+        sink.get().accept("job.progress", eventJson("job.progress", "job-1"));
+        bridge.publishEvent("job.retrying", eventJson("job.retrying", "job-1"), "job-1");
+        sink.get().accept("job.failed", eventJson("job.failed", "job-1"));
+        released.countDown();
+        bridge.close();
+
+        assertEquals(List.of("job.started", "job.failed"), watched);
+        var captor = ArgumentCaptor.forClass(OjsJobEvent.class);
+        verify(publisher).publishEvent(captor.capture());
+        assertEquals("job.retrying", captor.getValue().getEventType());
+    }
+
+    @Test
+    void filtersPublishedEvents() {
+        var filter = new OjsEventFilter(List.of("job.failed"), List.of("payments"), List.of());
+        var bridge = new OjsEventBridge("http://localhost:8080", publisher,
+                OjsEventBridge.Options.DEFAULT.withFilter(filter), sink -> mock(SSESubscription.class));
+
+        bridge.publishEvent("job.completed", "not json", "job-1");
+        bridge.publishEvent("job.failed", "{\"data\":{\"queue\":\"default\"}}", "job-2");
+        bridge.publishEvent("job.failed", "{\"data\":{\"queue\":\"payments\"}}", "job-3");
+        bridge.close();
+
+        var captor = ArgumentCaptor.forClass(OjsJobEvent.class);
+        verify(publisher).publishEvent(captor.capture());
+        assertEquals("job-3", captor.getValue().getJobId());
+        assertEquals(Map.of("queue", "payments"), captor.getValue().getData().get("data"));
+    }
+
+    private OjsEventBridge multiplexed(AtomicInteger opened, AtomicReference<BiConsumer<String, String>> sink) {
+        return multiplexed(OjsEventBridge.Options.DEFAULT, opened, sink);
+    }
+
+    private OjsEventBridge multiplexed(OjsEventBridge.Options options, AtomicInteger opened,
+                                       AtomicReference<BiConsumer<String, String>> sink) {
+        return new OjsEventBridge("http://localhost:8080", publisher, options, stream -> {
+            opened.incrementAndGet();
+            sink.set(stream);
+            return mock(SSESubscription.class);
+        });
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Job jobInState(String id, String state) {
+        return new Job(Job.SPEC_VERSION, id, "test.job", "default",
+                List.of(), Map.of(), 0, 0, null, null, null, null, null,
+                state, 0, null, null, null, null, null, null, List.of());
+    }
+
+    private static String eventJson(String type, String jobId) {
+        return "{\"type\":\"%s\",\"subject\":\"%s\"}".formatted(type, jobId);
+    }
 }
@@ -0,0 +1,94 @@
+package org.openjobspec.spring;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.openjobspec.ojs.JobContext;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class OjsHandlerInvokerTest {
+
+    @Mock
+    JobContext ctx;
+
+    @Test
+    void invokesBoundInstanceMethod() throws Exception {
+        var bean = new Handlers();
+        var invoker = OjsHandlerInvoker.bind(bean, method("handle"));
+
+        assertEquals(Map.of("handled", true), invoker.handle(ctx));
+        assertSame(ctx, bean.lastContext);
+    }
+
+    @Test
+    void invokesPrivateAndVoidMethods() throws Exception {
+        var bean = new Handlers();
+
+        assertEquals("private", OjsHandlerInvoker.bind(bean, method("privateHandle")).handle(ctx));
+        assertNull(OjsHandlerInvoker.bind(bean, method("voidHandle")).handle(ctx));
+        assertSame(ctx, bean.lastContext);
+    }
+
+    @Test
+    void invokesStaticMethod() throws Exception {
+        assertEquals("static", OjsHandlerInvoker.bind(null, method("staticHandle")).handle(ctx));
+    }
+
+    @Test
+    void propagatesHandlerExceptionsUnwrapped() {
+        var invoker = OjsHandlerInvoker.bind(new Handlers(), method("failingHandle"));
+
+        var ex = assertThrows(IllegalArgumentException.class, () -> invoker.handle(ctx));
+        assertEquals("bad args", ex.getMessage());
+    }
+
+    @Test
+    void rejectsUnsupportedSignature() {
+        assertThrows(IllegalStateException.class,
+                () -> OjsHandlerInvoker.bind(new Handlers(), method("noArgs")));
+    }
+
+    private static Method method(String name) {
+        for (Method m : Handlers.class.getDeclaredMethods()) {
+            if (m.getName().equals(name)) {
+                return m;
+            }
+        }
+        throw new AssertionError("No method " + name);
+    }
+
+    static class Handlers {
+        JobContext lastContext;
+
+        public Object handle(JobContext ctx) {
+            lastContext = ctx;
+            return Map.of("handled", true);
+        }
+
+        private String privateHandle(JobContext ctx) {
+            return "private";
+        }
+
+        void voidHandle(JobContext ctx) {
+            lastContext = ctx;
+        }
+
+        static String staticHandle(JobContext ctx) {
+            return "static";
+        }
+
+        public Object failingHandle(JobContext ctx) {
+            throw new IllegalArgumentException("bad args");
+        }
+
+        public Object noArgs() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package org.openjobspec.spring;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OjsHealthCacheTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @Test
+    void firstCallWaitsForResult() {
+        var cache = cache(calls::incrementAndGet, Duration.ofSeconds(10));
+
+        assertEquals(1, cache.get().value());
+        assertNull(cache.get().error());
+    }
+
+    @Test
+    void returnsCachedResultWithinTtl() {
+        var cache = cache(calls::incrementAndGet, Duration.ofSeconds(10));
+
+        cache.get();
+        clock.addAndGet(Duration.ofSeconds(9).toNanos());
+
+        assertEquals(1, cache.get().value());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void returnsStaleResultWhileRefreshing() throws Exception {
+        var release = new CountDownLatch(1);
+        var cache = cache(() -> {
+            if (calls.incrementAndGet() > 1) {
+                await(release);
+            }
+            return calls.get();
+        }, Duration.ofSeconds(10));
+
+        cache.get();
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        assertEquals(1, cache.get().value());
+        release.countDown();
+        assertEquals(2, cache.refresh().get(5, TimeUnit.SECONDS).value());
+        assertEquals(2, cache.get().value());
+    }
+
+    @Test
+    void concurrentRefreshesShareOneCall() {
+        var release = new CountDownLatch(1);
+        var cache = cache(() -> {
+            await(release);
+            return calls.incrementAndGet();
+        }, Duration.ofSeconds(10));
+
+        var first = cache.refresh();
+        var second = cache.refresh();
+        release.countDown();
+
+        assertSame(first, second);
+        assertEquals(1, first.join().value());
+    }
+
+    @Test
+    void zeroTtlAlwaysWaitsForFreshResult() {
+        var cache = cache(calls::incrementAndGet, Duration.ZERO);
+
+        assertEquals(1, cache.get().value());
+        assertEquals(2, cache.get().value());
+    }
+
+    @Test
+    void capturesFailure() {
+        var cache = cache(() -> {
+            throw new IllegalStateException("boom");
+        }, Duration.ofSeconds(10));
+
+        var result = cache.get();
+
+        assertNull(result.value());
+        assertInstanceOf(IllegalStateException.class, result.error());
+    }
+
+    @Test
+    void boundsCallByTimeout() {
+        var never = new CountDownLatch(1);
+        var cache = new OjsHealthCache<>(() -> {
+            await(never);
+            return 1;
+        }, Duration.ofSeconds(10), Duration.ofMillis(50));
+
+        assertInstanceOf(TimeoutException.class, cache.get().error());
+        never.countDown();
+    }
+
+    @Test
+    void interruptsCallThatOutlivesTimeout() throws Exception {
+        var interrupted = new CountDownLatch(1);
+        var cache = new OjsHealthCache<>(() -> {
+            try {
+                new CountDownLatch(1).await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return 1;
+        }, Duration.ofSeconds(10), Duration.ofMillis(50));
+
+        assertInstanceOf(TimeoutException.class, cache.get().error());
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    private OjsHealthCache<Integer> cache(java.util.function.Supplier<Integer> call, Duration ttl) {
+        return new OjsHealthCache<>(call, ttl, Duration.ofSeconds(5),
+                task -> CompletableFuture.runAsync(task), clock::get);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
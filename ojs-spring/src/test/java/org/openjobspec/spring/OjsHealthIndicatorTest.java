@@ -7,7 +7,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.openjobspec.ojs.OJSClient;
 import org.openjobspec.ojs.OJSWorker;
 
-import java.util.List;
+import java.time.Duration;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -25,7 +25,6 @@ class OjsHealthIndicatorTest {
     @Test
     void reportsUpWhenServerHealthy() {
         when(client.health()).thenReturn(Map.of("status", "ok"));
-        when(client.listQueues()).thenReturn(List.of());
 
         var indicator = new OjsHealthIndicator(client);
         var health = indicator.health();
@@ -47,7 +46,6 @@ class OjsHealthIndicatorTest {
     @Test
     void includesWorkerDetailsWhenAvailable() {
         when(client.health()).thenReturn(Map.of("status", "ok"));
-        when(client.listQueues()).thenReturn(List.of());
         when(worker.getWorkerId()).thenReturn("worker_abc123");
         when(worker.getState()).thenReturn(OJSWorker.State.RUNNING);
         when(worker.getActiveJobCount()).thenReturn(5);
@@ -79,7 +77,6 @@ class OjsHealthIndicatorTest {
     @Test
     void worksWithoutWorker() {
         when(client.health()).thenReturn(Map.of("status", "ok"));
-        when(client.listQueues()).thenReturn(List.of());
 
         var indicator = new OjsHealthIndicator(client, null);
         var health = indicator.health();
@@ -87,4 +84,38 @@ class OjsHealthIndicatorTest {
         assertEquals("UP", health.getStatus().getCode());
         assertNull(health.getDetails().get("worker"));
     }
+
+    @Test
+    void reusesBackendResultWithinTtl() {
+        when(client.health()).thenReturn(Map.of("status", "ok"));
+
+        var indicator = new OjsHealthIndicator(client, null, Duration.ofMinutes(1), Duration.ofSeconds(1));
+        indicator.health();
+        var health = indicator.health();
+
+        assertEquals("UP", health.getStatus().getCode());
+        verify(client, times(1)).health();
+    }
+
+    @Test
+    void doesNotListQueues() {
+        when(client.health()).thenReturn(Map.of("status", "ok"));
+
+        new OjsHealthIndicator(client).health();
+
+        verify(client, never()).listQueues();
+    }
+
+    @Test
+    void reportsDownWhenServerDoesNotRespondInTime() {
+        when(client.health()).thenAnswer(inv -> {
+            Thread.sleep(2_000);
+            return Map.of("status", "ok");
+        });
+
+        var indicator = new OjsHealthIndicator(client, null, Duration.ofMinutes(1), Duration.ofMillis(50));
+        var health = indicator.health();
+
+        assertEquals("DOWN", health.getStatus().getCode());
+    }
 }
@@ -0,0 +1,127 @@
+package org.openjobspec.spring;
+
+import org.junit.jupiter.api.Test;
+import org.openjobspec.ojs.JobContext;
+import org.springframework.aot.generate.GenerationContext;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.beans.factory.aot.AotServices;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class OjsJobAotProcessorTest {
+
+    private final DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+    @Test
+    void registersHandlerMethodsForInvocation() throws Exception {
+        beanFactory.registerBeanDefinition("methodBean", new RootBeanDefinition(MethodBean.class));
+        beanFactory.registerBeanDefinition("classBean", new RootBeanDefinition(ClassBean.class));
+
+        var hints = applyContribution();
+
+        var method = MethodBean.class.getDeclaredMethod("handle", JobContext.class);
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(method).invoke().test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(ClassBean.class).test(hints));
+    }
+
+    @Test
+    void registersHandlersOfBeansCreatedByFactoryMethods() throws Exception {
+        beanFactory.registerBeanDefinition("jobsConfig", new RootBeanDefinition(JobsConfig.class));
+        beanFactory.registerBeanDefinition("reportJobs", factoryMethodBean("reportJobs"));
+        beanFactory.registerBeanDefinition("methodJobs", factoryMethodBean("methodJobs"));
+
+        var hints = applyContribution();
+
+        var declared = ReportJobs.class.getDeclaredMethod("build", JobContext.class);
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(declared).invoke().test(hints));
+        var concrete = MethodBean.class.getDeclaredMethod("handle", JobContext.class);
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(concrete).invoke().test(hints));
+    }
+
+    @Test
+    void contributesNothingWithoutHandlers() {
+        beanFactory.registerBeanDefinition("plainBean", new RootBeanDefinition(PlainBean.class));
+
+        assertNull(new OjsJobAotProcessor().processAheadOfTime(beanFactory));
+    }
+
+    @Test
+    void rejectsUnsupportedSignatureAtBuildTime() {
+        beanFactory.registerBeanDefinition("badBean", new RootBeanDefinition(BadBean.class));
+
+        var processor = new OjsJobAotProcessor();
+        assertThrows(IllegalStateException.class, () -> processor.processAheadOfTime(beanFactory));
+    }
+
+    @Test
+    void isRegisteredInAotFactories() {
+        var processors = AotServices.factories().load(BeanFactoryInitializationAotProcessor.class);
+
+        assertTrue(processors.asList().stream().anyMatch(OjsJobAotProcessor.class::isInstance));
+    }
+
+    private static RootBeanDefinition factoryMethodBean(String factoryMethodName) {
+        var definition = new RootBeanDefinition();
+        definition.setFactoryBeanName("jobsConfig");
+        definition.setFactoryMethodName(factoryMethodName);
+        return definition;
+    }
+
+    private RuntimeHints applyContribution() {
+        var contribution = new OjsJobAotProcessor().processAheadOfTime(beanFactory);
+        assertNotNull(contribution);
+        var hints = new RuntimeHints();
+        var generationContext = mock(GenerationContext.class);
+        when(generationContext.getRuntimeHints()).thenReturn(hints);
+        contribution.applyTo(generationContext, null);
+        return hints;
+    }
+
+    // --- Test beans ---
+
+    static class MethodBean {
+        @OjsJob("test.method")
+        public Object handle(JobContext ctx) {
+            return null;
+        }
+    }
+
+    @OjsJob(type = "test.class")
+    static class ClassBean implements OjsJobHandler {
+        @Override
+        public Object execute(OjsJobContext ctx) {
+            return null;
+        }
+    }
+
+    static class BadBean {
+        @OjsJob("test.bad")
+        public Object handle(String arg) {
+            return null;
+        }
+    }
+
+    static class PlainBean {
+        public void doSomething() {}
+    }
+
+    interface ReportJobs {
+        @OjsJob("test.report")
+        Object build(JobContext ctx);
+    }
+
+    static class JobsConfig {
+        public ReportJobs reportJobs() {
+            return ctx -> null;
+        }
+
+        public MethodBean methodJobs() {
+            return new MethodBean();
+        }
+    }
+}
@@ -88,4 +88,59 @@ class OjsJobEventTest {
         assertTrue(str.contains("job.completed"));
         assertTrue(str.contains("job-42"));
     }
+
+    @Test
+    void decodesJsonPayloadOnce() {
+        var event = OjsJobEvent.fromJson(this, "job.completed", "job-1",
+                "{\"type\":\"job.completed\",\"subject\":\"job-1\",\"data\":{\"result\":42}}");
+
+        var data = event.getData();
+
+        assertEquals("job.completed", data.get("type"));
+        assertSame(data, event.getData());
+        assertEquals("{\"type\":\"job.completed\",\"subject\":\"job-1\",\"data\":{\"result\":42}}",
+                event.getRawData());
+    }
+
+    @Test
+    void exposesTypedEvent() {
+        var event = OjsJobEvent.fromJson(this, "job.completed", "job-1",
+                "{\"type\":\"job.completed\",\"subject\":\"job-1\"}");
+
+        var typed = event.getEvent();
+
+        assertNotNull(typed);
+        assertEquals("job.completed", typed.type());
+        assertSame(typed, event.getEvent());
+    }
+
+    @Test
+    void nonJsonPayloadExposedRaw() {
+        var event = OjsJobEvent.fromJson(this, "job.completed", "job-1", "not json");
+
+        assertEquals(Map.of("raw", "not json"), event.getData());
+        assertNull(event.getEvent());
+    }
+
+    @Test
+    void skipsDecodingWhenDisabled() {
+        var event = OjsJobEvent.fromJson(this, "job.completed", "job-1", "{\"type\":\"job.completed\"}", false);
+
+        assertEquals(Map.of("raw", "{\"type\":\"job.completed\"}"), event.getData());
+        assertNull(event.getEvent());
+    }
+
+    @Test
+    void toStringDoesNotDecode() {
+        var event = OjsJobEvent.fromJson(this, "job.completed", "job-1", "{\"k\":\"v\"}");
+
+        assertTrue(event.toString().contains("{\"k\":\"v\"}"));
+    }
+
+    @Test
+    void missingJsonBecomesEmptyMap() {
+        var event = OjsJobEvent.fromJson(this, "job.completed", "job-1", null);
+
+        assertTrue(event.getData().isEmpty());
+    }
 }
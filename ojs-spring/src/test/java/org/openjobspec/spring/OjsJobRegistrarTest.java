@@ -29,6 +29,18 @@ class OjsJobRegistrarTest {
         verify(worker).register(eq("test.method"), any(JobHandler.class));
     }
 
+    @Test
+    void registersMethodsAnnotatedOnInterfaces() {
+        var registrar = new OjsJobRegistrar(worker);
+
+        registrar.postProcessAfterInitialization((InterfaceJobs) ctx -> null, "interfaceJobs");
+        registrar.postProcessAfterInitialization(new OverridingJobs(), "overridingJobs");
+
+        verify(worker).register(eq("test.interface"), any(JobHandler.class));
+        verify(worker).register(eq("test.override"), any(JobHandler.class));
+        verifyNoMoreInteractions(worker);
+    }
+
     @Test
     void registersClassLevelAnnotationWithHandler() {
         var registrar = new OjsJobRegistrar(worker);
@@ -65,6 +77,25 @@ class OjsJobRegistrarTest {
         assertSame(bean, result);
     }
 
+    @Test
+    void appliesMaxConcurrencyToLimiter() {
+        var limiter = mock(OjsConcurrencyLimiter.class);
+        var registrar = new OjsJobRegistrar(worker, limiter);
+
+        registrar.postProcessAfterInitialization(new LimitedBean(), "limitedBean");
+
+        verify(limiter).limitType("test.limited", 3);
+        verify(worker).register(eq("test.limited"), any(JobHandler.class));
+    }
+
+    @Test
+    void maxConcurrencyRequiresLimiter() {
+        var registrar = new OjsJobRegistrar(worker);
+
+        assertThrows(IllegalStateException.class,
+                () -> registrar.postProcessAfterInitialization(new LimitedBean(), "limitedBean"));
+    }
+
     // --- Test beans ---
 
     static class MethodLevelBean {
@@ -82,7 +113,27 @@ class OjsJobRegistrarTest {
         }
     }
 
+    static class LimitedBean {
+        @OjsJob(value = "test.limited", maxConcurrency = 3)
+        public Object handle(org.openjobspec.ojs.JobContext ctx) {
+            return null;
+        }
+    }
+
     static class PlainBean {
         public void doSomething() {}
     }
+
+    interface InterfaceJobs {
+        @OjsJob("test.interface")
+        Object handle(org.openjobspec.ojs.JobContext ctx);
+    }
+
+    static class OverridingJobs implements InterfaceJobs {
+        @Override
+        @OjsJob("test.override")
+        public Object handle(org.openjobspec.ojs.JobContext ctx) {
+            return null;
+        }
+    }
 }
@@ -0,0 +1,39 @@
+package org.openjobspec.spring;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OjsJsonTest {
+
+    @Test
+    void encodesNestedValues() {
+        var args = new LinkedHashMap<String, Object>();
+        args.put("to", "user@example.com");
+        args.put("count", 3);
+        args.put("urgent", true);
+        args.put("tags", List.of("a", "b"));
+        args.put("extra", null);
+        args.put("nested", Map.of("ratio", 0.5));
+
+        assertEquals("{\"to\":\"user@example.com\",\"count\":3,\"urgent\":true,\"tags\":[\"a\",\"b\"],"
+                + "\"extra\":null,\"nested\":{\"ratio\":0.5}}", OjsJson.encode(args));
+    }
+
+    @Test
+    void escapesStrings() {
+        assertEquals("\"line\\nquote\\\"back\\\\slash\\u0001\"", OjsJson.encode("line\nquote\"back\\slash\u0001"));
+    }
+
+    @Test
+    void rejectsUnsupportedValues() {
+        assertThrows(IllegalArgumentException.class, () -> OjsJson.encode(new Object()));
+        assertThrows(IllegalArgumentException.class, () -> OjsJson.encode(Double.NaN));
+        assertEquals("[1,2]", OjsJson.encode(Arrays.asList(1, 2).toArray()));
+    }
+}
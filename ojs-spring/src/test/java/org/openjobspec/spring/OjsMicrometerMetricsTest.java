@@ -1,14 +1,23 @@
 package org.openjobspec.spring;
 
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MockClock;
+import io.micrometer.core.instrument.simple.SimpleConfig;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.openjobspec.common.OjsEventDispatcher;
+import org.openjobspec.common.OjsPinningMonitor;
 import org.openjobspec.ojs.Job;
 import org.openjobspec.ojs.JobContext;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -79,6 +88,163 @@ class OjsMicrometerMetricsTest {
         assertEquals(0.0, activeGauge.value());
     }
 
+    @Test
+    void recordsBatchFlushMetrics() {
+        metrics.recordBatchFlush(25, java.time.Duration.ofMillis(4), true);
+        metrics.recordBatchFlush(10, java.time.Duration.ofMillis(9), false);
+
+        var size = registry.find("ojs.enqueue.batch.size").summary();
+        assertNotNull(size);
+        assertEquals(2, size.count());
+        assertEquals(35.0, size.totalAmount());
+
+        var success = registry.find("ojs.enqueue.batch.duration").tag("outcome", "success").timer();
+        var failure = registry.find("ojs.enqueue.batch.duration").tag("outcome", "failure").timer();
+        assertEquals(1, success.count());
+        assertEquals(1, failure.count());
+    }
+
+    @Test
+    void reusesMetersPerJobType() throws Exception {
+        var ctx = createJobContext("email.send");
+
+        metrics.apply(ctx, innerCtx -> null);
+        var meterCount = registry.getMeters().size();
+        metrics.apply(ctx, innerCtx -> null);
+
+        assertEquals(meterCount, registry.getMeters().size());
+        assertEquals(1, metrics.trackedJobTypes());
+        assertEquals(2, registry.find("ojs.jobs.duration").tag("type", "email.send").timer().count());
+    }
+
+    @Test
+    void limitsJobTypeCardinality() throws Exception {
+        metrics = new OjsMicrometerMetrics(registry, 2);
+
+        for (var type : List.of("a", "b", "c", "d")) {
+            metrics.apply(createJobContext(type), innerCtx -> null);
+        }
+
+        assertEquals(2, metrics.trackedJobTypes());
+        assertNull(registry.find("ojs.jobs.completed").tag("type", "c").counter());
+        var overflow = registry.find("ojs.jobs.completed").tag("type", OjsMicrometerMetrics.OVERFLOW_TYPE).counter();
+        assertNotNull(overflow);
+        assertEquals(2.0, overflow.count());
+    }
+
+    @Test
+    void limitsQueueCardinality() throws Exception {
+        metrics = new OjsMicrometerMetrics(registry, 2);
+        long now = registry.config().clock().wallTime();
+
+        for (var queue : List.of("a", "b", "c", "d")) {
+            metrics.apply(createJobContext(queue, null, now - 100), innerCtx -> null);
+        }
+
+        assertEquals(2, metrics.trackedQueues());
+        assertNull(registry.find("ojs.jobs.queue.latency").tag("queue", "c").timer());
+        var overflow = registry.find("ojs.jobs.queue.latency").tag("queue", OjsMicrometerMetrics.OVERFLOW_QUEUE).timer();
+        assertNotNull(overflow);
+        assertEquals(2, overflow.count());
+    }
+
+    @Test
+    void bindsEventDispatcherMeters() {
+        var dispatcher = new OjsEventDispatcher<String>("test-events", 1,
+                OjsEventDispatcher.OverflowPolicy.DROP_NEWEST, event -> {}, event -> null);
+        metrics.bindEventDispatcher(dispatcher);
+
+        assertEquals(0.0, registry.find("ojs.events.queue.depth").gauge().value());
+        assertEquals(0.0, registry.find("ojs.events.dropped").functionCounter().count());
+        dispatcher.close();
+    }
+
+    @Test
+    void bindsPinningMonitor() throws Exception {
+        var monitor = mock(OjsPinningMonitor.class);
+        metrics.bindPinningMonitor(monitor);
+        metrics.apply(createJobContext("email.send"), ctx -> null);
+
+        pinListenerOf(monitor).accept("email.send", Duration.ofMillis(40));
+
+        var timer = registry.find("ojs.worker.pinned").tag("type", "email.send").timer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+        assertEquals(40.0, timer.totalTime(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void cachesPinningTimersWithinJobTypeLimit() throws Exception {
+        metrics = new OjsMicrometerMetrics(registry, 1);
+        var monitor = mock(OjsPinningMonitor.class);
+        metrics.bindPinningMonitor(monitor);
+        var listener = pinListenerOf(monitor);
+
+        listener.accept("email.send", Duration.ofMillis(40));
+        listener.accept("email.send", Duration.ofMillis(10));
+        listener.accept("report.build", Duration.ofMillis(30));
+
+        assertEquals(2, registry.find("ojs.worker.pinned").tag("type", "email.send").timer().count());
+        assertEquals(1, registry.find("ojs.worker.pinned").tag("type", "other").timer().count());
+        assertEquals(2, registry.find("ojs.worker.pinned").timers().size());
+    }
+
+    @Test
+    void recordsQueueLatency() throws Exception {
+        var clock = new MockClock();
+        clock.add(Duration.ofHours(1));
+        registry = new SimpleMeterRegistry(SimpleConfig.DEFAULT, clock);
+        metrics = new OjsMicrometerMetrics(registry);
+        long now = clock.wallTime();
+
+        metrics.apply(createJobContext("payments", null, now - 5000), ctx -> null);
+        metrics.apply(createJobContext("payments", now - 1000, now - 8000), ctx -> null);
+
+        var latency = registry.find("ojs.jobs.queue.latency").tag("queue", "payments").timer();
+        assertEquals(2, latency.count());
+        assertEquals(5000.0, latency.max(TimeUnit.MILLISECONDS));
+        assertEquals(6000.0, latency.totalTime(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void clampsLatencyFromSkewedClocksAndSkipsMissingTimestamps() throws Exception {
+        long now = registry.config().clock().wallTime();
+
+        metrics.apply(createJobContext("default", null, now + 60_000), ctx -> null);
+        metrics.apply(createJobContext("default", null, null), ctx -> null);
+
+        var latency = registry.find("ojs.jobs.queue.latency").tag("queue", "default").timer();
+        assertEquals(1, latency.count());
+        assertEquals(0.0, latency.totalTime(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void publishesFreeWorkerSlots() throws Exception {
+        metrics.bindWorkerSlots(10);
+        var slots = registry.find("ojs.worker.slots.free").gauge();
+        assertEquals(10.0, slots.value());
+
+        metrics.apply(createJobContext("test.job"), ctx -> {
+            assertEquals(9.0, slots.value());
+            return null;
+        });
+
+        assertEquals(10.0, slots.value());
+    }
+
+    private static JobContext createJobContext(String queue, Long scheduledAt, Long enqueuedAt) {
+        var job = new Job(Job.SPEC_VERSION, "test-id", "test.job", queue,
+                List.of(), Map.of(), 0, 0, timestamp(scheduledAt), null, null, null, null,
+                "active", 1, null, timestamp(enqueuedAt), null, null, null, null, List.of());
+        var ctx = mock(JobContext.class);
+        when(ctx.job()).thenReturn(job);
+        return ctx;
+    }
+
+    private static String timestamp(Long epochMillis) {
+        return epochMillis == null ? null : Instant.ofEpochMilli(epochMillis).toString();
+    }
+
     private static JobContext createJobContext(String jobType) {
         var job = new Job(Job.SPEC_VERSION, "test-id", jobType, "default",
                 List.of(), Map.of(), 0, 0, null, null, null, null, null,
@@ -87,4 +253,11 @@ class OjsMicrometerMetricsTest {
         when(ctx.job()).thenReturn(job);
         return ctx;
     }
+
+    @SuppressWarnings("unchecked")
+    private static BiConsumer<String, Duration> pinListenerOf(OjsPinningMonitor monitor) {
+        ArgumentCaptor<BiConsumer<String, Duration>> listener = ArgumentCaptor.forClass(BiConsumer.class);
+        verify(monitor).setListener(listener.capture());
+        return listener.getValue();
+    }
 }
@@ -0,0 +1,167 @@
+package org.openjobspec.spring;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.openjobspec.ojs.OJSClient;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OjsOutboxRelayTest {
+
+    @Mock
+    OJSClient client;
+
+    private EmbeddedDatabase db;
+    private JdbcTemplate jdbc;
+    private OjsOutbox outbox;
+    private TransactionTemplate tx;
+
+    @BeforeEach
+    void setUp() {
+        db = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .addScript(OjsOutbox.SCHEMA_LOCATION)
+                .build();
+        jdbc = new JdbcTemplate(db);
+        outbox = new OjsOutbox(jdbc, "ojs_outbox");
+        tx = new TransactionTemplate(new DataSourceTransactionManager(db));
+    }
+
+    @AfterEach
+    void tearDown() {
+        db.shutdown();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void relaysRowsInBatchesWithIdempotencyKeys() {
+        var first = outbox.add("email.send", "emails", Map.of("to", "a@example.com"));
+        outbox.add("email.send", null, Map.of("to", "b@example.com"));
+        outbox.add("order.process", null, Map.of("orderId", "42"));
+        var relay = new OjsOutboxRelay(client, outbox, tx, 2, Duration.ofSeconds(1));
+
+        assertEquals(3, relay.drain());
+
+        ArgumentCaptor<List<Map<String, Object>>> captor = ArgumentCaptor.forClass(List.class);
+        verify(client, times(2)).enqueueBatch(captor.capture());
+        var firstBatch = captor.getAllValues().getFirst();
+        assertEquals(2, firstBatch.size());
+        var request = firstBatch.getFirst();
+        assertEquals("email.send", request.get("type"));
+        assertEquals(List.of(Map.of("to", "a@example.com")), request.get("args"));
+        assertEquals(Map.of("queue", "emails"), request.get("options"));
+        assertEquals(Map.of("idempotency_key", first), request.get("meta"));
+        assertEquals(1, captor.getAllValues().get(1).size());
+        assertEquals(0, count());
+    }
+
+    @Test
+    void keepsRowsWhenEnqueueFails() {
+        var id = outbox.add("email.send", null, Map.of());
+        when(client.enqueueBatch(anyList())).thenThrow(new RuntimeException("Connection refused"));
+        var relay = new OjsOutboxRelay(client, outbox, tx, 10, Duration.ofSeconds(1));
+
+        assertEquals(0, relay.drain());
+        assertEquals(1, count());
+        var row = jdbc.queryForMap("SELECT * FROM ojs_outbox WHERE id = ?", id);
+        assertEquals(1, row.get("ATTEMPTS"));
+        assertEquals(OjsOutbox.STATUS_PENDING, row.get("STATUS"));
+        assertTrue(row.get("LAST_ERROR").toString().contains("Connection refused"));
+
+        // Backing off: not due again on the next poll
+        assertEquals(0, relay.drain());
+        verify(client, times(1)).enqueueBatch(anyList());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void relaysRestOfBatchAroundRejectedRow() {
+        outbox.add("email.send", null, Map.of("to", "a@example.com"));
+        var bad = outbox.add("no.such.type", null, Map.of());
+        outbox.add("email.send", null, Map.of("to", "b@example.com"));
+        when(client.enqueueBatch(anyList())).thenAnswer(invocation -> {
+            List<Map<String, Object>> requests = invocation.getArgument(0);
+            if (requests.stream().anyMatch(request -> "no.such.type".equals(request.get("type")))) {
+                throw new IllegalArgumentException("Unknown job type");
+            }
+            return List.of();
+        });
+        var relay = new OjsOutboxRelay(client, outbox, tx, 10, Duration.ofSeconds(1));
+
+        assertEquals(2, relay.drain());
+
+        assertEquals(1, count());
+        var row = jdbc.queryForMap("SELECT * FROM ojs_outbox WHERE id = ?", bad);
+        assertEquals(1, row.get("ATTEMPTS"));
+        assertTrue(row.get("LAST_ERROR").toString().contains("Unknown job type"));
+    }
+
+    @Test
+    void marksRowDeadAfterMaxAttempts() {
+        var id = outbox.add("no.such.type", null, Map.of());
+        when(client.enqueueBatch(anyList())).thenThrow(new IllegalArgumentException("Unknown job type"));
+        var relay = new OjsOutboxRelay(client, outbox, tx, 10, Duration.ZERO, 2);
+
+        relay.drain();
+        relay.drain();
+        relay.drain();
+
+        verify(client, times(2)).enqueueBatch(anyList());
+        var row = jdbc.queryForMap("SELECT * FROM ojs_outbox WHERE id = ?", id);
+        assertEquals(OjsOutbox.STATUS_DEAD, row.get("STATUS"));
+        assertEquals(2, row.get("ATTEMPTS"));
+    }
+
+    @Test
+    void sendsOutsideTheClaimTransaction() {
+        var id = outbox.add("email.send", null, Map.of());
+        when(client.enqueueBatch(anyList())).thenAnswer(invocation -> {
+            assertFalse(TransactionSynchronizationManager.isActualTransactionActive());
+            // The claim is already committed and visible to other connections
+            assertEquals(1, jdbc.queryForObject("SELECT attempts FROM ojs_outbox WHERE id = ?", Integer.class, id));
+            return List.of();
+        });
+        var relay = new OjsOutboxRelay(client, outbox, tx, 10, Duration.ofSeconds(1));
+
+        assertEquals(1, relay.drain());
+        assertEquals(0, count());
+    }
+
+    @Test
+    void emptyOutboxDoesNotCallServer() {
+        var relay = new OjsOutboxRelay(client, outbox, tx, 10, Duration.ofSeconds(1));
+
+        assertEquals(0, relay.drain());
+        verifyNoInteractions(client);
+    }
+
+    @Test
+    void rejectsNonPositiveBatchSize() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new OjsOutboxRelay(client, outbox, tx, 0, Duration.ofSeconds(1)));
+    }
+
+    private int count() {
+        return jdbc.queryForObject("SELECT COUNT(*) FROM ojs_outbox", Integer.class);
+    }
+}
@@ -0,0 +1,89 @@
+package org.openjobspec.spring;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OjsOutboxTest {
+
+    private EmbeddedDatabase db;
+    private JdbcTemplate jdbc;
+    private OjsOutbox outbox;
+
+    @BeforeEach
+    void setUp() {
+        db = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .addScript(OjsOutbox.SCHEMA_LOCATION)
+                .build();
+        jdbc = new JdbcTemplate(db);
+        outbox = new OjsOutbox(jdbc, "ojs_outbox");
+    }
+
+    @AfterEach
+    void tearDown() {
+        db.shutdown();
+    }
+
+    @Test
+    void addsJobRow() {
+        var id = outbox.add("email.send", "emails", Map.of("to", "user@example.com"));
+
+        var row = jdbc.queryForMap("SELECT * FROM ojs_outbox WHERE id = ?", id);
+        assertEquals("email.send", row.get("JOB_TYPE"));
+        assertEquals("emails", row.get("QUEUE"));
+        assertEquals("{\"to\":\"user@example.com\"}", row.get("ARGS").toString());
+        assertNotNull(row.get("CREATED_AT"));
+        assertEquals(OjsOutbox.STATUS_PENDING, row.get("STATUS"));
+        assertEquals(0, row.get("ATTEMPTS"));
+        assertEquals(row.get("CREATED_AT"), row.get("NEXT_ATTEMPT_AT"));
+    }
+
+    @Test
+    void initializesSchemaUnderConfiguredTableName() {
+        var custom = new OjsOutbox(jdbc, "app_jobs_outbox");
+
+        assertTrue(custom.initializeSchema());
+        assertFalse(custom.initializeSchema());
+        assertFalse(outbox.initializeSchema());
+
+        var id = custom.add("email.send", null, Map.of());
+        assertEquals(1, jdbc.queryForObject("SELECT COUNT(*) FROM app_jobs_outbox WHERE id = ?", Integer.class, id));
+    }
+
+    @Test
+    void joinsCallerTransaction() {
+        var tx = new TransactionTemplate(new DataSourceTransactionManager(db));
+
+        tx.executeWithoutResult(status -> {
+            outbox.add("email.send", null, Map.of());
+            status.setRollbackOnly();
+        });
+        assertEquals(0, count());
+
+        tx.executeWithoutResult(status -> outbox.add("email.send", null, Map.of()));
+        assertEquals(1, count());
+    }
+
+    @Test
+    void rejectsInvalidTableName() {
+        assertThrows(IllegalArgumentException.class, () -> new OjsOutbox(jdbc, "ojs_outbox; DROP TABLE x"));
+        assertDoesNotThrow(() -> new OjsOutbox(jdbc, "app.ojs_outbox"));
+    }
+
+    private int count() {
+        return jdbc.queryForObject("SELECT COUNT(*) FROM ojs_outbox", Integer.class);
+    }
+}
@@ -1,6 +1,7 @@
 package org.openjobspec.spring;
 
 import org.junit.jupiter.api.Test;
+import org.openjobspec.common.OjsEventDispatcher;
 
 import java.util.List;
 
@@ -37,6 +38,16 @@ class OjsPropertiesTest {
         assertEquals(20, props.resolvedConcurrency());
     }
 
+    @Test
+    void resolvedConcurrencyUsesMaxInFlightForVirtualThreads() {
+        var props = new OjsProperties();
+        props.getWorker().setConcurrency(32);
+        props.getWorker().setExecution(OjsProperties.Worker.Execution.VIRTUAL_THREADS);
+        props.getWorker().setMaxInFlight(2000);
+
+        assertEquals(2000, props.resolvedConcurrency());
+    }
+
     @Test
     void resolvedQueuesPrefersNestedWorker() {
         var props = new OjsProperties();
@@ -71,6 +82,74 @@ class OjsPropertiesTest {
         assertEquals("fixed", props.getRetry().getBackoff());
     }
 
+    @Test
+    void enqueueBatchingDefaults() {
+        var batching = new OjsProperties().getEnqueue().getBatching();
+        assertFalse(batching.isEnabled());
+        assertEquals(100, batching.getMaxBatchSize());
+        assertEquals(java.time.Duration.ofMillis(10), batching.getLinger());
+        assertEquals(10_000, batching.getMaxPending());
+    }
+
+    @Test
+    void httpDefaults() {
+        var http = new OjsProperties().getHttp();
+        assertEquals(java.net.http.HttpClient.Version.HTTP_1_1, http.getVersion());
+        assertEquals(java.time.Duration.ofSeconds(5), http.getConnectTimeout());
+    }
+
+    @Test
+    void healthDefaults() {
+        var health = new OjsProperties().getHealth();
+        assertEquals(java.time.Duration.ofSeconds(10), health.getCacheTtl());
+        assertEquals(java.time.Duration.ofSeconds(3), health.getTimeout());
+    }
+
+    @Test
+    void asyncDefaults() {
+        var async = new OjsProperties().getAsync();
+        assertEquals(256, async.getMaxInFlight());
+        assertTrue(async.isVirtualThreads());
+        assertEquals(16, async.getPoolSize());
+    }
+
+    @Test
+    void reactiveDefaults() {
+        var reactive = new OjsProperties().getReactive();
+        assertEquals(100, reactive.getMaxBatchSize());
+        assertEquals(java.time.Duration.ofMillis(10), reactive.getLinger());
+    }
+
+    @Test
+    void metricsDefaults() {
+        assertEquals(1000, new OjsProperties().getMetrics().getMaxJobTypes());
+    }
+
+    @Test
+    void eventDispatchDefaults() {
+        var events = new OjsProperties().getEvents();
+        assertEquals(OjsEventDispatcher.DEFAULT_CAPACITY, events.getQueueCapacity());
+        assertEquals(OjsEventDispatcher.OverflowPolicy.BLOCK, events.getOverflowPolicy());
+    }
+
+    @Test
+    void eventReconnectDefaults() {
+        var reconnect = new OjsProperties().getEvents().toReconnect();
+        assertEquals(java.time.Duration.ofMillis(500), reconnect.initialBackoff());
+        assertEquals(java.time.Duration.ofSeconds(30), reconnect.maxBackoff());
+        assertEquals(1024, reconnect.dedupeWindow());
+    }
+
+    @Test
+    void eventFilterDefaultsToAllEvents() {
+        var events = new OjsProperties().getEvents();
+        assertTrue(events.getTypePrefixes().isEmpty());
+        assertTrue(events.getQueues().isEmpty());
+        assertTrue(events.getJobTypes().isEmpty());
+        assertTrue(events.toFilter().mayAccept("job.completed"));
+        assertFalse(events.toFilter().needsPayload("job.completed"));
+    }
+
     @Test
     void settersWork() {
         var props = new OjsProperties();
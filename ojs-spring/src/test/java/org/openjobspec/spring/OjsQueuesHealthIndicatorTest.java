@@ -0,0 +1,52 @@
+package org.openjobspec.spring;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.openjobspec.ojs.OJSClient;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OjsQueuesHealthIndicatorTest {
+
+    @Mock
+    OJSClient client;
+
+    @Test
+    void reportsQueueDepths() {
+        var queues = List.of(Map.<String, Object>of("name", "default", "depth", 42));
+        doReturn(queues).when(client).listQueues();
+
+        var health = new OjsQueuesHealthIndicator(client).health();
+
+        assertEquals("UP", health.getStatus().getCode());
+        assertEquals(queues, health.getDetails().get("queues"));
+    }
+
+    @Test
+    void reportsUnknownWhenListingFails() {
+        when(client.listQueues()).thenThrow(new RuntimeException("Connection refused"));
+
+        var health = new OjsQueuesHealthIndicator(client).health();
+
+        assertEquals("UNKNOWN", health.getStatus().getCode());
+    }
+
+    @Test
+    void reusesListingWithinTtl() {
+        doReturn(List.of()).when(client).listQueues();
+
+        var indicator = new OjsQueuesHealthIndicator(client, Duration.ofMinutes(1), Duration.ofSeconds(1));
+        indicator.health();
+        indicator.health();
+
+        verify(client, times(1)).listQueues();
+    }
+}
@@ -0,0 +1,32 @@
+package org.openjobspec.spring;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OjsRuntimeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @Test
+    void registersEncryptionMiddlewareForReflection() {
+        new OjsRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        var reflection = RuntimeHintsPredicates.reflection();
+        assertTrue(reflection.onType(TypeReference.of(OjsRuntimeHints.ENCRYPTION_MIDDLEWARE))
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_METHODS).test(hints));
+        assertTrue(reflection.onType(TypeReference.of(OjsRuntimeHints.ENCRYPTION_MIDDLEWARE + "$StaticKeyProvider"))
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS).test(hints));
+    }
+
+    @Test
+    void registersOutboxSchema() {
+        new OjsRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        assertTrue(RuntimeHintsPredicates.resource().forResource(OjsOutbox.SCHEMA_LOCATION).test(hints));
+    }
+}
@@ -2,15 +2,19 @@ package org.openjobspec.spring;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.openjobspec.ojs.Job;
 import org.openjobspec.ojs.OJSClient;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -66,6 +70,43 @@ class OjsTemplateTest {
         assertEquals(expectedHealth, result);
     }
 
+    @Test
+    void enqueueBatchedRoutesThroughBatcher() throws Exception {
+        var template = new OjsTemplate(client, "default");
+        var expectedJob = createTestJob("job-789");
+        when(client.enqueueBatch(anyList())).thenReturn(List.of(expectedJob));
+        var batcher = new OjsEnqueueBatcher(client, 1, Duration.ofMinutes(1));
+        var batching = new OjsTemplate(client, "default", batcher);
+
+        assertFalse(template.isBatching());
+        assertTrue(batching.isBatching());
+        assertEquals(expectedJob, batching.enqueueBatched("email.send", Map.of("to", "a@b.com"))
+                .get(5, TimeUnit.SECONDS));
+        batcher.close();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void enqueueBatchedSendsArgsAsTheSdkDoes() throws Exception {
+        var args = Map.<String, Object>of("to", "a@b.com");
+        when(client.enqueueBatch(anyList())).thenReturn(List.of(createTestJob("job-1")));
+        var batcher = new OjsEnqueueBatcher(client, 1, Duration.ofMinutes(1));
+
+        new OjsTemplate(client, "default", batcher).enqueueBatched("email.send", "mail", args)
+                .get(5, TimeUnit.SECONDS);
+        batcher.close();
+
+        var captor = ArgumentCaptor.<List<Map<String, Object>>>captor();
+        verify(client).enqueueBatch(captor.capture());
+        var request = captor.getValue().get(0);
+        assertEquals(List.of(args), request.get("args"));
+        assertEquals(Map.of("queue", "mail"), request.get("options"));
+        var job = new Job(Job.SPEC_VERSION, "job-1", "email.send", "mail",
+                (List<Object>) request.get("args"), Map.of(), 0, 0, null, null, null, null, null,
+                "available", 0, null, null, null, null, null, null, List.of());
+        assertEquals(args, job.argsMap());
+    }
+
     @Test
     void getClientReturnsUnderlying() {
         var template = new OjsTemplate(client, "default");
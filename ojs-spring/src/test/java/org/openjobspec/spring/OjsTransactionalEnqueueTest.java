@@ -6,12 +6,21 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.openjobspec.ojs.OJSClient;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -24,7 +33,7 @@ class OjsTransactionalEnqueueTest {
     void enqueuesImmediatelyWithoutTransaction() {
         var enqueue = new OjsTransactionalEnqueue(client);
         enqueue.afterCommit("email.send", Map.of("to", "user@example.com"));
-        verify(client).enqueue("email.send", Map.of("to", "user@example.com"));
+        verify(client).enqueueBatch(batchOf("email.send", Map.of("to", "user@example.com")));
     }
 
     @Test
@@ -36,16 +45,176 @@ class OjsTransactionalEnqueueTest {
             enqueue.afterCommit("email.send", Map.of("to", "user@example.com"));
 
             // Not yet enqueued
-            verify(client, never()).enqueue(anyString(), anyMap());
+            verifyNoInteractions(client);
 
             // Simulate commit
             var syncs = TransactionSynchronizationManager.getSynchronizations();
             assertEquals(1, syncs.size());
             syncs.getFirst().afterCommit();
 
-            verify(client).enqueue("email.send", Map.of("to", "user@example.com"));
+            verify(client).enqueueBatch(batchOf("email.send", Map.of("to", "user@example.com")));
         } finally {
             TransactionSynchronizationManager.clearSynchronization();
         }
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void batchesJobsOfOneTransaction() {
+        var enqueue = new OjsTransactionalEnqueue(client);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            enqueue.afterCommit("email.send", Map.of("to", "a@example.com"));
+            enqueue.afterCommit("email.send", Map.of("to", "b@example.com"));
+            enqueue.afterCommit("order.process", Map.of("orderId", "42"));
+
+            var syncs = TransactionSynchronizationManager.getSynchronizations();
+            assertEquals(1, syncs.size());
+            syncs.getFirst().afterCommit();
+            syncs.getFirst().afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+
+            ArgumentCaptor<List<Map<String, Object>>> captor = ArgumentCaptor.forClass(List.class);
+            verify(client).enqueueBatch(captor.capture());
+            var requests = captor.getValue();
+            assertEquals(3, requests.size());
+            assertEquals("order.process", requests.get(2).get("type"));
+            assertEquals(List.of(Map.of("orderId", "42")), requests.get(2).get("args"));
+            assertFalse(TransactionSynchronizationManager.hasResource(enqueue));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void discardsJobsOnRollback() {
+        var enqueue = new OjsTransactionalEnqueue(client);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            enqueue.afterCommit("email.send", Map.of("to", "user@example.com"));
+
+            TransactionSynchronizationManager.getSynchronizations().getFirst()
+                    .afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+            verifyNoInteractions(client);
+            assertFalse(TransactionSynchronizationManager.hasResource(enqueue));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void flushesOnExecutorWhenAsync() {
+        var tasks = new ArrayList<Runnable>();
+        Executor executor = tasks::add;
+        var enqueue = new OjsTransactionalEnqueue(client, executor);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            enqueue.afterCommit("email.send", Map.of("to", "user@example.com"));
+            TransactionSynchronizationManager.getSynchronizations().getFirst().afterCommit();
+
+            verifyNoInteractions(client);
+            assertEquals(1, tasks.size());
+            tasks.getFirst().run();
+
+            verify(client).enqueueBatch(batchOf("email.send", Map.of("to", "user@example.com")));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void sendsJobsOfRequiresNewTransactionWhenItCommits() {
+        var db = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        try {
+            var txManager = new DataSourceTransactionManager(db);
+            var outer = new TransactionTemplate(txManager);
+            var inner = new TransactionTemplate(txManager);
+            inner.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            var enqueue = new OjsTransactionalEnqueue(client);
+
+            assertThrows(IllegalStateException.class, () -> outer.executeWithoutResult(status -> {
+                enqueue.afterCommit("order.process", Map.of("orderId", "1"));
+                inner.executeWithoutResult(innerStatus ->
+                        enqueue.afterCommit("audit.write", Map.of("orderId", "1")));
+
+                verify(client).enqueueBatch(batchOf("audit.write", Map.of("orderId", "1")));
+                enqueue.afterCommit("order.notify", Map.of("orderId", "1"));
+                throw new IllegalStateException("roll back the outer transaction");
+            }));
+
+            verifyNoMoreInteractions(client);
+            assertFalse(TransactionSynchronizationManager.hasResource(enqueue));
+        } finally {
+            db.shutdown();
+        }
+    }
+
+    @Test
+    void reportsFailedAsyncFlush() {
+        var tasks = new ArrayList<Runnable>();
+        Executor executor = tasks::add;
+        var enqueue = new OjsTransactionalEnqueue(client, executor);
+        var failed = new ArrayList<List<Map<String, Object>>>();
+        enqueue.setFailureListener((requests, error) -> failed.add(requests));
+        when(client.enqueueBatch(anyList())).thenThrow(new RuntimeException("Connection refused"));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            enqueue.afterCommit("email.send", Map.of("to", "a@example.com"));
+            enqueue.afterCommit("order.process", Map.of("orderId", "42"));
+            TransactionSynchronizationManager.getSynchronizations().getFirst().afterCommit();
+
+            tasks.getFirst().run();
+
+            assertEquals(2, enqueue.getFailedCount());
+            assertEquals(1, failed.size());
+            assertEquals(2, failed.getFirst().size());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void throwsFailedFlushToCommittingCaller() {
+        var enqueue = new OjsTransactionalEnqueue(client);
+        when(client.enqueueBatch(anyList())).thenThrow(new RuntimeException("Connection refused"));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            enqueue.afterCommit("email.send", Map.of("to", "a@example.com"));
+            var sync = TransactionSynchronizationManager.getSynchronizations().getFirst();
+
+            assertThrows(RuntimeException.class, sync::afterCommit);
+            assertEquals(1, enqueue.getFailedCount());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void writesToOutboxInOutboxMode() {
+        var outbox = mock(OjsOutbox.class);
+        var enqueue = new OjsTransactionalEnqueue(client, outbox);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            enqueue.afterCommit("email.send", Map.of("to", "user@example.com"));
+
+            verify(outbox).add("email.send", null, Map.of("to", "user@example.com"));
+            assertTrue(TransactionSynchronizationManager.getSynchronizations().isEmpty());
+            verifyNoInteractions(client);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static List<Map<String, Object>> batchOf(String type, Map<String, Object> args) {
+        return List.of(OjsJobRequests.wire(type, null, args));
+    }
 }
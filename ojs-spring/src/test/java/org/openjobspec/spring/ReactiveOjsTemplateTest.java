@@ -0,0 +1,109 @@
+package org.openjobspec.spring;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.openjobspec.ojs.Job;
+import org.openjobspec.ojs.OJSClient;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveOjsTemplateTest {
+
+    @Mock
+    OJSClient client;
+
+    OjsAsyncTemplate async;
+
+    @BeforeEach
+    void setUp() {
+        async = new OjsAsyncTemplate(new OjsTemplate(client, "default"), 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        async.close();
+    }
+
+    @Test
+    void enqueueIsLazy() {
+        var expectedJob = createTestJob("job-1");
+        when(client.enqueue("email.send", Map.of("to", "user@test.com"))).thenReturn(expectedJob);
+        var reactive = new ReactiveOjsTemplate(async, 10, Duration.ofMillis(10));
+
+        var mono = reactive.enqueue("email.send", Map.of("to", "user@test.com"));
+        verifyNoInteractions(client);
+
+        StepVerifier.create(mono)
+                .expectNext(expectedJob)
+                .verifyComplete();
+    }
+
+    @Test
+    void getJobPropagatesErrors() {
+        when(client.getJob("job-1")).thenThrow(new RuntimeException("Connection refused"));
+        var reactive = new ReactiveOjsTemplate(async, 10, Duration.ofMillis(10));
+
+        StepVerifier.create(reactive.getJob("job-1"))
+                .expectErrorMessage("Connection refused")
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void enqueueAllGroupsElementsIntoBatches() {
+        when(client.enqueueBatch(anyList())).thenAnswer(inv -> {
+            List<Map<String, Object>> requests = inv.getArgument(0);
+            return requests.stream()
+                    .map(r -> createTestJob("job-" + ((List<Map<String, Object>>) r.get("args")).get(0).get("n")))
+                    .toList();
+        });
+        var reactive = new ReactiveOjsTemplate(async, 3, Duration.ofSeconds(5));
+
+        var args = Flux.fromStream(IntStream.range(0, 7).mapToObj(i -> Map.<String, Object>of("n", i)));
+
+        StepVerifier.create(reactive.enqueueAll("order.index", args).map(Job::id))
+                .expectNext("job-0", "job-1", "job-2", "job-3", "job-4", "job-5", "job-6")
+                .verifyComplete();
+        verify(client, times(3)).enqueueBatch(anyList());
+    }
+
+    @Test
+    void enqueueAllFlushesPartialBatchAfterLinger() {
+        when(client.enqueueBatch(anyList())).thenReturn(List.of(createTestJob("job-1")));
+        var reactive = new ReactiveOjsTemplate(async, 100, Duration.ofMillis(20));
+
+        var requests = Flux.<Map<String, Object>>just(OjsJobRequests.wire("a", "default", Map.of()))
+                .concatWith(Flux.never());
+
+        StepVerifier.create(reactive.enqueueAll(requests))
+                .expectNextMatches(job -> job.id().equals("job-1"))
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void rejectsNonPositiveBatchSize() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ReactiveOjsTemplate(async, 0, Duration.ofMillis(10)));
+    }
+
+    private static Job createTestJob(String id) {
+        return new Job(Job.SPEC_VERSION, id, "test.job", "default",
+                List.of(), Map.of(), 0, 0, null, null, null, null, null,
+                "available", 0, null, null, null, null, null, null, List.of());
+    }
+}
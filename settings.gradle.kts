@@ -1,8 +1,11 @@
 rootProject.name = "ojs-java-contrib"
 
+include("ojs-common")
 include("ojs-spring")
 include("ojs-quarkus")
+include("ojs-quarkus-deployment")
 include("ojs-micronaut")
+include("ojs-benchmarks")
 
 // Example projects use framework-specific plugins and should be built independently.
 // To build an example: ./gradlew -p ojs-spring/examples build